@@ -0,0 +1,154 @@
+package side.onetime.benchmark;
+
+import side.onetime.domain.enums.Category;
+import side.onetime.dto.event.response.GetMostPossibleTime;
+import side.onetime.util.AvailabilityMatrix;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 합성 이벤트.
+ *
+ * 날짜 수 × 하루 슬롯 수 × 참여자 수 크기의 DATE 이벤트를 고정 시드로 생성합니다.
+ * 참여자는 하루에 한 번, 임의 위치에서 시작하는 연속 구간을 선택하므로
+ * 실제 이벤트처럼 이어지는 시간대와 겹치는 참여자가 만들어집니다.
+ */
+public final class SyntheticEvent {
+
+    public static final String DATE_PATTERN = "yyyy.MM.dd";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
+    private static final LocalDate START_DATE = LocalDate.of(2025, 1, 1);
+
+    private final int days;
+    private final int slotsPerDay;
+    private final int participants;
+    private final List<String> dates;
+    private final List<String> times;
+    private final boolean[][] selected;
+
+    private SyntheticEvent(int days, int slotsPerDay, int participants, long seed) {
+        if (slotsPerDay < 1 || slotsPerDay > 48) {
+            throw new IllegalArgumentException("slotsPerDay must be between 1 and 48: " + slotsPerDay);
+        }
+        this.days = days;
+        this.slotsPerDay = slotsPerDay;
+        this.participants = participants;
+        this.dates = new ArrayList<>(days);
+        for (int day = 0; day < days; day++) {
+            dates.add(START_DATE.plusDays(day).format(DATE_FORMATTER));
+        }
+        this.times = new ArrayList<>(slotsPerDay);
+        for (int slot = 0; slot < slotsPerDay; slot++) {
+            times.add(String.valueOf(LocalTime.MIDNIGHT.plusMinutes(30L * slot)));
+        }
+
+        Random random = new Random(seed);
+        this.selected = new boolean[participants][days * slotsPerDay];
+        for (int participant = 0; participant < participants; participant++) {
+            for (int day = 0; day < days; day++) {
+                int length = 1 + random.nextInt(slotsPerDay);
+                int start = random.nextInt(slotsPerDay - length + 1);
+                for (int slot = start; slot < start + length; slot++) {
+                    selected[participant][day * slotsPerDay + slot] = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * 합성 이벤트 생성 메서드.
+     *
+     * @param days 날짜 수
+     * @param slotsPerDay 하루 슬롯 수 (1~48, 00:00부터 30분 간격)
+     * @param participants 참여자 수
+     * @param seed 선택 정보 생성 시드
+     * @return 합성 이벤트
+     */
+    public static SyntheticEvent of(int days, int slotsPerDay, int participants, long seed) {
+        return new SyntheticEvent(days, slotsPerDay, participants, seed);
+    }
+
+    /**
+     * 가용성 매트릭스 생성 메서드.
+     * 스냅샷 적재 시와 같은 순서(참여자 → 슬롯 → 선택)로 매트릭스를 구성합니다.
+     *
+     * @return 참여자 × 스케줄 가용성 매트릭스
+     */
+    public AvailabilityMatrix toAvailabilityMatrix() {
+        AvailabilityMatrix matrix = new AvailabilityMatrix(Category.DATE);
+        int[] participantIndexes = new int[participants];
+        for (int participant = 0; participant < participants; participant++) {
+            participantIndexes[participant] = matrix.addMember((long) participant, "참여자" + participant);
+        }
+        int[] slotIndexes = new int[days * slotsPerDay];
+        for (int day = 0; day < days; day++) {
+            for (int slot = 0; slot < slotsPerDay; slot++) {
+                int scheduleIndex = day * slotsPerDay + slot;
+                slotIndexes[scheduleIndex] = matrix.addSlot((long) scheduleIndex, dates.get(day), times.get(slot));
+            }
+        }
+        for (int participant = 0; participant < participants; participant++) {
+            for (int scheduleIndex = 0; scheduleIndex < slotIndexes.length; scheduleIndex++) {
+                if (selected[participant][scheduleIndex]) {
+                    matrix.select(slotIndexes[scheduleIndex], participantIndexes[participant]);
+                }
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * 슬롯별 최적 시간대 목록 생성 메서드.
+     * 정렬 벤치마크 입력으로 사용하도록 고정 시드로 섞어서 반환합니다.
+     *
+     * @param seed 섞기 시드
+     * @return 슬롯마다 하나씩 생성한 최적 시간대 목록
+     */
+    public List<GetMostPossibleTime> toShuffledMostPossibleTimes(long seed) {
+        AvailabilityMatrix matrix = toAvailabilityMatrix();
+        List<GetMostPossibleTime> mostPossibleTimes = new ArrayList<>(matrix.getSlotCount());
+        for (int slot = 0; slot < matrix.getSlotCount(); slot++) {
+            mostPossibleTimes.add(GetMostPossibleTime.of(
+                    matrix.getTimePoint(slot),
+                    matrix.getTime(slot),
+                    matrix.getPossibleNames(slot),
+                    matrix.getImpossibleNames(slot)
+            ));
+        }
+        Collections.shuffle(mostPossibleTimes, new Random(seed));
+        return mostPossibleTimes;
+    }
+
+    /**
+     * 스케줄별 날짜 목록 생성 메서드.
+     * 이벤트 조회 시처럼 슬롯마다 날짜가 반복되는 목록을 고정 시드로 섞어서 반환합니다.
+     *
+     * @param seed 섞기 시드
+     * @return 스케줄 수만큼의 날짜 문자열 목록
+     */
+    public List<String> toShuffledScheduleDates(long seed) {
+        List<String> scheduleDates = new ArrayList<>(days * slotsPerDay);
+        for (String date : dates) {
+            for (int slot = 0; slot < slotsPerDay; slot++) {
+                scheduleDates.add(date);
+            }
+        }
+        Collections.shuffle(scheduleDates, new Random(seed));
+        return scheduleDates;
+    }
+
+    public String getStartTime() {
+        return times.get(0);
+    }
+
+    public String getEndTime() {
+        return slotsPerDay == 48 ? "24:00" : String.valueOf(LocalTime.MIDNIGHT.plusMinutes(30L * slotsPerDay));
+    }
+}
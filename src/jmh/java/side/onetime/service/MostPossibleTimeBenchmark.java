@@ -0,0 +1,56 @@
+package side.onetime.service;
+
+import org.openjdk.jmh.annotations.*;
+import side.onetime.benchmark.SyntheticEvent;
+import side.onetime.dto.event.response.GetMostPossibleTime;
+import side.onetime.util.AvailabilityMatrix;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최적 시간대 계산 벤치마크.
+ *
+ * 스냅샷 적재(매트릭스 구성)와 캐시 적중 시의 계산(상위 시간대 선택 및 응답 생성)을 나누어 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MostPossibleTimeBenchmark {
+
+    @Param({"7", "30"})
+    private int days;
+
+    @Param({"16", "48"})
+    private int slotsPerDay;
+
+    @Param({"10", "50", "200"})
+    private int participants;
+
+    @Param({"10"})
+    private int limit;
+
+    private SyntheticEvent event;
+    private AvailabilityMatrix matrix;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        event = SyntheticEvent.of(days, slotsPerDay, participants, 42L);
+        matrix = event.toAvailabilityMatrix();
+    }
+
+    @Benchmark
+    public AvailabilityMatrix buildAvailabilityMatrix() {
+        return event.toAvailabilityMatrix();
+    }
+
+    @Benchmark
+    public List<AvailabilityMatrix.SlotRange> getTopRanges() {
+        return matrix.getTopRanges(limit);
+    }
+
+    @Benchmark
+    public List<GetMostPossibleTime> buildMostPossibleTimes() {
+        return EventService.buildMostPossibleTimes(matrix, limit);
+    }
+}
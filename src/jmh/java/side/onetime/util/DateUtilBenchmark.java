@@ -0,0 +1,55 @@
+package side.onetime.util;
+
+import org.openjdk.jmh.annotations.*;
+import side.onetime.benchmark.SyntheticEvent;
+import side.onetime.domain.enums.Category;
+import side.onetime.dto.event.response.GetMostPossibleTime;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateUtil 벤치마크.
+ *
+ * 이벤트 조회 및 최적 시간대 계산 시 호출되는 시간 생성/정렬 메서드를 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DateUtilBenchmark {
+
+    @Param({"7", "30"})
+    private int days;
+
+    @Param({"16", "48"})
+    private int slotsPerDay;
+
+    @Param({"10", "50"})
+    private int participants;
+
+    private SyntheticEvent event;
+    private List<GetMostPossibleTime> mostPossibleTimes;
+    private List<String> scheduleDates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        event = SyntheticEvent.of(days, slotsPerDay, participants, 42L);
+        mostPossibleTimes = event.toShuffledMostPossibleTimes(7L);
+        scheduleDates = event.toShuffledScheduleDates(7L);
+    }
+
+    @Benchmark
+    public List<String> createTimeSets() {
+        return DateUtil.createTimeSets(event.getStartTime(), event.getEndTime());
+    }
+
+    @Benchmark
+    public List<GetMostPossibleTime> sortMostPossibleTimes() {
+        return DateUtil.sortMostPossibleTimes(mostPossibleTimes, Category.DATE);
+    }
+
+    @Benchmark
+    public List<String> getSortedDateRanges() {
+        return DateUtil.getSortedDateRanges(scheduleDates, SyntheticEvent.DATE_PATTERN);
+    }
+}
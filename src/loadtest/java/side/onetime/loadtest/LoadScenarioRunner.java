@@ -0,0 +1,213 @@
+package side.onetime.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import side.onetime.domain.enums.Category;
+import side.onetime.dto.schedule.request.CreateDateScheduleRequest;
+import side.onetime.dto.schedule.request.CreateDayScheduleRequest;
+import side.onetime.dto.schedule.response.DateSchedule;
+import side.onetime.dto.schedule.response.DaySchedule;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부하 시나리오 러너.
+ *
+ * load 프로필로 실행하면 DB의 이벤트를 대상으로 읽기/쓰기 API 요청 계획을 시드 기반으로 만든 뒤,
+ * 설정된 동시성으로 실행하고 API별 지연 시간 백분위수를 로그로 출력합니다.
+ * 같은 시드와 데이터로 실행하면 같은 요청 순서가 만들어지므로 커밋 간 결과를 비교할 수 있습니다.
+ * 러너는 웹 서버 없이 실행되며, 측정 대상 서버는 별도 프로세스로 띄운 뒤 load.base-url로 지정합니다.
+ * (예: LOAD_BASE_URL=http://localhost:8080 ./gradlew loadTest -Pprofiles=local,load)
+ */
+@Slf4j
+@Component
+@Profile("load")
+@Order(1)
+public class LoadScenarioRunner implements ApplicationRunner {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99};
+
+    private final SyntheticDataGenerator syntheticDataGenerator;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final int targetEvents;
+    private final int warmupRequests;
+    private final int requests;
+    private final int concurrency;
+    private final double writeRatio;
+    private final long seed;
+
+    /**
+     * 부하 시나리오 요청.
+     *
+     * @param name 집계에 사용할 API 이름
+     * @param request HTTP 요청
+     */
+    private record LoadRequest(String name, HttpRequest request) {
+    }
+
+    public LoadScenarioRunner(
+            SyntheticDataGenerator syntheticDataGenerator,
+            ObjectMapper objectMapper,
+            @Value("${load.base-url}") String baseUrl,
+            @Value("${load.target-events:100}") int targetEvents,
+            @Value("${load.warmup-requests:500}") int warmupRequests,
+            @Value("${load.requests:10000}") int requests,
+            @Value("${load.concurrency:16}") int concurrency,
+            @Value("${load.write-ratio:0.1}") double writeRatio,
+            @Value("${load.random-seed:42}") long seed) {
+        this.syntheticDataGenerator = syntheticDataGenerator;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUrl = baseUrl;
+        this.targetEvents = targetEvents;
+        this.warmupRequests = warmupRequests;
+        this.requests = requests;
+        this.concurrency = concurrency;
+        this.writeRatio = writeRatio;
+        this.seed = seed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        List<SyntheticDataGenerator.LoadTarget> targets = syntheticDataGenerator.findLoadTargets(targetEvents);
+        if (targets.isEmpty()) {
+            log.warn("⚠️ 부하 시나리오 대상 이벤트가 없습니다. seed 프로필로 합성 데이터를 먼저 생성하세요.");
+            return;
+        }
+        Random random = new Random(seed);
+        log.info("🚀 부하 시나리오 시작: baseUrl={}, targets={}, warmup={}, requests={}, concurrency={}, writeRatio={}",
+                baseUrl, targets.size(), warmupRequests, requests, concurrency, writeRatio);
+
+        execute(createPlan(random, targets, warmupRequests));
+        Map<String, List<Long>> latencies = execute(createPlan(random, targets, requests));
+        report(latencies);
+    }
+
+    private List<LoadRequest> createPlan(Random random, List<SyntheticDataGenerator.LoadTarget> targets, int size)
+            throws JsonProcessingException {
+        List<LoadRequest> plan = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            SyntheticDataGenerator.LoadTarget target = targets.get(random.nextInt(targets.size()));
+            String eventId = target.eventId().toString();
+            String schedulePath = target.category() == Category.DATE ? "date" : "day";
+
+            if (random.nextDouble() < writeRatio) {
+                plan.add(new LoadRequest("POST /schedules/" + schedulePath,
+                        post("/api/v1/schedules/" + schedulePath, createScheduleBody(random, target))));
+                continue;
+            }
+            switch (random.nextInt(4)) {
+                case 0 -> plan.add(new LoadRequest("GET /events/{id}", get("/api/v1/events/" + eventId)));
+                case 1 -> plan.add(new LoadRequest("GET /events/{id}/most", get("/api/v1/events/" + eventId + "/most")));
+                case 2 -> plan.add(new LoadRequest("GET /events/{id}/heatmap", get("/api/v1/events/" + eventId + "/heatmap")));
+                default -> plan.add(new LoadRequest("GET /schedules/" + schedulePath + "/{id}",
+                        get("/api/v1/schedules/" + schedulePath + "/" + eventId)));
+            }
+        }
+        return plan;
+    }
+
+    private String createScheduleBody(Random random, SyntheticDataGenerator.LoadTarget target)
+            throws JsonProcessingException {
+        String eventId = target.eventId().toString();
+        String memberId = target.memberIds().get(random.nextInt(target.memberIds().size())).toString();
+        if (target.category() == Category.DATE) {
+            List<DateSchedule> schedules = new ArrayList<>();
+            target.timesByTimePoint().forEach((date, times) -> schedules.add(new DateSchedule(date, pickTimes(random, times))));
+            return objectMapper.writeValueAsString(CreateDateScheduleRequest.of(eventId, memberId, schedules));
+        }
+        List<DaySchedule> schedules = new ArrayList<>();
+        target.timesByTimePoint().forEach((day, times) -> schedules.add(new DaySchedule(day, pickTimes(random, times))));
+        return objectMapper.writeValueAsString(CreateDayScheduleRequest.of(eventId, memberId, schedules));
+    }
+
+    private Map<String, List<Long>> execute(List<LoadRequest> plan) throws InterruptedException {
+        Map<String, List<Long>> latencies = new ConcurrentHashMap<>();
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            for (LoadRequest loadRequest : plan) {
+                executor.submit(() -> {
+                    long startedAt = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(loadRequest.request(), HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() >= 400) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                    long elapsed = System.nanoTime() - startedAt;
+                    latencies.computeIfAbsent(loadRequest.name(), key -> Collections.synchronizedList(new ArrayList<>()))
+                            .add(elapsed);
+                });
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.HOURS);
+        }
+        if (failures.get() > 0) {
+            log.warn("⚠️ 실패한 요청 수: {}/{}", failures.get(), plan.size());
+        }
+        return latencies;
+    }
+
+    private void report(Map<String, List<Long>> latencies) {
+        new TreeMap<>(latencies).forEach((name, values) -> {
+            long[] sorted = values.stream().mapToLong(Long::longValue).sorted().toArray();
+            StringBuilder percentiles = new StringBuilder();
+            for (double percentile : PERCENTILES) {
+                percentiles.append(String.format("p%.0f=%.2fms ", percentile, percentile(sorted, percentile) / 1_000_000.0));
+            }
+            log.info("📊 {} count={}, {}max={}ms", name, sorted.length, percentiles,
+                    String.format("%.2f", sorted[sorted.length - 1] / 1_000_000.0));
+        });
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static List<String> pickTimes(Random random, List<String> times) {
+        if (times.isEmpty() || random.nextBoolean()) {
+            return List.of();
+        }
+        int length = 1 + random.nextInt(times.size());
+        int start = random.nextInt(times.size() - length + 1);
+        return times.subList(start, start + length);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,237 @@
+package side.onetime.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import side.onetime.domain.*;
+import side.onetime.domain.enums.Category;
+import side.onetime.domain.enums.EventStatus;
+import side.onetime.domain.enums.Language;
+import side.onetime.repository.*;
+import side.onetime.util.DateUtil;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * 부하 테스트용 합성 데이터 생성기.
+ *
+ * 이벤트마다 스케줄을 생성한 뒤, 멤버와 유저 참여자의 선택 정보를 임의로 만들어 배치로 저장합니다.
+ * 참여자는 요일/날짜마다 일정 확률로 하나의 연속 구간을 선택하므로 실제 이벤트와 비슷한 분포를 가집니다.
+ * 같은 시드로 생성하면 같은 구성의 이벤트가 만들어집니다.
+ */
+@Component
+@Profile({"seed", "load"})
+@RequiredArgsConstructor
+public class SyntheticDataGenerator {
+
+    private static final String USER_PROVIDER = "synthetic";
+    private static final List<String> DAYS = List.of("일", "월", "화", "수", "목", "금", "토");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+    private static final LocalDate START_DATE = LocalDate.of(2025, 1, 1);
+
+    private final EventRepository eventRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleBatchRepository scheduleBatchRepository;
+    private final MemberRepository memberRepository;
+    private final UserRepository userRepository;
+    private final EventParticipationRepository eventParticipationRepository;
+    private final SelectionBatchRepository selectionBatchRepository;
+
+    /**
+     * 합성 이벤트 생성 조건.
+     *
+     * @param maxTimePoints 이벤트당 최대 요일/날짜 수
+     * @param maxMembers 이벤트당 최대 멤버 수
+     * @param maxUsers 이벤트당 최대 유저 참여자 수
+     * @param selectionProbability 참여자가 요일/날짜마다 구간을 선택할 확률
+     */
+    public record Spec(int maxTimePoints, int maxMembers, int maxUsers, double selectionProbability) {
+    }
+
+    /**
+     * 부하 시나리오 대상 이벤트.
+     *
+     * @param eventId 이벤트 UUID
+     * @param category 이벤트 카테고리
+     * @param memberIds 익명 스케줄 등록에 사용할 멤버 UUID 목록
+     * @param timesByTimePoint 요일/날짜별 시간 목록
+     */
+    public record LoadTarget(UUID eventId, Category category, List<UUID> memberIds,
+                             Map<String, List<String>> timesByTimePoint) {
+    }
+
+    /**
+     * 합성 유저 풀 생성 메서드.
+     * 이미 생성된 합성 유저는 다시 만들지 않고 재사용합니다.
+     *
+     * @param size 유저 풀 크기
+     * @return 합성 유저 목록
+     */
+    @Transactional
+    public List<User> prepareUserPool(int size) {
+        List<User> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String providerId = USER_PROVIDER + "-" + i;
+            User user = userRepository.findByProviderId(providerId);
+            if (user == null) {
+                user = userRepository.save(User.builder()
+                        .name("합성유저" + i)
+                        .email(providerId + "@onetime.test")
+                        .nickname("합성유저" + i)
+                        .provider(USER_PROVIDER)
+                        .providerId(providerId)
+                        .servicePolicyAgreement(true)
+                        .privacyPolicyAgreement(true)
+                        .marketingPolicyAgreement(false)
+                        .language(Language.KOR)
+                        .build());
+            }
+            users.add(user);
+        }
+        return users;
+    }
+
+    /**
+     * 합성 이벤트 생성 메서드.
+     * 스케줄과 선택 정보는 ScheduleBatchRepository, SelectionBatchRepository로 일괄 저장합니다.
+     *
+     * @param random 이벤트 구성을 결정하는 난수 생성기
+     * @param spec 합성 이벤트 생성 조건
+     * @param userPool 유저 참여자를 고를 합성 유저 풀
+     * @return 생성된 선택 정보 수
+     */
+    @Transactional
+    public int generateEvent(Random random, Spec spec, List<User> userPool) {
+        Category category = random.nextBoolean() ? Category.DATE : Category.DAY;
+        int startHour = random.nextInt(12);
+        String startTime = String.format("%02d:00", startHour);
+        String endTime = String.format("%02d:00", startHour + 4 + random.nextInt(24 - startHour - 3));
+        Event event = eventRepository.save(Event.builder()
+                .eventId(UUID.randomUUID())
+                .title("합성 이벤트")
+                .startTime(startTime)
+                .endTime(endTime)
+                .category(category)
+                .build());
+
+        List<String> timePoints = createTimePoints(random, category, 1 + random.nextInt(spec.maxTimePoints()));
+        List<String> timeSets = DateUtil.createTimeSets(startTime, endTime);
+        List<Schedule> newSchedules = new ArrayList<>(timePoints.size() * timeSets.size());
+        for (String timePoint : timePoints) {
+            for (String time : timeSets) {
+                newSchedules.add(Schedule.builder()
+                        .event(event)
+                        .date(category == Category.DATE ? timePoint : null)
+                        .day(category == Category.DAY ? timePoint : null)
+                        .time(time)
+                        .build());
+            }
+        }
+        scheduleBatchRepository.insertAll(newSchedules);
+
+        // 배치 저장은 ID를 반환하지 않으므로, 선택 정보 생성을 위해 다시 조회
+        Map<String, List<Schedule>> schedulesByTimePoint = new LinkedHashMap<>();
+        for (Schedule schedule : scheduleRepository.findAllByEvent(event).orElse(List.of())) {
+            String timePoint = category == Category.DATE ? schedule.getDate() : schedule.getDay();
+            schedulesByTimePoint.computeIfAbsent(timePoint, key -> new ArrayList<>()).add(schedule);
+        }
+
+        List<Member> members = new ArrayList<>();
+        int memberCount = random.nextInt(spec.maxMembers() + 1);
+        for (int i = 0; i < memberCount; i++) {
+            members.add(Member.builder()
+                    .event(event)
+                    .memberId(UUID.randomUUID())
+                    .name("멤버" + i)
+                    .pin(String.format("%04d", random.nextInt(10000)))
+                    .build());
+        }
+        memberRepository.saveAll(members);
+
+        List<User> users = new ArrayList<>(userPool);
+        Collections.shuffle(users, random);
+        users = users.subList(0, Math.min(users.size(), random.nextInt(spec.maxUsers() + 1)));
+        List<EventParticipation> participations = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            participations.add(EventParticipation.builder()
+                    .event(event)
+                    .user(users.get(i))
+                    .eventStatus(i == 0 ? EventStatus.CREATOR_AND_PARTICIPANT : EventStatus.PARTICIPANT)
+                    .build());
+        }
+        eventParticipationRepository.saveAll(participations);
+
+        List<Selection> selections = new ArrayList<>();
+        for (Member member : members) {
+            for (Schedule schedule : pickSchedules(random, schedulesByTimePoint, spec.selectionProbability())) {
+                selections.add(Selection.builder().member(member).schedule(schedule).build());
+            }
+        }
+        for (User user : users) {
+            for (Schedule schedule : pickSchedules(random, schedulesByTimePoint, spec.selectionProbability())) {
+                selections.add(Selection.builder().user(user).schedule(schedule).build());
+            }
+        }
+        selectionBatchRepository.insertAll(selections);
+        return selections.size();
+    }
+
+    /**
+     * 부하 시나리오 대상 이벤트 조회 메서드.
+     * 조회한 이벤트 중 멤버가 있는 이벤트만 대상으로 하며, 스케줄 등록 요청 본문을 만들 수 있도록 요일/날짜별 시간 목록을 함께 반환합니다.
+     *
+     * @param size 조회할 최대 이벤트 수
+     * @return 부하 시나리오 대상 이벤트 목록
+     */
+    @Transactional(readOnly = true)
+    public List<LoadTarget> findLoadTargets(int size) {
+        List<LoadTarget> targets = new ArrayList<>();
+        for (Event event : eventRepository.findAll(PageRequest.of(0, size))) {
+            List<UUID> memberIds = memberRepository.findAllByEvent(event).stream()
+                    .map(Member::getMemberId)
+                    .toList();
+            if (memberIds.isEmpty()) {
+                continue;
+            }
+            Map<String, List<String>> timesByTimePoint = new TreeMap<>();
+            for (Schedule schedule : scheduleRepository.findAllByEvent(event).orElse(List.of())) {
+                String timePoint = event.getCategory() == Category.DATE ? schedule.getDate() : schedule.getDay();
+                timesByTimePoint.computeIfAbsent(timePoint, key -> new ArrayList<>()).add(schedule.getTime());
+            }
+            targets.add(new LoadTarget(event.getEventId(), event.getCategory(), memberIds, timesByTimePoint));
+        }
+        return targets;
+    }
+
+    private static List<String> createTimePoints(Random random, Category category, int count) {
+        if (category == Category.DAY) {
+            List<String> days = new ArrayList<>(DAYS);
+            Collections.shuffle(days, random);
+            return days.subList(0, Math.min(count, days.size()));
+        }
+        LocalDate start = START_DATE.plusDays(random.nextInt(365));
+        List<String> dates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            dates.add(start.plusDays(i).format(DATE_FORMATTER));
+        }
+        return dates;
+    }
+
+    private static List<Schedule> pickSchedules(Random random, Map<String, List<Schedule>> schedulesByTimePoint,
+                                                double selectionProbability) {
+        List<Schedule> picked = new ArrayList<>();
+        for (List<Schedule> schedules : schedulesByTimePoint.values()) {
+            if (schedules.isEmpty() || random.nextDouble() >= selectionProbability) {
+                continue;
+            }
+            int length = 1 + random.nextInt(schedules.size());
+            int start = random.nextInt(schedules.size() - length + 1);
+            picked.addAll(schedules.subList(start, start + length));
+        }
+        return picked;
+    }
+}
@@ -0,0 +1,68 @@
+package side.onetime.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import side.onetime.domain.User;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 합성 데이터 시딩 러너.
+ *
+ * seed 프로필로 실행하면 애플리케이션 기동 후 설정된 수만큼 합성 이벤트를 생성합니다.
+ * (예: ./gradlew loadTest -Pprofiles=local,seed --args=--seed.events=5000)
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@Order(0)
+public class SyntheticDataSeedRunner implements ApplicationRunner {
+
+    private static final int LOG_INTERVAL = 500;
+
+    private final SyntheticDataGenerator syntheticDataGenerator;
+    private final int events;
+    private final int userPoolSize;
+    private final SyntheticDataGenerator.Spec spec;
+    private final long seed;
+
+    public SyntheticDataSeedRunner(
+            SyntheticDataGenerator syntheticDataGenerator,
+            @Value("${seed.events:1000}") int events,
+            @Value("${seed.user-pool-size:500}") int userPoolSize,
+            @Value("${seed.max-time-points:14}") int maxTimePoints,
+            @Value("${seed.max-members:100}") int maxMembers,
+            @Value("${seed.max-users:100}") int maxUsers,
+            @Value("${seed.selection-probability:0.6}") double selectionProbability,
+            @Value("${seed.random-seed:42}") long seed) {
+        this.syntheticDataGenerator = syntheticDataGenerator;
+        this.events = events;
+        this.userPoolSize = userPoolSize;
+        this.spec = new SyntheticDataGenerator.Spec(maxTimePoints, maxMembers, maxUsers, selectionProbability);
+        this.seed = seed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("🌱 합성 데이터 생성 시작: events={}, userPoolSize={}, spec={}, seed={}", events, userPoolSize, spec, seed);
+        long startedAt = System.currentTimeMillis();
+        Random random = new Random(seed);
+        List<User> userPool = syntheticDataGenerator.prepareUserPool(userPoolSize);
+
+        long selections = 0;
+        for (int i = 1; i <= events; i++) {
+            selections += syntheticDataGenerator.generateEvent(random, spec, userPool);
+            if (i % LOG_INTERVAL == 0) {
+                log.info("🌱 합성 이벤트 {}/{} 생성 완료 (selections={})", i, events, selections);
+            }
+        }
+        log.info("🌱 합성 데이터 생성 완료: events={}, selections={}, elapsed={}ms",
+                events, selections, System.currentTimeMillis() - startedAt);
+    }
+}
@@ -179,6 +179,22 @@ public class AdminController {
         return ApiResponse.onSuccess(SuccessStatus._GET_ALL_DASHBOARD_USERS, response);
     }
 
+    /**
+     * 대시보드 스케줄 비동기 저장 통계 조회 API.
+     *
+     * 스케줄 비동기 저장 큐의 길이, 접수/거절/완료/실패 건수, 평균/최대 배치 크기,
+     * 접수부터 저장 완료까지의 평균/최대 지연 시간을 조회합니다.
+     *
+     * @param authorizationHeader Authorization 헤더 (Bearer 토큰)
+     * @return 스케줄 비동기 저장 통계 응답 DTO
+     */
+    @GetMapping("/dashboard/schedule-ingestion")
+    public ResponseEntity<ApiResponse<GetScheduleIngestionStatsResponse>> getScheduleIngestionStats(
+            @RequestHeader("Authorization") String authorizationHeader) {
+        GetScheduleIngestionStatsResponse response = adminService.getScheduleIngestionStats(authorizationHeader);
+        return ApiResponse.onSuccess(SuccessStatus._GET_SCHEDULE_INGESTION_STATS, response);
+    }
+
     /**
      * 배너 등록 API.
      *
@@ -1,15 +1,21 @@
 package side.onetime.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import side.onetime.dto.event.request.CreateEventRequest;
 import side.onetime.dto.event.request.ModifyUserCreatedEventRequest;
 import side.onetime.dto.event.response.*;
 import side.onetime.dto.schedule.request.GetFilteredSchedulesRequest;
 import side.onetime.global.common.ApiResponse;
 import side.onetime.global.common.status.SuccessStatus;
+import side.onetime.global.etag.annotation.EventETag;
+import side.onetime.service.AvailabilityStreamService;
 import side.onetime.service.EventService;
 
 import java.util.List;
@@ -20,6 +26,7 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
+    private final AvailabilityStreamService availabilityStreamService;
 
     /**
      * 이벤트 생성 API.
@@ -51,11 +58,14 @@ public class EventController {
      *
      * 이 API는 특정 이벤트의 세부 정보를 조회합니다. 이벤트의 제목, 시간, 카테고리 등의 정보를 제공하며
      * 인증된 유저일 경우 추가적인 정보가 포함될 수 있습니다.
+     * If-None-Match 헤더가 이벤트 버전으로 만든 ETag와 같으면 조회 없이 304 응답을 반환합니다.
+     * 같은 이벤트 버전과 토큰의 응답은 직렬화(및 gzip 압축)해 둔 바이트를 재사용합니다.
      *
      * @param authorizationHeader 인증된 유저의 토큰 (선택 사항)
      * @param eventId 조회할 이벤트의 ID
      * @return 조회한 이벤트의 세부 정보
      */
+    @EventETag(varyByAuthorization = true, cacheBody = true)
     @GetMapping("/{event_id}")
     public ResponseEntity<ApiResponse<GetEventResponse>> getEvent(
             @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
@@ -70,10 +80,12 @@ public class EventController {
      * 참여자 조회 API.
      *
      * 이 API는 특정 이벤트에 참여한 모든 참여자의 이름 목록을 조회합니다.
+     * If-None-Match 헤더가 이벤트 버전으로 만든 ETag와 같으면 조회 없이 304 응답을 반환합니다.
      *
      * @param eventId 참여자 목록을 조회할 이벤트의 ID
      * @return 해당 이벤트에 참여한 멤버, 유저의 이름 및 ID 목록
      */
+    @EventETag
     @GetMapping("/{event_id}/participants")
     public ResponseEntity<ApiResponse<GetParticipantsResponse>> getParticipants(
             @PathVariable("event_id") String eventId) {
@@ -86,18 +98,66 @@ public class EventController {
      * 가장 많이 되는 시간 조회 API.
      *
      * 이 API는 특정 이벤트에서 가장 많이 가능한 시간대를 조회하여, 가능 인원과 해당 시간대 정보를 제공합니다.
+     * limit으로 조회할 시간대 개수를 지정할 수 있으며, 기본값은 10개입니다.
+     * If-None-Match 헤더가 이벤트 버전으로 만든 ETag와 같으면 조회 없이 304 응답을 반환합니다.
+     * 같은 이벤트 버전과 limit의 응답은 직렬화(및 gzip 압축)해 둔 바이트를 재사용합니다.
      *
      * @param eventId 조회할 이벤트의 ID
+     * @param limit 조회할 최대 시간대 개수 (기본값: 10)
      * @return 가능 인원이 많은 시간대와 관련 세부 정보
      */
+    @EventETag(cacheBody = true)
     @GetMapping("/{event_id}/most")
     public ResponseEntity<ApiResponse<List<GetMostPossibleTime>>> getMostPossibleTime(
-            @PathVariable("event_id") String eventId) {
+            @PathVariable("event_id") String eventId,
+            @RequestParam(value = "limit", defaultValue = "10") @Min(1) int limit) {
 
-        List<GetMostPossibleTime> getMostPossibleTimes = eventService.getMostPossibleTime(eventId);
+        List<GetMostPossibleTime> getMostPossibleTimes = eventService.getMostPossibleTime(eventId, limit);
         return ApiResponse.onSuccess(SuccessStatus._GET_MOST_POSSIBLE_TIME, getMostPossibleTimes);
     }
 
+    /**
+     * 이벤트 히트맵 조회 API.
+     *
+     * 이 API는 특정 이벤트의 슬롯(요일/날짜 및 시간)별 가능 인원 수를 조회합니다.
+     * 참여자별 스케줄 목록 대신 서버에서 집계한 결과를 제공하며, 선택한 참여자가 없는 슬롯은 생략됩니다.
+     * If-None-Match 헤더가 이벤트 버전으로 만든 ETag와 같으면 조회 없이 304 응답을 반환합니다.
+     *
+     * @param eventId 조회할 이벤트의 ID
+     * @param includeParticipants 슬롯별 가능 참여자 인덱스 포함 여부 (기본값: false)
+     * @return 슬롯별 가능 인원 수 목록
+     */
+    @EventETag
+    @GetMapping("/{event_id}/heatmap")
+    public ResponseEntity<ApiResponse<GetHeatmapResponse>> getHeatmap(
+            @PathVariable("event_id") String eventId,
+            @RequestParam(value = "include_participants", defaultValue = "false") boolean includeParticipants) {
+
+        GetHeatmapResponse getHeatmapResponse = eventService.getHeatmap(eventId, includeParticipants);
+        return ApiResponse.onSuccess(SuccessStatus._GET_HEATMAP, getHeatmapResponse);
+    }
+
+    /**
+     * 이벤트 가용성 변경 구독 API.
+     *
+     * 이 API는 특정 이벤트의 스케줄 변경을 SSE(text/event-stream)로 실시간 전달합니다.
+     * 참여자가 스케줄을 등록하면 해당 참여자의 전체 선택 정보를 담은 SELECTION 메시지를,
+     * 이벤트 수정/삭제 또는 참여자 정보 변경 시에는 전체를 다시 조회하도록 RESET 메시지를 보냅니다.
+     *
+     * @param eventId 구독할 이벤트의 ID
+     * @return SSE 스트림
+     */
+    @GetMapping(value = "/{event_id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamAvailability(
+            @PathVariable("event_id") String eventId) {
+
+        SseEmitter emitter = availabilityStreamService.subscribe(eventId);
+        // nginx 등 프록시가 이벤트를 모아 보내지 않도록 버퍼링 해제
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
     /**
      * 필터링한 참여자의 가장 많이 되는 시간 조회 API.
      *
@@ -105,14 +165,16 @@ public class EventController {
      *
      * @param eventId 조회할 이벤트의 ID
      * @param getFilteredSchedulesRequest 필터링할 스케줄 요청 객체 (유저 ID 목록, 멤버 ID 목록)
+     * @param limit 조회할 최대 시간대 개수 (기본값: 10)
      * @return 필터링한 참여자의 시간대와 관련 세부 정보
      */
     @PostMapping("/{event_id}/most/filtering")
     public ResponseEntity<ApiResponse<List<GetMostPossibleTime>>> getFilteredMostPossibleTimes(
             @PathVariable("event_id") String eventId,
-            @RequestBody GetFilteredSchedulesRequest getFilteredSchedulesRequest) {
+            @RequestBody GetFilteredSchedulesRequest getFilteredSchedulesRequest,
+            @RequestParam(value = "limit", defaultValue = "10") @Min(1) int limit) {
 
-        List<GetMostPossibleTime> getFilteredMostPossibleTimes = eventService.getFilteredMostPossibleTimes(eventId, getFilteredSchedulesRequest);
+        List<GetMostPossibleTime> getFilteredMostPossibleTimes = eventService.getFilteredMostPossibleTimes(eventId, getFilteredSchedulesRequest, limit);
         return ApiResponse.onSuccess(SuccessStatus._GET_FILTERED_MOST_POSSIBLE_TIME, getFilteredMostPossibleTimes);
     }
 
@@ -130,6 +192,27 @@ public class EventController {
         return ApiResponse.onSuccess(SuccessStatus._GET_USER_PARTICIPATED_EVENTS, getUserParticipatedEventsResponses);
     }
 
+    /**
+     * 유저 참여 이벤트 페이지 조회 API.
+     *
+     * 이 API는 인증된 유저가 참여한 이벤트 목록을 생성일 내림차순으로 커서 기반 페이지 조회합니다.
+     * 다음 페이지는 응답의 next_cursor를 cursor로 전달하여 조회합니다.
+     *
+     * @param cursor 이전 페이지의 마지막 이벤트 ID (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본값: 20)
+     * @param limit 이벤트별로 조회할 최대 시간대 개수 (기본값: 10)
+     * @return 유저가 참여한 이벤트 목록과 다음 페이지 정보
+     */
+    @GetMapping("/user/all/page")
+    public ResponseEntity<ApiResponse<GetUserParticipatedEventsPageResponse>> getUserParticipatedEventsPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(value = "limit", defaultValue = "10") @Min(1) int limit) {
+
+        GetUserParticipatedEventsPageResponse getUserParticipatedEventsPageResponse = eventService.getUserParticipatedEventsPage(cursor, size, limit);
+        return ApiResponse.onSuccess(SuccessStatus._GET_USER_PARTICIPATED_EVENTS_PAGE, getUserParticipatedEventsPageResponse);
+    }
+
     /**
      * 유저가 생성한 이벤트 삭제 API.
      *
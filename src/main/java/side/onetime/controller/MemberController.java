@@ -7,14 +7,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import side.onetime.dto.member.request.BulkRegisterMembersRequest;
 import side.onetime.dto.member.request.IsDuplicateRequest;
 import side.onetime.dto.member.request.LoginMemberRequest;
 import side.onetime.dto.member.request.RegisterMemberRequest;
+import side.onetime.dto.member.response.BulkRegisterMembersResponse;
 import side.onetime.dto.member.response.IsDuplicateResponse;
 import side.onetime.dto.member.response.LoginMemberResponse;
 import side.onetime.dto.member.response.RegisterMemberResponse;
 import side.onetime.global.common.ApiResponse;
 import side.onetime.global.common.status.SuccessStatus;
+import side.onetime.global.idempotency.annotation.Idempotent;
 import side.onetime.service.MemberService;
 
 @RestController
@@ -28,10 +31,12 @@ public class MemberController {
      * 멤버 등록 API.
      *
      * 이 API는 새로운 멤버를 등록합니다. 멤버가 속한 이벤트 ID와 이름, PIN, 스케줄 목록을 받습니다.
+     * Idempotency-Key 헤더를 보내면 같은 키로 재시도한 요청에는 처음 처리한 응답을 그대로 반환합니다.
      *
      * @param registerMemberRequest 등록할 멤버 정보 (이벤트 ID, 이름, PIN, 스케줄 목록)
      * @return 성공 여부와 등록된 멤버 정보 (멤버 ID, 이벤트 카테고리)
      */
+    @Idempotent(prefix = "member:register", scope = "#registerMemberRequest.eventId()")
     @PostMapping("/action-register")
     public ResponseEntity<ApiResponse<RegisterMemberResponse>> registerMember(
             @Valid @RequestBody RegisterMemberRequest registerMemberRequest) {
@@ -40,6 +45,25 @@ public class MemberController {
         return ApiResponse.onSuccess(SuccessStatus._REGISTER_MEMBER, registerMemberResponse);
     }
 
+    /**
+     * 멤버 일괄 등록 API.
+     *
+     * 이 API는 이벤트 생성자가 여러 참여자의 이름, PIN, 스케줄 목록을 한 번에 등록합니다.
+     * 유효하지 않거나 이름이 중복된 항목은 건너뛰며, 항목별 등록 결과를 함께 반환합니다.
+     * Idempotency-Key 헤더를 보내면 같은 키로 재시도한 요청에는 처음 처리한 응답을 그대로 반환합니다.
+     *
+     * @param bulkRegisterMembersRequest 일괄 등록할 멤버 정보 (이벤트 ID, 멤버 목록)
+     * @return 성공 여부와 항목별 등록 결과 (멤버 ID 또는 실패 코드/메시지)
+     */
+    @Idempotent(prefix = "member:bulk-register", scope = "#bulkRegisterMembersRequest.eventId()")
+    @PostMapping("/action-bulk-register")
+    public ResponseEntity<ApiResponse<BulkRegisterMembersResponse>> registerMembers(
+            @Valid @RequestBody BulkRegisterMembersRequest bulkRegisterMembersRequest) {
+
+        BulkRegisterMembersResponse bulkRegisterMembersResponse = memberService.registerMembers(bulkRegisterMembersRequest);
+        return ApiResponse.onSuccess(SuccessStatus._BULK_REGISTER_MEMBERS, bulkRegisterMembersResponse);
+    }
+
     /**
      * 멤버 로그인 API.
      *
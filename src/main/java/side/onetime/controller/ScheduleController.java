@@ -1,7 +1,9 @@
 package side.onetime.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import side.onetime.dto.schedule.request.CreateDateScheduleRequest;
@@ -9,9 +11,15 @@ import side.onetime.dto.schedule.request.CreateDayScheduleRequest;
 import side.onetime.dto.schedule.request.GetFilteredSchedulesRequest;
 import side.onetime.dto.schedule.response.PerDateSchedulesResponse;
 import side.onetime.dto.schedule.response.PerDaySchedulesResponse;
+import side.onetime.dto.schedule.response.ScheduleChangesResponse;
+import side.onetime.dto.schedule.response.ScheduleSubmissionResponse;
 import side.onetime.global.common.ApiResponse;
 import side.onetime.global.common.status.SuccessStatus;
+import side.onetime.global.etag.annotation.EventETag;
+import side.onetime.global.idempotency.annotation.Idempotent;
+import side.onetime.service.ScheduleIngestionService;
 import side.onetime.service.ScheduleService;
+import side.onetime.util.ScheduleBitsetWriter;
 
 import java.util.List;
 
@@ -21,22 +29,30 @@ import java.util.List;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final ScheduleIngestionService scheduleIngestionService;
 
     /**
      * 요일 스케줄 등록 API.
      *
      * 요일별 반복되는 스케줄을 등록하는 API입니다.
      * 인증된 사용자와 비인증 사용자에 따라 스케줄 생성 방식이 다릅니다.
+     * Idempotency-Key 헤더를 보내면 같은 키로 재시도한 요청에는 처음 처리한 응답을 그대로 반환합니다.
+     * 비동기 저장 모드에서는 요청을 큐에 접수한 뒤 202 응답과 상태 조회 토큰을 반환합니다.
      *
      * @param createDayScheduleRequest 요일 스케줄 생성 요청 객체 (이벤트 ID, 멤버 ID, 요일 스케줄 목록)
      * @param authorizationHeader 인증된 유저의 토큰 (선택사항)
-     * @return 스케줄 등록 성공 상태
+     * @return 스케줄 등록 성공 상태 (비동기 저장 모드에서는 상태 조회 토큰)
      */
+    @Idempotent(prefix = "schedule:day", scope = "#createDayScheduleRequest.eventId() + ':' + #createDayScheduleRequest.memberId()")
     @PostMapping("/day")
-    public ResponseEntity<ApiResponse<SuccessStatus>> createDaySchedules(
+    public ResponseEntity<ApiResponse<ScheduleSubmissionResponse>> createDaySchedules(
             @Valid @RequestBody CreateDayScheduleRequest createDayScheduleRequest,
             @RequestHeader(value = "Authorization", required = false) String authorizationHeader) {
 
+        if (scheduleIngestionService.isEnabled()) {
+            ScheduleSubmissionResponse scheduleSubmissionResponse = scheduleIngestionService.submitDaySchedules(createDayScheduleRequest, authorizationHeader);
+            return ApiResponse.onSuccess(SuccessStatus._ACCEPTED_DAY_SCHEDULES, scheduleSubmissionResponse);
+        }
         if (authorizationHeader != null) {
             scheduleService.createDaySchedulesForAuthenticatedUser(createDayScheduleRequest, authorizationHeader);
         } else {
@@ -50,16 +66,23 @@ public class ScheduleController {
      *
      * 특정 날짜에 대한 스케줄을 등록하는 API입니다.
      * 인증된 사용자와 비인증 사용자에 따라 스케줄 생성 방식이 다릅니다.
+     * Idempotency-Key 헤더를 보내면 같은 키로 재시도한 요청에는 처음 처리한 응답을 그대로 반환합니다.
+     * 비동기 저장 모드에서는 요청을 큐에 접수한 뒤 202 응답과 상태 조회 토큰을 반환합니다.
      *
      * @param createDateScheduleRequest 날짜 스케줄 생성 요청 객체 (이벤트 ID, 멤버 ID, 날짜 스케줄 목록)
      * @param authorizationHeader 인증된 유저의 토큰 (선택사항)
-     * @return 스케줄 등록 성공 상태
+     * @return 스케줄 등록 성공 상태 (비동기 저장 모드에서는 상태 조회 토큰)
      */
+    @Idempotent(prefix = "schedule:date", scope = "#createDateScheduleRequest.eventId() + ':' + #createDateScheduleRequest.memberId()")
     @PostMapping("/date")
-    public ResponseEntity<ApiResponse<SuccessStatus>> createDateSchedules(
+    public ResponseEntity<ApiResponse<ScheduleSubmissionResponse>> createDateSchedules(
             @Valid @RequestBody CreateDateScheduleRequest createDateScheduleRequest,
             @RequestHeader(value = "Authorization", required = false) String authorizationHeader) {
 
+        if (scheduleIngestionService.isEnabled()) {
+            ScheduleSubmissionResponse scheduleSubmissionResponse = scheduleIngestionService.submitDateSchedules(createDateScheduleRequest, authorizationHeader);
+            return ApiResponse.onSuccess(SuccessStatus._ACCEPTED_DATE_SCHEDULES, scheduleSubmissionResponse);
+        }
         if (authorizationHeader != null) {
             scheduleService.createDateSchedulesForAuthenticatedUser(createDateScheduleRequest, authorizationHeader);
         } else {
@@ -68,14 +91,33 @@ public class ScheduleController {
         return ApiResponse.onSuccess(SuccessStatus._CREATED_DATE_SCHEDULES);
     }
 
+    /**
+     * 스케줄 등록 요청 상태 조회 API.
+     *
+     * 비동기 저장 모드에서 접수된 스케줄 등록 요청의 처리 상태를 조회합니다.
+     * 저장에 실패한 경우 실패 코드와 메시지를 함께 반환합니다.
+     *
+     * @param submissionToken 스케줄 등록 시 발급된 상태 조회 토큰
+     * @return 스케줄 등록 요청 처리 상태
+     */
+    @GetMapping("/submissions/{submission_token}")
+    public ResponseEntity<ApiResponse<ScheduleSubmissionResponse>> getScheduleSubmission(
+            @PathVariable("submission_token") String submissionToken) {
+
+        ScheduleSubmissionResponse scheduleSubmissionResponse = scheduleIngestionService.getSubmission(submissionToken);
+        return ApiResponse.onSuccess(SuccessStatus._GET_SCHEDULE_SUBMISSION, scheduleSubmissionResponse);
+    }
+
     /**
      * 전체 요일 스케줄 조회 API.
      *
      * 특정 이벤트에 등록된 모든 요일 스케줄을 조회합니다.
+     * If-None-Match 헤더가 이벤트 버전으로 만든 ETag와 같으면 조회 없이 304 응답을 반환합니다.
      *
      * @param eventId 조회할 이벤트의 ID
      * @return 이벤트에 등록된 요일 스케줄 목록
      */
+    @EventETag(representation = "json")
     @GetMapping("/day/{event_id}")
     public ResponseEntity<ApiResponse<List<PerDaySchedulesResponse>>> getAllDaySchedules(
             @PathVariable("event_id") String eventId) {
@@ -84,6 +126,48 @@ public class ScheduleController {
         return ApiResponse.onSuccess(SuccessStatus._GET_ALL_DAY_SCHEDULES, perDaySchedulesResponses);
     }
 
+    /**
+     * 전체 요일 스케줄 비트셋 조회 API.
+     *
+     * Accept 헤더가 application/vnd.onetime.schedule-bitset이면 전체 요일 스케줄을 JSON 대신 참여자별 비트셋으로 조회합니다.
+     * 형식은 ScheduleBitsetWriter를 참고하며, ETag는 JSON 응답과 구분되도록 형식 이름을 포함합니다.
+     *
+     * @param eventId 조회할 이벤트의 ID
+     * @return 이벤트에 등록된 요일 스케줄 비트셋
+     */
+    @EventETag(representation = "bitset")
+    @GetMapping(value = "/day/{event_id}", produces = ScheduleBitsetWriter.MEDIA_TYPE_VALUE)
+    public ResponseEntity<byte[]> getAllDaySchedulesBitset(
+            @PathVariable("event_id") String eventId) {
+
+        byte[] bitset = scheduleService.getAllDaySchedulesBitset(eventId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ScheduleBitsetWriter.MEDIA_TYPE_VALUE))
+                .body(bitset);
+    }
+
+    /**
+     * 변경된 요일 스케줄 조회 API.
+     *
+     * since 버전 이후 선택 정보가 바뀐 참여자의 요일 스케줄만 조회합니다.
+     * 응답의 version을 다음 요청의 since로 사용하며, is_full이 true이면 전체 목록이므로 기존 목록을 교체하고
+     * false이면 같은 이름의 참여자 스케줄만 교체합니다.
+     * If-None-Match 헤더가 이벤트 버전으로 만든 ETag와 같으면 조회 없이 304 응답을 반환합니다.
+     *
+     * @param eventId 조회할 이벤트의 ID
+     * @param since 마지막으로 받은 이벤트 버전
+     * @return 현재 이벤트 버전과 변경된 참여자의 요일 스케줄 목록
+     */
+    @EventETag
+    @GetMapping(value = "/day/{event_id}", params = "since")
+    public ResponseEntity<ApiResponse<ScheduleChangesResponse<PerDaySchedulesResponse>>> getDayScheduleChanges(
+            @PathVariable("event_id") String eventId,
+            @RequestParam("since") @Min(0) long since) {
+
+        ScheduleChangesResponse<PerDaySchedulesResponse> scheduleChangesResponse = scheduleService.getDayScheduleChanges(eventId, since);
+        return ApiResponse.onSuccess(SuccessStatus._GET_ALL_DAY_SCHEDULES, scheduleChangesResponse);
+    }
+
     /**
      * 개인 요일 스케줄 조회 API (비로그인).
      *
@@ -140,10 +224,12 @@ public class ScheduleController {
      * 전체 날짜 스케줄 조회 API.
      *
      * 특정 이벤트에 등록된 모든 날짜 스케줄을 조회합니다.
+     * If-None-Match 헤더가 이벤트 버전으로 만든 ETag와 같으면 조회 없이 304 응답을 반환합니다.
      *
      * @param eventId 조회할 이벤트의 ID
      * @return 이벤트에 등록된 날짜 스케줄 목록
      */
+    @EventETag(representation = "json")
     @GetMapping("/date/{event_id}")
     public ResponseEntity<ApiResponse<List<PerDateSchedulesResponse>>> getAllDateSchedules(
             @PathVariable("event_id") String eventId) {
@@ -152,6 +238,48 @@ public class ScheduleController {
         return ApiResponse.onSuccess(SuccessStatus._GET_ALL_DATE_SCHEDULES, perDateSchedulesResponses);
     }
 
+    /**
+     * 전체 날짜 스케줄 비트셋 조회 API.
+     *
+     * Accept 헤더가 application/vnd.onetime.schedule-bitset이면 전체 날짜 스케줄을 JSON 대신 참여자별 비트셋으로 조회합니다.
+     * 형식은 ScheduleBitsetWriter를 참고하며, ETag는 JSON 응답과 구분되도록 형식 이름을 포함합니다.
+     *
+     * @param eventId 조회할 이벤트의 ID
+     * @return 이벤트에 등록된 날짜 스케줄 비트셋
+     */
+    @EventETag(representation = "bitset")
+    @GetMapping(value = "/date/{event_id}", produces = ScheduleBitsetWriter.MEDIA_TYPE_VALUE)
+    public ResponseEntity<byte[]> getAllDateSchedulesBitset(
+            @PathVariable("event_id") String eventId) {
+
+        byte[] bitset = scheduleService.getAllDateSchedulesBitset(eventId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ScheduleBitsetWriter.MEDIA_TYPE_VALUE))
+                .body(bitset);
+    }
+
+    /**
+     * 변경된 날짜 스케줄 조회 API.
+     *
+     * since 버전 이후 선택 정보가 바뀐 참여자의 날짜 스케줄만 조회합니다.
+     * 응답의 version을 다음 요청의 since로 사용하며, is_full이 true이면 전체 목록이므로 기존 목록을 교체하고
+     * false이면 같은 이름의 참여자 스케줄만 교체합니다.
+     * If-None-Match 헤더가 이벤트 버전으로 만든 ETag와 같으면 조회 없이 304 응답을 반환합니다.
+     *
+     * @param eventId 조회할 이벤트의 ID
+     * @param since 마지막으로 받은 이벤트 버전
+     * @return 현재 이벤트 버전과 변경된 참여자의 날짜 스케줄 목록
+     */
+    @EventETag
+    @GetMapping(value = "/date/{event_id}", params = "since")
+    public ResponseEntity<ApiResponse<ScheduleChangesResponse<PerDateSchedulesResponse>>> getDateScheduleChanges(
+            @PathVariable("event_id") String eventId,
+            @RequestParam("since") @Min(0) long since) {
+
+        ScheduleChangesResponse<PerDateSchedulesResponse> scheduleChangesResponse = scheduleService.getDateScheduleChanges(eventId, since);
+        return ApiResponse.onSuccess(SuccessStatus._GET_ALL_DATE_SCHEDULES, scheduleChangesResponse);
+    }
+
     /**
      * 개인 날짜 스케줄 조회 API (비로그인).
      *
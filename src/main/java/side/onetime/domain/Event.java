@@ -40,6 +40,10 @@ public class Event extends BaseEntity {
     @Column(name = "qr_file_name")
     private String qrFileName;
 
+    // 선택 정보가 바뀔 때마다 증가하는 버전 (엔티티 수정 시 덮어쓰지 않도록 벌크 UPDATE로만 변경)
+    @Column(name = "selection_version", nullable = false, updatable = false)
+    private Long selectionVersion = 0L;
+
     @OneToMany(mappedBy = "event",cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Member> members;
 
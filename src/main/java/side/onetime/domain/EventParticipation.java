@@ -30,6 +30,10 @@ public class EventParticipation extends BaseEntity {
     @Column(name = "event_status", nullable = false)
     private EventStatus eventStatus;
 
+    // 이 참여자의 선택 정보가 바뀔 때마다 증가하는 버전 (같은 참여자의 동시 저장 충돌 확인용, 벌크 UPDATE로만 변경)
+    @Column(name = "selection_version", nullable = false, updatable = false)
+    private Long selectionVersion = 0L;
+
     @Builder
     public EventParticipation(Event event, User user, EventStatus eventStatus) {
         this.event = event;
@@ -33,6 +33,10 @@ public class Member extends BaseEntity {
     @Column(name = "pin", nullable = false, length = 4)
     private String pin;
 
+    // 이 참여자의 선택 정보가 바뀔 때마다 증가하는 버전 (같은 참여자의 동시 저장 충돌 확인용, 벌크 UPDATE로만 변경)
+    @Column(name = "selection_version", nullable = false, updatable = false)
+    private Long selectionVersion = 0L;
+
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Selection> selections;
 
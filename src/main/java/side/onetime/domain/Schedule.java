@@ -6,13 +6,16 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import side.onetime.global.common.dao.BaseEntity;
+import side.onetime.util.SlotKey;
 
 import java.util.List;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@Table(name = "schedules")
+@Table(name = "schedules", indexes = {
+        @Index(name = "schedules_idx_events_id_slot_key", columnList = "events_id, slot_key")
+})
 public class Schedule extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,6 +35,9 @@ public class Schedule extends BaseEntity {
     @Column(name = "time", nullable = false, length = 10)
     private String time;
 
+    @Column(name = "slot_key")
+    private Integer slotKey;
+
     @OneToMany(mappedBy = "schedule",cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Selection> selections;
 
@@ -41,5 +47,6 @@ public class Schedule extends BaseEntity {
         this.date = date;
         this.day = day;
         this.time = time;
+        this.slotKey = SlotKey.encode(date, day, time);
     }
 }
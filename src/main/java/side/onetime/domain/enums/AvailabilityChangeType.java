@@ -0,0 +1,6 @@
+package side.onetime.domain.enums;
+
+public enum AvailabilityChangeType {
+    SELECTION,  // 참여자 한 명의 선택 정보 교체
+    RESET       // 이벤트 수정/삭제, 참여자 정보 변경 등으로 전체 다시 조회 필요
+}
@@ -0,0 +1,7 @@
+package side.onetime.domain.enums;
+
+public enum SubmissionStatus {
+    PENDING,    // 저장 대기 중
+    COMPLETED,  // 저장 완료
+    FAILED      // 저장 실패
+}
@@ -0,0 +1,38 @@
+package side.onetime.dto.admin.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import side.onetime.service.ScheduleIngestionService;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record GetScheduleIngestionStatsResponse(
+        boolean enabled,
+        int queueDepth,
+        int queueCapacity,
+        long acceptedCount,
+        long rejectedCount,
+        long completedCount,
+        long failedCount,
+        long batchCount,
+        double averageBatchSize,
+        int maxBatchSize,
+        double averageDrainLatencyMillis,
+        double maxDrainLatencyMillis
+) {
+    public static GetScheduleIngestionStatsResponse from(ScheduleIngestionService.Stats stats) {
+        return new GetScheduleIngestionStatsResponse(
+                stats.enabled(),
+                stats.queueDepth(),
+                stats.queueCapacity(),
+                stats.acceptedCount(),
+                stats.rejectedCount(),
+                stats.completedCount(),
+                stats.failedCount(),
+                stats.batchCount(),
+                stats.averageBatchSize(),
+                stats.maxBatchSize(),
+                stats.averageDrainLatencyMillis(),
+                stats.maxDrainLatencyMillis()
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package side.onetime.dto.event.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import side.onetime.domain.Member;
+import side.onetime.domain.User;
+import side.onetime.domain.enums.AvailabilityChangeType;
+import side.onetime.global.json.SelectedSlotsSerializer;
+import side.onetime.util.ScheduleGrid;
+import side.onetime.util.SelectedSlots;
+import side.onetime.util.SlotKey;
+
+import java.util.List;
+import java.util.UUID;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AvailabilityChangeResponse(
+        AvailabilityChangeType type,
+        String eventId,
+        GetParticipantsResponse.Participant member,
+        GetParticipantsResponse.Participant user,
+        @JsonSerialize(using = SelectedSlotsSerializer.class)
+        SelectedSlots schedules
+) {
+    public static AvailabilityChangeResponse ofMember(UUID eventId, Member member, List<ScheduleGrid.Cell> cells) {
+        return new AvailabilityChangeResponse(
+                AvailabilityChangeType.SELECTION,
+                eventId.toString(),
+                GetParticipantsResponse.Participant.of(member.getId(), member.getName()),
+                null,
+                toSelectedSlots(cells)
+        );
+    }
+
+    public static AvailabilityChangeResponse ofUser(UUID eventId, User user, List<ScheduleGrid.Cell> cells) {
+        return new AvailabilityChangeResponse(
+                AvailabilityChangeType.SELECTION,
+                eventId.toString(),
+                null,
+                GetParticipantsResponse.Participant.of(user.getId(), user.getNickname()),
+                toSelectedSlots(cells)
+        );
+    }
+
+    public static AvailabilityChangeResponse reset(UUID eventId) {
+        return new AvailabilityChangeResponse(AvailabilityChangeType.RESET, eventId.toString(), null, null, null);
+    }
+
+    private static SelectedSlots toSelectedSlots(List<ScheduleGrid.Cell> cells) {
+        SelectedSlots schedules = new SelectedSlots();
+        for (ScheduleGrid.Cell cell : cells) {
+            schedules.addSlot(schedules.addTimePoint(cell.timePoint()), SlotKey.parseMinuteOfDay(cell.time()));
+        }
+        return schedules;
+    }
+}
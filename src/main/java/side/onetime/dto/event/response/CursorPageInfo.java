@@ -0,0 +1,21 @@
+package side.onetime.dto.event.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.UUID;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record CursorPageInfo(
+        int size,
+        boolean hasNext,
+        UUID nextCursor
+) {
+    public static CursorPageInfo of(int size, boolean hasNext, UUID nextCursor) {
+        return new CursorPageInfo(
+                size,
+                hasNext,
+                nextCursor
+        );
+    }
+}
@@ -18,7 +18,8 @@ public record GetEventResponse(
         String endTime,
         Category category,
         List<String> ranges,
-        EventStatus eventStatus
+        EventStatus eventStatus,
+        Long selectionVersion
 ) {
     public static GetEventResponse of(Event event, List<String> ranges, EventStatus eventStatus) {
         return new GetEventResponse(
@@ -28,7 +29,8 @@ public record GetEventResponse(
                 event.getEndTime(),
                 event.getCategory(),
                 ranges,
-                EventStatus.PARTICIPANT == eventStatus || eventStatus == null ? eventStatus : EventStatus.CREATOR
+                EventStatus.PARTICIPANT == eventStatus || eventStatus == null ? eventStatus : EventStatus.CREATOR,
+                event.getSelectionVersion()
         );
     }
 }
@@ -0,0 +1,26 @@
+package side.onetime.dto.event.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import side.onetime.domain.enums.Category;
+
+import java.util.List;
+
+@JsonNaming(value = PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GetHeatmapResponse(
+        Category category,
+        int participantCount,
+        List<String> participantNames,
+        List<HeatmapSlot> slots
+) {
+    public static GetHeatmapResponse of(Category category, int participantCount, List<String> participantNames, List<HeatmapSlot> slots) {
+        return new GetHeatmapResponse(
+                category,
+                participantCount,
+                participantNames,
+                slots
+        );
+    }
+}
@@ -3,7 +3,6 @@ package side.onetime.dto.event.response;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
-import side.onetime.domain.Schedule;
 
 import java.util.List;
 
@@ -19,22 +18,11 @@ public record GetMostPossibleTime(
         List<String> possibleNames,
         List<String> impossibleNames
 ) {
-    public static GetMostPossibleTime dayOf(Schedule schedule, List<String> possibleNames, List<String> impossibleNames) {
+    public static GetMostPossibleTime of(String timePoint, String time, List<String> possibleNames, List<String> impossibleNames) {
         return new GetMostPossibleTime(
-                schedule.getDay(),
-                schedule.getTime(),
-                addThirtyMinutes(schedule.getTime()),
-                possibleNames.size(),
-                possibleNames,
-                impossibleNames
-        );
-    }
-
-    public static GetMostPossibleTime dateOf(Schedule schedule, List<String> possibleNames, List<String> impossibleNames) {
-        return new GetMostPossibleTime(
-                schedule.getDate(),
-                schedule.getTime(),
-                addThirtyMinutes(schedule.getTime()),
+                timePoint,
+                time,
+                addThirtyMinutes(time),
                 possibleNames.size(),
                 possibleNames,
                 impossibleNames
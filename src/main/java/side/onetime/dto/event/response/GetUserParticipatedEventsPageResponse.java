@@ -0,0 +1,19 @@
+package side.onetime.dto.event.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.List;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record GetUserParticipatedEventsPageResponse(
+        List<GetUserParticipatedEventsResponse> events,
+        CursorPageInfo pageInfo
+) {
+    public static GetUserParticipatedEventsPageResponse of(List<GetUserParticipatedEventsResponse> events, CursorPageInfo pageInfo) {
+        return new GetUserParticipatedEventsPageResponse(
+                events,
+                pageInfo
+        );
+    }
+}
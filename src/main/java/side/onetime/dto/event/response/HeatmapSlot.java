@@ -0,0 +1,25 @@
+package side.onetime.dto.event.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.List;
+
+@JsonNaming(value = PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record HeatmapSlot(
+        String timePoint,
+        String time,
+        int possibleCount,
+        List<Integer> participantIndexes
+) {
+    public static HeatmapSlot of(String timePoint, String time, int possibleCount, List<Integer> participantIndexes) {
+        return new HeatmapSlot(
+                timePoint,
+                time,
+                possibleCount,
+                participantIndexes
+        );
+    }
+}
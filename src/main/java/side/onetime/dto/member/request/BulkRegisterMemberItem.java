@@ -0,0 +1,32 @@
+package side.onetime.dto.member.request;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import side.onetime.domain.Event;
+import side.onetime.domain.Member;
+import side.onetime.dto.member.response.ScheduleResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 일괄 등록할 멤버 항목.
+ * 항목별 검증 결과를 응답하기 위해 Bean Validation 대신 서비스에서 검증합니다.
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkRegisterMemberItem(
+        String name,
+        String pin,
+        List<ScheduleResponse> schedules
+) {
+    public Member toEntity(Event event) {
+        return Member.builder()
+                .event(event)
+                .memberId(UUID.randomUUID())
+                .name(name)
+                .pin(pin)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package side.onetime.dto.member.request;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkRegisterMembersRequest(
+        @NotBlank(message = "Event ID는 필수 값입니다.") String eventId,
+        @NotEmpty(message = "멤버 목록은 필수 값입니다.")
+        @Size(max = 1000, message = "멤버는 한 번에 최대 1000명까지 등록할 수 있습니다.") List<BulkRegisterMemberItem> members
+) {
+}
@@ -0,0 +1,27 @@
+package side.onetime.dto.member.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import side.onetime.domain.Member;
+import side.onetime.global.common.code.BaseErrorCode;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkRegisterMemberResult(
+        int index,
+        String name,
+        boolean isSuccess,
+        String memberId,
+        String code,
+        String message
+) {
+    public static BulkRegisterMemberResult success(int index, Member member) {
+        return new BulkRegisterMemberResult(index, member.getName(), true, String.valueOf(member.getMemberId()), null, null);
+    }
+
+    public static BulkRegisterMemberResult failure(int index, String name, BaseErrorCode errorCode) {
+        return new BulkRegisterMemberResult(index, name, false, null,
+                errorCode.getReason().getCode(), errorCode.getReason().getMessage());
+    }
+}
@@ -0,0 +1,27 @@
+package side.onetime.dto.member.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import side.onetime.domain.Event;
+
+import java.util.List;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkRegisterMembersResponse(
+        String category,
+        int registeredCount,
+        int failedCount,
+        List<BulkRegisterMemberResult> results
+) {
+    public static BulkRegisterMembersResponse of(Event event, List<BulkRegisterMemberResult> results) {
+        int registeredCount = (int) results.stream().filter(BulkRegisterMemberResult::isSuccess).count();
+        return new BulkRegisterMembersResponse(
+                event.getCategory().name(),
+                registeredCount,
+                results.size() - registeredCount,
+                results
+        );
+    }
+}
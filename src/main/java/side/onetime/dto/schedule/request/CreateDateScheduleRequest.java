@@ -1,12 +1,16 @@
 package side.onetime.dto.schedule.request;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import side.onetime.dto.schedule.response.DateSchedule;
+import side.onetime.global.json.SelectedSlotsDeserializer;
+import side.onetime.global.json.SelectedSlotsSerializer;
+import side.onetime.util.SelectedSlots;
 
 import java.util.List;
 
@@ -15,6 +19,15 @@ import java.util.List;
 public record CreateDateScheduleRequest(
         @NotBlank(message = "Event ID는 필수 값입니다.") String eventId,
         String memberId,
-        @JsonProperty("schedules") @NotNull(message = "스케줄 목록은 필수 값입니다.") List<DateSchedule> dateSchedules
+        @JsonSerialize(using = SelectedSlotsSerializer.class)
+        @JsonDeserialize(using = SelectedSlotsDeserializer.class)
+        @NotNull(message = "스케줄 목록은 필수 값입니다.") SelectedSlots schedules
 ) {
+    public static CreateDateScheduleRequest of(String eventId, String memberId, List<DateSchedule> dateSchedules) {
+        SelectedSlots schedules = new SelectedSlots();
+        for (DateSchedule dateSchedule : dateSchedules) {
+            schedules.add(dateSchedule.date(), dateSchedule.times());
+        }
+        return new CreateDateScheduleRequest(eventId, memberId, schedules);
+    }
 }
@@ -0,0 +1,21 @@
+package side.onetime.dto.schedule.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.List;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record ScheduleChangesResponse<T>(
+        long version,
+        boolean isFull,
+        List<T> schedules
+) {
+    public static <T> ScheduleChangesResponse<T> full(long version, List<T> schedules) {
+        return new ScheduleChangesResponse<>(version, true, schedules);
+    }
+
+    public static <T> ScheduleChangesResponse<T> changed(long version, List<T> schedules) {
+        return new ScheduleChangesResponse<>(version, false, schedules);
+    }
+}
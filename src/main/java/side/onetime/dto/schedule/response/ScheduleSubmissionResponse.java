@@ -0,0 +1,19 @@
+package side.onetime.dto.schedule.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import side.onetime.domain.enums.SubmissionStatus;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ScheduleSubmissionResponse(
+        String submissionToken,
+        SubmissionStatus status,
+        String code,
+        String message
+) {
+    public static ScheduleSubmissionResponse of(String submissionToken, SubmissionStatus status) {
+        return new ScheduleSubmissionResponse(submissionToken, status, null, null);
+    }
+}
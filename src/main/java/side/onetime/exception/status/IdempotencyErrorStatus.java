@@ -0,0 +1,39 @@
+package side.onetime.exception.status;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import side.onetime.global.common.code.BaseErrorCode;
+import side.onetime.global.common.dto.ErrorReasonDto;
+
+@Getter
+@RequiredArgsConstructor
+public enum IdempotencyErrorStatus implements BaseErrorCode {
+    _IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "IDEMPOTENCY-001", "같은 Idempotency-Key의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    _IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY-002", "다른 요청에 이미 사용된 Idempotency-Key입니다."),
+    _INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "IDEMPOTENCY-003", "Idempotency-Key는 1~255자여야 합니다."),
+    ;
+
+    private final HttpStatus httpStatus;
+    private final String code;
+    private final String message;
+
+    @Override
+    public ErrorReasonDto getReason() {
+        return ErrorReasonDto.builder()
+                .isSuccess(false)
+                .code(code)
+                .message(message)
+                .build();
+    }
+
+    @Override
+    public ErrorReasonDto getReasonHttpStatus() {
+        return ErrorReasonDto.builder()
+                .isSuccess(false)
+                .httpStatus(httpStatus)
+                .code(code)
+                .message(message)
+                .build();
+    }
+}
@@ -12,7 +12,8 @@ public enum MemberErrorStatus implements BaseErrorCode {
     _NOT_FOUND_MEMBER(HttpStatus.NOT_FOUND, "MEMBER-001", "멤버를 찾을 수 없습니다."),
     _IS_EXISTED_NAME(HttpStatus.CONFLICT, "MEMBER-002", "이미 존재하는 이름입니다."),
     _IS_ALREADY_REGISTERED(HttpStatus.CONFLICT, "MEMBER-003", "이미 등록된 멤버입니다."),
-    _NOT_FOUND_MEMBERS(HttpStatus.NOT_FOUND, "MEMBER-004", "멤버 전체 목록을 가져오는 데 실패했습니다.")
+    _NOT_FOUND_MEMBERS(HttpStatus.NOT_FOUND, "MEMBER-004", "멤버 전체 목록을 가져오는 데 실패했습니다."),
+    _INVALID_MEMBER_INFO(HttpStatus.BAD_REQUEST, "MEMBER-005", "이름, PIN, 스케줄 목록은 필수 값입니다.")
     ;
 
     private final HttpStatus httpStatus;
@@ -12,6 +12,9 @@ public enum ScheduleErrorStatus implements BaseErrorCode {
     _NOT_FOUND_ALL_SCHEDULES(HttpStatus.NOT_FOUND, "SCHEDULE-001", "전체 스케줄을 가져오는 데 실패했습니다."),
     _NOT_FOUND_DAY_SCHEDULES(HttpStatus.NOT_FOUND, "SCHEDULE-002", "요일 스케줄을 가져오는 데 실패했습니다."),
     _NOT_FOUND_DATE_SCHEDULES(HttpStatus.NOT_FOUND, "SCHEDULE-003", "날짜 스케줄을 가져오는 데 실패했습니다."),
+    _CONFLICT_SCHEDULE_UPDATE(HttpStatus.CONFLICT, "SCHEDULE-004", "동시에 수정된 스케줄이 있어 저장하지 못했습니다. 다시 시도해주세요."),
+    _TOO_MANY_SCHEDULE_SUBMISSIONS(HttpStatus.TOO_MANY_REQUESTS, "SCHEDULE-005", "스케줄 등록 요청이 많아 접수하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    _NOT_FOUND_SCHEDULE_SUBMISSION(HttpStatus.NOT_FOUND, "SCHEDULE-006", "스케줄 등록 요청을 찾을 수 없습니다."),
     ;
 
     private final HttpStatus httpStatus;
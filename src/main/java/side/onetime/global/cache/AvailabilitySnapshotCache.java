@@ -0,0 +1,270 @@
+package side.onetime.global.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import side.onetime.domain.Member;
+import side.onetime.domain.User;
+import side.onetime.util.AvailabilityMatrix;
+import side.onetime.util.ScheduleGrid;
+import side.onetime.util.TransactionUtil;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 이벤트별 가용성 스냅샷 캐시.
+ *
+ * 이벤트 UUID마다 전체 참여자(멤버 + CREATOR를 제외한 유저)의 가용성 매트릭스를 적재 시점의 이벤트 선택 버전과 함께 보관합니다.
+ * 조회 시 현재 이벤트 선택 버전보다 오래된 스냅샷은 다시 적재하므로, 다른 인스턴스에서 커밋된 변경도 다음 조회에 반영됩니다.
+ * 스케줄 등록 및 멤버 등록 시에는 해당 참여자의 선택 정보만 교체하며 스냅샷 버전을 변경이 반영된 버전으로 올리고,
+ * 그 사이 다른 변경이 있었으면 무효화합니다. 이벤트 수정/삭제 시에는 스냅샷을 무효화합니다. 모든 변경은 트랜잭션 커밋 이후에 반영됩니다.
+ */
+@Component
+public class AvailabilitySnapshotCache {
+
+    private final LruCache<UUID, Snapshot> snapshots;
+    private final Map<UUID, Object> loadingTokens = new ConcurrentHashMap<>();
+
+    /**
+     * 버전이 있는 스냅샷.
+     * 매트릭스와 버전은 스냅샷 객체로 동기화합니다.
+     */
+    private static final class Snapshot {
+        private final AvailabilityMatrix matrix;
+        private long version;
+
+        private Snapshot(AvailabilityMatrix matrix, long version) {
+            this.matrix = matrix;
+            this.version = version;
+        }
+    }
+
+    public AvailabilitySnapshotCache(
+            @Value("${cache.availability.maximum-size:1000}") int maximumSize,
+            @Value("${cache.availability.time-to-live:PT10M}") Duration timeToLive) {
+        this.snapshots = new LruCache<>("availability-snapshot", maximumSize, timeToLive);
+    }
+
+    /**
+     * 스냅샷 조회 메서드.
+     * 캐시에 스냅샷이 없거나 스냅샷 버전이 현재 버전보다 오래되었으면 loader로 적재한 뒤 캐시에 저장합니다.
+     * 적재 도중 같은 이벤트에 변경이 커밋된 경우, 적재한 스냅샷은 캐시에 저장하지 않습니다.
+     *
+     * @param eventId 이벤트 UUID
+     * @param version 적재 전에 조회한 현재 이벤트 선택 버전
+     * @param loader 캐시 실패 시 스냅샷을 생성하는 함수
+     * @param reader 스냅샷으로부터 결과를 계산하는 함수
+     * @return reader의 계산 결과
+     */
+    public <R> R read(UUID eventId, long version, Supplier<AvailabilityMatrix> loader, Function<AvailabilityMatrix, R> reader) {
+        Snapshot snapshot = getIfCurrent(eventId, version);
+        if (snapshot == null) {
+            Object token = new Object();
+            loadingTokens.put(eventId, token);
+            try {
+                snapshot = new Snapshot(loader.get(), version);
+                synchronized (snapshots) {
+                    if (loadingTokens.get(eventId) == token) {
+                        snapshots.put(eventId, snapshot);
+                    }
+                }
+            } finally {
+                loadingTokens.remove(eventId, token);
+            }
+        }
+        synchronized (snapshot) {
+            return reader.apply(snapshot.matrix);
+        }
+    }
+
+    /**
+     * 여러 이벤트의 스냅샷 일괄 조회 메서드.
+     * 캐시에 없거나 버전이 오래된 이벤트만 모아 loader를 한 번 호출하여 적재합니다.
+     * 적재 도중 같은 이벤트에 변경이 커밋된 경우, 해당 스냅샷은 캐시에 저장하지 않습니다.
+     *
+     * @param versions 이벤트 UUID별 적재 전에 조회한 현재 이벤트 선택 버전
+     * @param loader 캐시 실패한 이벤트 UUID 목록으로 스냅샷을 일괄 생성하는 함수
+     * @param reader 스냅샷으로부터 결과를 계산하는 함수
+     * @return 이벤트 UUID별 reader의 계산 결과
+     */
+    public <R> Map<UUID, R> readAll(Map<UUID, Long> versions,
+                                    Function<List<UUID>, Map<UUID, AvailabilityMatrix>> loader,
+                                    Function<AvailabilityMatrix, R> reader) {
+        Map<UUID, Snapshot> found = new HashMap<>();
+        Map<UUID, Object> tokens = new HashMap<>();
+        for (UUID eventId : versions.keySet()) {
+            Snapshot snapshot = getIfCurrent(eventId, versions.get(eventId));
+            if (snapshot != null) {
+                found.put(eventId, snapshot);
+            } else if (!tokens.containsKey(eventId)) {
+                Object token = new Object();
+                loadingTokens.put(eventId, token);
+                tokens.put(eventId, token);
+            }
+        }
+
+        if (!tokens.isEmpty()) {
+            try {
+                Map<UUID, AvailabilityMatrix> loaded = loader.apply(new ArrayList<>(tokens.keySet()));
+                synchronized (snapshots) {
+                    loaded.forEach((eventId, matrix) -> {
+                        Snapshot snapshot = new Snapshot(matrix, versions.get(eventId));
+                        if (loadingTokens.get(eventId) == tokens.get(eventId)) {
+                            snapshots.put(eventId, snapshot);
+                        }
+                        found.put(eventId, snapshot);
+                    });
+                }
+            } finally {
+                tokens.forEach(loadingTokens::remove);
+            }
+        }
+
+        Map<UUID, R> results = new HashMap<>();
+        found.forEach((eventId, snapshot) -> {
+            synchronized (snapshot) {
+                results.put(eventId, reader.apply(snapshot.matrix));
+            }
+        });
+        return results;
+    }
+
+    /**
+     * 멤버 선택 정보 반영 메서드.
+     * 스냅샷이 변경 직전 버전(또는 같은 트랜잭션의 변경이 이미 반영된 버전)이면 선택 정보를 교체하고 버전을 올리며,
+     * 그보다 오래되었으면 무효화하고, 더 새로우면 이미 반영된 것이므로 그대로 둡니다.
+     *
+     * @param eventId 이벤트 UUID
+     * @param version 변경이 반영된 이벤트 선택 버전
+     * @param member 선택을 제출한 멤버
+     * @param cells 새로 선택한 스케줄 셀 목록
+     */
+    public void replaceSelections(UUID eventId, long version, Member member, List<ScheduleGrid.Cell> cells) {
+        Long memberId = member.getId();
+        String name = member.getName();
+        update(eventId, version, matrix -> matrix.replaceMemberSelections(memberId, name, cells));
+    }
+
+    /**
+     * 유저 선택 정보 반영 메서드.
+     * 스냅샷이 변경 직전 버전(또는 같은 트랜잭션의 변경이 이미 반영된 버전)이면 선택 정보를 교체하고 버전을 올리며,
+     * 그보다 오래되었으면 무효화하고, 더 새로우면 이미 반영된 것이므로 그대로 둡니다.
+     *
+     * @param eventId 이벤트 UUID
+     * @param version 변경이 반영된 이벤트 선택 버전
+     * @param user 선택을 제출한 유저
+     * @param cells 새로 선택한 스케줄 셀 목록
+     */
+    public void replaceSelections(UUID eventId, long version, User user, List<ScheduleGrid.Cell> cells) {
+        Long userId = user.getId();
+        String nickname = user.getNickname();
+        update(eventId, version, matrix -> matrix.replaceUserSelections(userId, nickname, cells));
+    }
+
+    /**
+     * 저장 대기 중인 멤버 선택 정보 반영 메서드.
+     * 쓰기 지연 모드에서 아직 저장되지 않아 버전이 바뀌지 않은 선택 정보를, 스냅샷 버전은 그대로 두고 덮어씁니다.
+     * 스냅샷을 다시 적재해도 SelectionWriter.applyPending으로 같은 선택 정보가 반영됩니다.
+     *
+     * @param eventId 이벤트 UUID
+     * @param member 선택을 제출한 멤버
+     * @param cells 새로 선택한 스케줄 셀 목록
+     */
+    public void replacePendingSelections(UUID eventId, Member member, List<ScheduleGrid.Cell> cells) {
+        Long memberId = member.getId();
+        String name = member.getName();
+        updatePending(eventId, matrix -> matrix.replaceMemberSelections(memberId, name, cells));
+    }
+
+    /**
+     * 저장 대기 중인 유저 선택 정보 반영 메서드.
+     * 쓰기 지연 모드에서 아직 저장되지 않아 버전이 바뀌지 않은 선택 정보를, 스냅샷 버전은 그대로 두고 덮어씁니다.
+     *
+     * @param eventId 이벤트 UUID
+     * @param user 선택을 제출한 유저
+     * @param cells 새로 선택한 스케줄 셀 목록
+     */
+    public void replacePendingSelections(UUID eventId, User user, List<ScheduleGrid.Cell> cells) {
+        Long userId = user.getId();
+        String nickname = user.getNickname();
+        updatePending(eventId, matrix -> matrix.replaceUserSelections(userId, nickname, cells));
+    }
+
+    /**
+     * 스냅샷 무효화 메서드.
+     * 스케줄 범위/시간 변경, 이벤트 삭제, 참여자 정보 변경 등 증분 반영이 어려운 경우 사용합니다.
+     *
+     * @param eventId 이벤트 UUID
+     */
+    public void invalidate(UUID eventId) {
+        TransactionUtil.afterCommit(() -> {
+            synchronized (snapshots) {
+                loadingTokens.remove(eventId);
+                snapshots.invalidate(eventId);
+            }
+        });
+    }
+
+    public CacheStats getStats() {
+        return snapshots.getStats();
+    }
+
+    private Snapshot getIfCurrent(UUID eventId, long version) {
+        Snapshot snapshot = snapshots.get(eventId);
+        if (snapshot == null) {
+            return null;
+        }
+        synchronized (snapshot) {
+            // 이 인스턴스에서 커밋된 변경으로 조회한 버전보다 앞선 스냅샷도 그대로 사용
+            return snapshot.version >= version ? snapshot : null;
+        }
+    }
+
+    private void update(UUID eventId, long version, Consumer<AvailabilityMatrix> updater) {
+        TransactionUtil.afterCommit(() -> {
+            Snapshot snapshot;
+            synchronized (snapshots) {
+                loadingTokens.remove(eventId);
+                snapshot = snapshots.peek(eventId);
+            }
+            if (snapshot == null) {
+                return;
+            }
+            boolean stale;
+            synchronized (snapshot) {
+                stale = snapshot.version < version - 1;
+                if (!stale && snapshot.version <= version) {
+                    updater.accept(snapshot.matrix);
+                    snapshot.version = version;
+                }
+            }
+            if (stale) {
+                // 그 사이 반영되지 않은 변경이 있으므로 다음 조회에서 다시 적재
+                synchronized (snapshots) {
+                    if (snapshots.peek(eventId) == snapshot) {
+                        snapshots.invalidate(eventId);
+                    }
+                }
+            }
+        });
+    }
+
+    private void updatePending(UUID eventId, Consumer<AvailabilityMatrix> updater) {
+        TransactionUtil.afterCommit(() -> {
+            Snapshot snapshot;
+            synchronized (snapshots) {
+                loadingTokens.remove(eventId);
+                snapshot = snapshots.peek(eventId);
+            }
+            if (snapshot != null) {
+                synchronized (snapshot) {
+                    updater.accept(snapshot.matrix);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package side.onetime.global.cache;
+
+public record CacheStats(
+        String name,
+        int size,
+        int maximumSize,
+        long hitCount,
+        long missCount,
+        long evictionCount
+) {
+    public double hitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+    }
+}
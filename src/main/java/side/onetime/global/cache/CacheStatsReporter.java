@@ -0,0 +1,39 @@
+package side.onetime.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 인메모리 캐시 통계 리포터.
+ *
+ * 가용성 스냅샷, 스케줄 그리드, 직렬화된 응답 캐시의 통계를 주기적으로 로그로 출력합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheStatsReporter {
+
+    private final AvailabilitySnapshotCache availabilitySnapshotCache;
+    private final ScheduleGridCache scheduleGridCache;
+    private final SerializedResponseCache serializedResponseCache;
+
+    /**
+     * 캐시 통계 로그 출력 메서드.
+     */
+    @Scheduled(fixedDelayString = "${cache.stats-log-interval:PT10M}")
+    public void logStats() {
+        List<CacheStats> allStats = List.of(
+                availabilitySnapshotCache.getStats(),
+                scheduleGridCache.getStats(),
+                serializedResponseCache.getStats());
+        for (CacheStats stats : allStats) {
+            log.info("📊 캐시 통계 [{}] size={}/{}, hit={}, miss={}, eviction={}, hitRate={}",
+                    stats.name(), stats.size(), stats.maximumSize(), stats.hitCount(), stats.missCount(),
+                    stats.evictionCount(), String.format("%.2f", stats.hitRate()));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package side.onetime.global.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크기 제한(LRU)과 TTL 만료를 지원하는 인메모리 캐시.
+ *
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목을 제거하고,
+ * 적재 후 TTL이 지난 항목은 조회 시점에 만료 처리합니다.
+ * 조회 적중/실패 및 제거 횟수를 집계합니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class LruCache<K, V> {
+
+    private final String name;
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private final LinkedHashMap<K, CachedValue<V>> entries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    private record CachedValue<V>(V value, long loadedAt) {
+    }
+
+    public LruCache(String name, int maximumSize, Duration timeToLive) {
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedValue<V>> eldest) {
+                if (size() > LruCache.this.maximumSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회 메서드.
+     * 만료된 항목은 제거 후 조회 실패로 처리합니다.
+     *
+     * @param key 조회할 키
+     * @return 캐시된 값 (없거나 만료된 경우 null)
+     */
+    public synchronized V get(K key) {
+        V value = getIfFresh(key);
+        if (value == null) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * 통계에 반영하지 않는 캐시 조회 메서드.
+     * 캐시된 값을 갱신하는 쓰기 경로에서 사용합니다.
+     *
+     * @param key 조회할 키
+     * @return 캐시된 값 (없거나 만료된 경우 null)
+     */
+    public synchronized V peek(K key) {
+        return getIfFresh(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new CachedValue<>(value, System.nanoTime()));
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * 캐시 통계 조회 메서드.
+     *
+     * @return 현재 크기 및 적중/실패/제거 횟수
+     */
+    public synchronized CacheStats getStats() {
+        return new CacheStats(name, entries.size(), maximumSize, hitCount.get(), missCount.get(), evictionCount.get());
+    }
+
+    private V getIfFresh(K key) {
+        CachedValue<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.loadedAt() > timeToLiveNanos) {
+            entries.remove(key);
+            evictionCount.incrementAndGet();
+            return null;
+        }
+        return entry.value();
+    }
+}
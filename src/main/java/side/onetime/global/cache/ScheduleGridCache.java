@@ -0,0 +1,91 @@
+package side.onetime.global.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import side.onetime.util.ScheduleGrid;
+import side.onetime.util.TransactionUtil;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 이벤트별 스케줄 그리드 캐시.
+ *
+ * 스케줄은 이벤트 수정 시에만 바뀌므로, 이벤트 UUID마다 불변 스케줄 그리드를 적재 시점의 이벤트 선택 버전과 함께 보관합니다.
+ * 이벤트 수정은 선택 버전을 올리므로, 조회 시 현재 선택 버전보다 오래된 그리드는 다시 적재하여 다른 인스턴스에서 커밋된 수정도 반영합니다.
+ * 이 인스턴스의 이벤트 범위/시간 수정 및 삭제 시에는 트랜잭션 커밋 이후에 바로 무효화됩니다.
+ */
+@Component
+public class ScheduleGridCache {
+
+    private final LruCache<UUID, VersionedGrid> grids;
+    private final Map<UUID, Object> loadingTokens = new ConcurrentHashMap<>();
+
+    /**
+     * 버전이 있는 스케줄 그리드.
+     *
+     * @param grid 스케줄 그리드
+     * @param version 그리드를 적재하기 전에 조회한 이벤트 선택 버전
+     */
+    private record VersionedGrid(ScheduleGrid grid, long version) {
+    }
+
+    public ScheduleGridCache(
+            @Value("${cache.schedule-grid.maximum-size:5000}") int maximumSize,
+            @Value("${cache.schedule-grid.time-to-live:PT30M}") Duration timeToLive) {
+        this.grids = new LruCache<>("schedule-grid", maximumSize, timeToLive);
+    }
+
+    /**
+     * 스케줄 그리드 조회 메서드.
+     * 캐시에 그리드가 없거나 그리드 버전이 현재 버전보다 오래되었으면 loader로 적재한 뒤 캐시에 저장합니다.
+     * 적재 도중 같은 이벤트가 무효화되었거나 더 새로운 버전의 그리드가 저장된 경우, 적재한 그리드는 캐시에 저장하지 않습니다.
+     *
+     * @param eventId 이벤트 UUID
+     * @param version 적재 전에 조회한 현재 이벤트 선택 버전
+     * @param loader 캐시 실패 시 그리드를 생성하는 함수
+     * @return 스케줄 그리드
+     */
+    public ScheduleGrid get(UUID eventId, long version, Supplier<ScheduleGrid> loader) {
+        VersionedGrid cached = grids.get(eventId);
+        if (cached != null && cached.version() >= version) {
+            return cached.grid();
+        }
+        Object token = new Object();
+        loadingTokens.put(eventId, token);
+        try {
+            ScheduleGrid grid = loader.get();
+            synchronized (grids) {
+                VersionedGrid current = grids.peek(eventId);
+                if (loadingTokens.get(eventId) == token && (current == null || current.version() < version)) {
+                    grids.put(eventId, new VersionedGrid(grid, version));
+                }
+            }
+            return grid;
+        } finally {
+            loadingTokens.remove(eventId, token);
+        }
+    }
+
+    /**
+     * 스케줄 그리드 무효화 메서드.
+     * 이벤트 범위/시간 수정 또는 이벤트 삭제로 스케줄이 바뀐 경우 사용합니다.
+     *
+     * @param eventId 이벤트 UUID
+     */
+    public void invalidate(UUID eventId) {
+        TransactionUtil.afterCommit(() -> {
+            synchronized (grids) {
+                loadingTokens.remove(eventId);
+                grids.invalidate(eventId);
+            }
+        });
+    }
+
+    public CacheStats getStats() {
+        return grids.getStats();
+    }
+}
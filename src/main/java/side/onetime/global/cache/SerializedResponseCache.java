@@ -0,0 +1,89 @@
+package side.onetime.global.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화된 이벤트 조회 응답 캐시.
+ *
+ * 조회 URL과 응답 변형(응답 형식, 인증 헤더 해시)마다 마지막으로 직렬화한 JSON 바이트와 gzip 압축 바이트를 이벤트 버전과 함께 보관합니다.
+ * 이벤트 버전이 같으면 서비스 호출, 응답 객체 생성, JSON 직렬화와 압축 없이 보관한 바이트를 그대로 응답합니다.
+ * 이벤트 버전이 바뀌면 다음 조회에서 같은 키의 항목을 새 버전으로 교체하므로 별도 무효화가 필요하지 않습니다.
+ * 저장하는 응답은 저장 대기 선택 정보를 모두 저장한 뒤, 같은 버전으로 검증한 스케줄 그리드와 스냅샷으로 만든 응답이어야 합니다.
+ * EventETagAop는 응답을 만드는 동안 버전이 바뀌었거나 저장 대기 선택 정보가 생긴 응답은 저장하지 않습니다.
+ */
+@Component
+public class SerializedResponseCache {
+
+    private final LruCache<String, SerializedResponse> responses;
+    private final long minCompressSize;
+
+    /**
+     * 직렬화된 응답.
+     *
+     * @param version 응답을 만든 시점의 이벤트 버전
+     * @param status 응답 상태 코드
+     * @param body JSON 바이트
+     * @param gzippedBody gzip 압축한 JSON 바이트 (최소 압축 크기보다 작으면 null)
+     */
+    public record SerializedResponse(long version, int status, byte[] body, byte[] gzippedBody) {
+    }
+
+    public SerializedResponseCache(
+            @Value("${cache.serialized-response.maximum-size:2000}") int maximumSize,
+            @Value("${cache.serialized-response.time-to-live:PT10M}") Duration timeToLive,
+            @Value("${cache.serialized-response.min-compress-size:1KB}") DataSize minCompressSize) {
+        this.responses = new LruCache<>("serialized-response", maximumSize, timeToLive);
+        this.minCompressSize = minCompressSize.toBytes();
+    }
+
+    /**
+     * 직렬화된 응답 조회 메서드.
+     *
+     * @param key 조회 URL과 응답 변형으로 만든 키
+     * @param version 현재 이벤트 버전
+     * @return 같은 버전으로 직렬화된 응답 (없거나 버전이 다르면 null)
+     */
+    public SerializedResponse get(String key, long version) {
+        SerializedResponse response = responses.get(key);
+        return response != null && response.version() == version ? response : null;
+    }
+
+    /**
+     * 직렬화된 응답 저장 메서드.
+     * 최소 압축 크기 이상이면 gzip 압축 바이트를 함께 만들어 저장합니다.
+     *
+     * @param key 조회 URL과 응답 변형으로 만든 키
+     * @param version 응답을 만들기 전에 조회한 이벤트 버전
+     * @param status 응답 상태 코드
+     * @param body JSON 바이트
+     * @return 저장한 응답
+     */
+    public SerializedResponse put(String key, long version, int status, byte[] body) {
+        SerializedResponse response = new SerializedResponse(version, status, body,
+                body.length >= minCompressSize ? gzip(body) : null);
+        responses.put(key, response);
+        return response;
+    }
+
+    public CacheStats getStats() {
+        return responses.getStats();
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 32);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -18,7 +18,9 @@ public enum SuccessStatus implements BaseCode {
     _GET_PARTICIPANTS(HttpStatus.OK, "200", "참여자 조회에 성공했습니다."),
     _GET_MOST_POSSIBLE_TIME(HttpStatus.OK, "200", "가장 많이 되는 시간 조회에 성공했습니다."),
     _GET_FILTERED_MOST_POSSIBLE_TIME(HttpStatus.OK, "200", "필터링한 참여자의 시간 조회에 성공했습니다."),
+    _GET_HEATMAP(HttpStatus.OK, "200", "이벤트 히트맵 조회에 성공했습니다."),
     _GET_USER_PARTICIPATED_EVENTS(HttpStatus.OK, "200", "유저 참여 이벤트 목록 조회에 성공했습니다."),
+    _GET_USER_PARTICIPATED_EVENTS_PAGE(HttpStatus.OK, "200", "유저 참여 이벤트 페이지 조회에 성공했습니다."),
     _REMOVE_USER_CREATED_EVENT(HttpStatus.OK, "200", "유저가 생성한 이벤트 삭제에 성공했습니다."),
     _MODIFY_USER_CREATED_EVENT(HttpStatus.OK, "200", "유저가 생성한 이벤트 수정에 성공했습니다."),
     _GET_EVENT_QR_CODE(HttpStatus.OK, "200", "이벤트 QR 코드 조회에 성공했습니다."),
@@ -26,6 +28,7 @@ public enum SuccessStatus implements BaseCode {
     _REGISTER_MEMBER(HttpStatus.CREATED, "201", "멤버 등록에 성공했습니다."),
     _LOGIN_MEMBER(HttpStatus.OK, "200", "멤버 로그인에 성공했습니다."),
     _IS_POSSIBLE_NAME(HttpStatus.OK, "200", "멤버 이름 중복 확인에 성공했습니다."),
+    _BULK_REGISTER_MEMBERS(HttpStatus.OK, "200", "멤버 일괄 등록에 성공했습니다."),
     // Schedule
     _CREATED_DAY_SCHEDULES(HttpStatus.CREATED, "201", "요일 스케줄 등록에 성공했습니다."),
     _CREATED_DATE_SCHEDULES(HttpStatus.CREATED, "201", "날짜 스케줄 등록에 성공했습니다."),
@@ -37,6 +40,9 @@ public enum SuccessStatus implements BaseCode {
     _GET_USER_DATE_SCHEDULES(HttpStatus.OK, "200", "개인(로그인) 날짜 스케줄 조회에 성공했습니다."),
     _GET_FILTERED_DAY_SCHEDULES(HttpStatus.OK, "200", "참여자 필터링 요일 스케줄 조회에 성공했습니다."),
     _GET_FILTERED_DATE_SCHEDULES(HttpStatus.OK, "200", "참여자 필터링 날짜 스케줄 조회에 성공했습니다."),
+    _ACCEPTED_DAY_SCHEDULES(HttpStatus.ACCEPTED, "202", "요일 스케줄 등록 요청이 접수되었습니다."),
+    _ACCEPTED_DATE_SCHEDULES(HttpStatus.ACCEPTED, "202", "날짜 스케줄 등록 요청이 접수되었습니다."),
+    _GET_SCHEDULE_SUBMISSION(HttpStatus.OK, "200", "스케줄 등록 요청 상태 조회에 성공했습니다."),
     // URL
     _CONVERT_TO_SHORTEN_URL(HttpStatus.CREATED, "201", "단축 URL 변환에 성공했습니다."),
     _CONVERT_TO_ORIGINAL_URL(HttpStatus.CREATED, "201", "원본 URL 변환에 성공했습니다."),
@@ -65,6 +71,7 @@ public enum SuccessStatus implements BaseCode {
     // DashBoard
     _GET_ALL_DASHBOARD_EVENTS(HttpStatus.OK, "200", "관리자 이벤트 대시보드 정보 조회에 성공했습니다."),
     _GET_ALL_DASHBOARD_USERS(HttpStatus.OK, "200", "관리자 유저 대시보드 정보 조회에 성공했습니다."),
+    _GET_SCHEDULE_INGESTION_STATS(HttpStatus.OK, "200", "관리자 스케줄 비동기 저장 통계 조회에 성공했습니다."),
     // Banner
     _REGISTER_BANNER(HttpStatus.CREATED, "201", "배너 등록에 성공했습니다."),
     _REGISTER_BAR_BANNER(HttpStatus.CREATED, "201", "띠배너 등록에 성공했습니다."),
@@ -0,0 +1,30 @@
+package side.onetime.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import side.onetime.service.AvailabilityStreamService;
+
+@Configuration
+public class RedisPubSubConfig {
+
+    /**
+     * Redis 메시지 리스너 컨테이너 빈.
+     * 기존 Redis 연결 팩토리로 가용성 변경 채널을 패턴 구독하여, 다른 인스턴스에서 발행한 변경도 SSE 구독자에게 전달합니다.
+     *
+     * @param redisConnectionFactory Redis 연결 팩토리
+     * @param availabilityStreamService 가용성 변경 스트림 서비스
+     * @return 메시지 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            AvailabilityStreamService availabilityStreamService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(availabilityStreamService, new PatternTopic(AvailabilityStreamService.CHANNEL_PATTERN));
+        return container;
+    }
+}
@@ -76,9 +76,9 @@ public class SecurityConfig {
 		CorsConfiguration config = new CorsConfiguration();
 		config.setAllowedOrigins(Arrays.asList(ALLOWED_ORIGINS));
 		config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
-		config.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "Accept", "Set-Cookie"));
+		config.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "Accept", "Set-Cookie", "Idempotency-Key", "If-None-Match"));
 		config.setAllowCredentials(true);
-		config.setExposedHeaders(Arrays.asList("Authorization", "Set-Cookie"));
+		config.setExposedHeaders(Arrays.asList("Authorization", "Set-Cookie", "Idempotent-Replayed", "ETag"));
 		config.setMaxAge(3600L);
 
 		UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
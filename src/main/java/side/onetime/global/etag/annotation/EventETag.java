@@ -0,0 +1,29 @@
+package side.onetime.global.etag.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EventETag {
+    /**
+     * 응답이 인증 유저에 따라 달라지는지 여부.
+     * true면 Authorization 헤더 해시를 ETag에 포함하고 Vary: Authorization 헤더를 추가합니다.
+     */
+    boolean varyByAuthorization() default false;
+
+    /**
+     * 같은 URL에서 Accept 헤더에 따라 다른 형식으로 응답하는 경우의 응답 형식 이름.
+     * 비어 있지 않으면 형식 이름을 ETag에 포함하고 Vary: Accept 헤더를 추가합니다.
+     */
+    String representation() default "";
+
+    /**
+     * 직렬화된 응답 본문을 이벤트 버전별로 캐시할지 여부.
+     * true면 같은 버전의 JSON(및 gzip 압축) 바이트를 재사용하고 Vary: Accept-Encoding 헤더를 추가합니다.
+     * 응답이 이벤트 버전, 조회 URL, 응답 형식, 인증 헤더 외의 값에 따라 달라지지 않는 조회에만 사용합니다.
+     */
+    boolean cacheBody() default false;
+}
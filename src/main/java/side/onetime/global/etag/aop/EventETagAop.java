@@ -0,0 +1,248 @@
+package side.onetime.global.etag.aop;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+import side.onetime.global.cache.SerializedResponseCache;
+import side.onetime.global.etag.annotation.EventETag;
+import side.onetime.repository.EventRepository;
+import side.onetime.service.SelectionWriter;
+import side.onetime.util.JwtUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 이벤트 조회 ETag 처리 AOP.
+ *
+ * 이벤트의 선택 버전은 스케줄 등록, 멤버 등록, 이벤트 수정, 참여 유저의 닉네임 수정/탈퇴 시마다 증가하므로,
+ * 이벤트 조회 응답의 강한 ETag를 선택 버전으로 만듭니다. Accept 헤더에 따라 형식이 다른 응답은 형식 이름을 함께 포함합니다.
+ * 버전을 조회하기 전에 이벤트의 저장 대기 선택 정보를 먼저 저장하므로, 쓰기 지연 모드에서도 방금 제출한 선택 정보가 ETag 버전에 반영됩니다.
+ * If-None-Match 헤더가 현재 ETag와 일치하면 버전 조회 한 번 이후 서비스 호출 없이 304 응답을 반환합니다.
+ * 응답 본문 캐시를 사용하는 조회는 같은 버전으로 직렬화(및 gzip 압축)해 둔 바이트로 응답합니다.
+ * 이벤트가 없으면 기존과 같이 서비스에서 404 응답을 반환하도록 그대로 진행합니다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class EventETagAop {
+
+    private static final String EVENT_ID_VARIABLE = "event_id";
+    private static final int AUTHORIZATION_HASH_BYTES = 8;
+    private static final String GZIP = "gzip";
+
+    private final EventRepository eventRepository;
+    private final SelectionWriter selectionWriter;
+    private final JwtUtil jwtUtil;
+    private final SerializedResponseCache serializedResponseCache;
+    private final ObjectMapper objectMapper;
+
+    @Around("@annotation(eventETag)")
+    public Object handle(ProceedingJoinPoint joinPoint, EventETag eventETag) throws Throwable {
+        HttpServletRequest request = getRequest();
+        UUID eventId = request == null ? null : getEventId(request);
+        if (eventId == null) {
+            return joinPoint.proceed();
+        }
+        // 저장 대기 선택 정보가 이전 버전의 304 또는 캐시된 응답에 가려지지 않도록 먼저 저장
+        selectionWriter.flushEvent(eventId);
+        Optional<Long> version = eventRepository.findSelectionVersionByEventId(eventId);
+        if (version.isEmpty()) {
+            return joinPoint.proceed();
+        }
+
+        String authorizationHeader = eventETag.varyByAuthorization() ? request.getHeader(HttpHeaders.AUTHORIZATION) : null;
+        String variant = variant(eventETag.representation(), authorizationHeader);
+        String eTag = "\"" + version.get() + variant + "\"";
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            validateAuthorization(authorizationHeader);
+            return withETag(ResponseEntity.status(HttpStatus.NOT_MODIFIED), eTag, eventETag).build();
+        }
+        if (eventETag.cacheBody()) {
+            return proceedWithSerializedResponse(joinPoint, request, eventETag, eventId, version.get(), eTag, variant, authorizationHeader);
+        }
+
+        Object result = joinPoint.proceed();
+        if (result instanceof ResponseEntity<?> response && response.getStatusCode().is2xxSuccessful()) {
+            return withETag(ResponseEntity.status(response.getStatusCode()).headers(response.getHeaders()), eTag, eventETag)
+                    .body(response.getBody());
+        }
+        return result;
+    }
+
+    /**
+     * 직렬화된 응답 캐시 사용 메서드.
+     * 같은 이벤트 버전으로 직렬화된 응답이 있으면 서비스 호출 없이 그 바이트로 응답하고, 없으면 서비스 응답을 한 번 직렬화하여 저장합니다.
+     * 응답을 만드는 동안 이벤트 버전이 바뀌었거나 저장 대기 선택 정보가 생겼으면, 응답이 조회한 버전의 내용과 다를 수 있으므로 저장하지 않습니다.
+     * 클라이언트가 gzip을 허용하면 압축해 둔 바이트로 응답하며, 인코딩만 다른 같은 응답이므로 약한 ETag를 사용합니다.
+     */
+    private Object proceedWithSerializedResponse(ProceedingJoinPoint joinPoint, HttpServletRequest request, EventETag eventETag,
+                                                 UUID eventId, long version, String eTag, String variant,
+                                                 String authorizationHeader) throws Throwable {
+        String key = cacheKey(request, variant);
+        SerializedResponseCache.SerializedResponse serialized = serializedResponseCache.get(key, version);
+        if (serialized != null) {
+            validateAuthorization(authorizationHeader);
+        } else {
+            Object result = joinPoint.proceed();
+            if (!(result instanceof ResponseEntity<?> response) || !response.getStatusCode().is2xxSuccessful()
+                    || response.getBody() == null || !response.getHeaders().isEmpty()) {
+                return result;
+            }
+            if (selectionWriter.hasPending(eventId)
+                    || !eventRepository.findSelectionVersionByEventId(eventId).map(current -> current == version).orElse(false)) {
+                return withETag(ResponseEntity.status(response.getStatusCode()), eTag, eventETag).body(response.getBody());
+            }
+            serialized = serializedResponseCache.put(key, version, response.getStatusCode().value(),
+                    objectMapper.writeValueAsBytes(response.getBody()));
+        }
+
+        boolean gzip = serialized.gzippedBody() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        ResponseEntity.BodyBuilder builder = withETag(ResponseEntity.status(serialized.status()), gzip ? "W/" + eTag : eTag, eventETag)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(serialized.gzippedBody());
+        }
+        return builder.body(serialized.body());
+    }
+
+    private static ResponseEntity.BodyBuilder withETag(ResponseEntity.BodyBuilder builder, String eTag, EventETag eventETag) {
+        builder.eTag(eTag).cacheControl(CacheControl.noCache());
+        List<String> varyHeaders = new ArrayList<>(3);
+        if (eventETag.varyByAuthorization()) {
+            varyHeaders.add(HttpHeaders.AUTHORIZATION);
+        }
+        if (!eventETag.representation().isEmpty()) {
+            varyHeaders.add(HttpHeaders.ACCEPT);
+        }
+        if (eventETag.cacheBody()) {
+            varyHeaders.add(HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (!varyHeaders.isEmpty()) {
+            builder.varyBy(varyHeaders.toArray(String[]::new));
+        }
+        return builder;
+    }
+
+    /**
+     * 응답 변형 문자열 생성 메서드.
+     * 같은 이벤트 버전에서 응답 형식이나 인증 유저에 따라 달라지는 부분으로, ETag의 버전 뒤와 직렬화된 응답 캐시 키에 사용합니다.
+     */
+    private static String variant(String representation, String authorizationHeader) throws NoSuchAlgorithmException {
+        StringBuilder variant = new StringBuilder();
+        if (!representation.isEmpty()) {
+            variant.append('-').append(representation);
+        }
+        if (authorizationHeader != null) {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(authorizationHeader.getBytes(StandardCharsets.UTF_8));
+            variant.append('-').append(HexFormat.of().formatHex(digest, 0, AUTHORIZATION_HASH_BYTES));
+        }
+        return variant.toString();
+    }
+
+    private static String cacheKey(HttpServletRequest request, String variant) {
+        String queryString = request.getQueryString();
+        return request.getRequestURI() + (queryString == null ? "" : "?" + queryString) + "#" + variant;
+    }
+
+    /**
+     * 서비스 호출 없이 응답하기 전의 인증 헤더 검증 메서드.
+     * 만료되거나 잘못된 토큰은 304 또는 캐시된 응답 대신 기존과 같은 인증 오류로 응답합니다.
+     */
+    private void validateAuthorization(String authorizationHeader) {
+        if (authorizationHeader != null) {
+            jwtUtil.validateToken(jwtUtil.getTokenFromHeader(authorizationHeader));
+        }
+    }
+
+    /**
+     * Accept-Encoding 헤더의 gzip 허용 여부 확인 메서드.
+     * q=0으로 명시적으로 거부한 경우는 허용하지 않은 것으로 봅니다.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase(GZIP) && !coding.equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") && parseQuality(parameter.substring(2)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static double parseQuality(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * If-None-Match 헤더 비교 메서드.
+     * GET 요청이므로 약한 비교(W/ 접두사 무시)를 사용합니다.
+     */
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static UUID getEventId(HttpServletRequest request) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (!(variables instanceof Map<?, ?> pathVariables) || !(pathVariables.get(EVENT_ID_VARIABLE) instanceof String eventId)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(eventId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static HttpServletRequest getRequest() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        return attributes.getRequest();
+    }
+}
@@ -2,7 +2,9 @@ package side.onetime.global.filter;
 
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 import side.onetime.global.wrapper.CustomHttpRequestWrapper;
 
 import java.io.IOException;
@@ -10,6 +12,13 @@ import java.util.Objects;
 
 @Component
 public class RequestWrapperFilter implements Filter {
+
+    private final long maxBufferedBodySize;
+
+    public RequestWrapperFilter(@Value("${request-body.max-buffered-size:64KB}") DataSize maxBufferedBodySize) {
+        this.maxBufferedBodySize = maxBufferedBodySize.toBytes();
+    }
+
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, ServletException {
@@ -17,7 +26,10 @@ public class RequestWrapperFilter implements Filter {
             String contentType = httpRequest.getContentType();
             CustomHttpRequestWrapper wrapper = null;
 
-            if (contentType != null && !contentType.startsWith("multipart/")) {
+            // 크기를 알 수 없거나 큰 본문은 복사하지 않고 스트리밍으로 역직렬화하도록 그대로 전달
+            long contentLength = httpRequest.getContentLengthLong();
+            if (contentType != null && !contentType.startsWith("multipart/")
+                    && contentLength >= 0 && contentLength <= maxBufferedBodySize) {
                 wrapper = new CustomHttpRequestWrapper(httpRequest);
             }
 
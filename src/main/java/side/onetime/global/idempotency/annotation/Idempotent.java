@@ -0,0 +1,18 @@
+package side.onetime.global.idempotency.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+    String prefix();
+
+    /**
+     * Authorization 헤더가 없는 요청의 멱등 키 범위를 만드는 SpEL 표현식 (예: #request.memberId()).
+     * 인증된 요청은 유저 ID로 범위를 나누므로 사용하지 않습니다.
+     */
+    String scope() default "";
+}
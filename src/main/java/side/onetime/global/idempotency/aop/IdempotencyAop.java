@@ -0,0 +1,206 @@
+package side.onetime.global.idempotency.aop;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import side.onetime.exception.CustomException;
+import side.onetime.exception.status.IdempotencyErrorStatus;
+import side.onetime.global.idempotency.annotation.Idempotent;
+import side.onetime.global.lock.util.CustomSpringELParser;
+import side.onetime.repository.IdempotencyKeyRepository;
+import side.onetime.util.JwtUtil;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 멱등 키 처리 AOP.
+ *
+ * Idempotency-Key 헤더가 있는 요청은 Redis에 키를 선점한 뒤 처리하고, 성공 응답(2xx)을 TTL 동안 보관합니다.
+ * 같은 키로 다시 요청하면 MySQL을 거치지 않고 보관된 응답을 그대로 반환합니다.
+ * 키는 요청자 범위로 나누어 저장하며, 인증된 요청은 토큰의 유저 ID, 인증되지 않은 요청은 Idempotent.scope 표현식 값을 범위로 사용합니다.
+ * 따라서 재시도 전에 토큰이 재발급되어도 같은 요청으로 처리되고, 다른 요청자가 같은 키를 사용해도 서로 영향을 주지 않습니다.
+ * 요청 본문의 해시가 다르면 키 재사용으로 보고 거절하며, 처리 중인 키로 요청하면 충돌로 응답합니다.
+ * 처리에 실패한 요청은 키를 삭제하여 같은 키로 다시 시도할 수 있도록 합니다.
+ */
+@Slf4j
+@Aspect
+@Component
+public class IdempotencyAop {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int PROCESSING = 0;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final JwtUtil jwtUtil;
+    private final CustomSpringELParser parser = new CustomSpringELParser();
+    private final Duration ttl;
+    private final Duration processingTtl;
+
+    /**
+     * 보관된 멱등 요청 처리 결과.
+     *
+     * @param fingerprint 요청 본문 해시
+     * @param status HTTP 상태 코드 (처리 중이면 0)
+     * @param body 응답 본문 JSON
+     */
+    record StoredResponse(String fingerprint, int status, String body) {
+    }
+
+    public IdempotencyAop(
+            IdempotencyKeyRepository idempotencyKeyRepository,
+            ObjectMapper objectMapper,
+            JwtUtil jwtUtil,
+            @Value("${idempotency.ttl:PT24H}") Duration ttl,
+            @Value("${idempotency.processing-ttl:PT30S}") Duration processingTtl) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.jwtUtil = jwtUtil;
+        this.ttl = ttl;
+        this.processingTtl = processingTtl;
+    }
+
+    @Around("@annotation(idempotent)")
+    public Object handle(ProceedingJoinPoint joinPoint, Idempotent idempotent) throws Throwable {
+        HttpServletRequest request = getRequest();
+        String idempotencyKey = request == null ? null : request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey == null) {
+            return joinPoint.proceed();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new CustomException(IdempotencyErrorStatus._INVALID_IDEMPOTENCY_KEY);
+        }
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String key = idempotent.prefix() + ":" + scope(request, method, joinPoint.getArgs(), idempotent) + ":" + idempotencyKey;
+        String fingerprint = fingerprint(requestBody(method, joinPoint.getArgs()));
+        boolean reserved;
+        try {
+            reserved = idempotencyKeyRepository.reserve(key, write(new StoredResponse(fingerprint, PROCESSING, null)), processingTtl);
+        } catch (RuntimeException e) {
+            // Redis 장애 시에는 멱등 처리 없이 요청을 처리
+            log.warn("⚠️ 멱등 키 선점 실패, 멱등 처리 없이 진행: {}", key, e);
+            return joinPoint.proceed();
+        }
+        if (!reserved) {
+            return replay(key, fingerprint);
+        }
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            release(key);
+            throw e;
+        }
+        if (result instanceof ResponseEntity<?> response && response.getStatusCode().is2xxSuccessful()) {
+            try {
+                idempotencyKeyRepository.save(key,
+                        write(new StoredResponse(fingerprint, response.getStatusCode().value(), objectMapper.writeValueAsString(response.getBody()))),
+                        ttl);
+            } catch (RuntimeException e) {
+                log.warn("⚠️ 멱등 응답 저장 실패: {}", key, e);
+                release(key);
+            }
+        } else {
+            release(key);
+        }
+        return result;
+    }
+
+    private ResponseEntity<?> replay(String key, String fingerprint) throws JsonProcessingException {
+        Optional<String> stored = idempotencyKeyRepository.find(key);
+        if (stored.isEmpty()) {
+            // 선점한 요청이 실패하여 키가 삭제된 직후인 경우
+            throw new CustomException(IdempotencyErrorStatus._IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+        StoredResponse response = objectMapper.readValue(stored.get(), StoredResponse.class);
+        if (!response.fingerprint().equals(fingerprint)) {
+            throw new CustomException(IdempotencyErrorStatus._IDEMPOTENCY_KEY_REUSED);
+        }
+        if (response.status() == PROCESSING) {
+            throw new CustomException(IdempotencyErrorStatus._IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+        log.debug("🔁 멱등 응답 재사용: {}", key);
+        return ResponseEntity.status(response.status())
+                .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                .body(objectMapper.readTree(response.body()));
+    }
+
+    private void release(String key) {
+        try {
+            idempotencyKeyRepository.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 멱등 키 삭제 실패: {}", key, e);
+        }
+    }
+
+    /**
+     * 멱등 키 범위 생성 메서드.
+     * Authorization 헤더가 있으면 토큰을 검증하고 유저 ID를 사용하며, 잘못된 토큰은 처리 전과 같은 인증 오류로 응답합니다.
+     */
+    private String scope(HttpServletRequest request, Method method, Object[] args, Idempotent idempotent) {
+        String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorizationHeader != null) {
+            String token = jwtUtil.getTokenFromHeader(authorizationHeader);
+            jwtUtil.validateToken(token);
+            return "user:" + jwtUtil.getClaimFromToken(token, "userId", Long.class);
+        }
+        if (idempotent.scope().isEmpty()) {
+            return "anonymous";
+        }
+        return "anonymous:" + parser.getDynamicValue(method, args, idempotent.scope());
+    }
+
+    /**
+     * 요청 본문 인자 조회 메서드.
+     * 인증 헤더처럼 같은 요청의 재시도 사이에 바뀔 수 있는 인자는 해시에 포함하지 않습니다.
+     */
+    private static Object requestBody(Method method, Object[] args) {
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation instanceof RequestBody) {
+                    return args[i];
+                }
+            }
+        }
+        return null;
+    }
+
+    private String fingerprint(Object body) throws JsonProcessingException, NoSuchAlgorithmException {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(body));
+        return HexFormat.of().formatHex(digest);
+    }
+
+    private String write(StoredResponse response) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(response);
+    }
+
+    private static HttpServletRequest getRequest() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        return attributes.getRequest();
+    }
+}
@@ -0,0 +1,76 @@
+package side.onetime.global.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import side.onetime.util.SelectedSlots;
+import side.onetime.util.SlotKey;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * 스케줄 목록 스트리밍 역직렬화기.
+ *
+ * [{"time_point": "...", "times": ["HH:mm", ...]}, ...] 형식의 스케줄 목록을 토큰 단위로 읽어
+ * 시간 문자열 목록 없이 바로 선택 슬롯 비트셋에 기록합니다.
+ * 시간은 파서의 문자 버퍼에서 직접 해석하므로 요청 크기와 관계없이 시간마다 String을 만들지 않습니다.
+ * times가 time_point보다 먼저 나와도 되도록, 한 항목의 시간은 분 단위 int 배열에 모았다가 항목 끝에서 기록합니다.
+ */
+public class SelectedSlotsDeserializer extends JsonDeserializer<SelectedSlots> {
+
+    private static final String TIME_POINT = "time_point";
+    private static final String TIMES = "times";
+
+    @Override
+    public SelectedSlots deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.isExpectedStartArrayToken()) {
+            return (SelectedSlots) ctxt.handleUnexpectedToken(SelectedSlots.class, p);
+        }
+        SelectedSlots selectedSlots = new SelectedSlots();
+        int[] minutes = new int[SelectedSlots.SLOTS_PER_DAY];
+        JsonToken token;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                return (SelectedSlots) ctxt.handleUnexpectedToken(SelectedSlots.class, p);
+            }
+            String timePoint = null;
+            int count = 0;
+            String fieldName;
+            while ((fieldName = p.nextFieldName()) != null) {
+                JsonToken value = p.nextToken();
+                if (TIME_POINT.equals(fieldName)) {
+                    timePoint = value == JsonToken.VALUE_NULL ? null : p.getValueAsString();
+                } else if (TIMES.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    while ((value = p.nextToken()) != JsonToken.END_ARRAY) {
+                        if (value != JsonToken.VALUE_STRING) {
+                            p.skipChildren();
+                            continue;
+                        }
+                        int minute = SlotKey.parseMinuteOfDay(
+                                CharBuffer.wrap(p.getTextCharacters(), p.getTextOffset(), p.getTextLength()));
+                        if (minute < 0) {
+                            continue;
+                        }
+                        if (count == minutes.length) {
+                            minutes = Arrays.copyOf(minutes, count * 2);
+                        }
+                        minutes[count++] = minute;
+                    }
+                } else {
+                    p.skipChildren();
+                }
+            }
+            if (timePoint == null) {
+                continue;
+            }
+            int index = selectedSlots.addTimePoint(timePoint);
+            for (int i = 0; i < count; i++) {
+                selectedSlots.addSlot(index, minutes[i]);
+            }
+        }
+        return selectedSlots;
+    }
+}
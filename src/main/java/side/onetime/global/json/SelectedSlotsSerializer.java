@@ -0,0 +1,34 @@
+package side.onetime.global.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import side.onetime.util.SelectedSlots;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 선택 슬롯 직렬화기.
+ *
+ * 선택 슬롯을 스케줄 등록 요청과 같은 [{"time_point": "...", "times": ["HH:mm", ...]}, ...] 형식으로 씁니다.
+ */
+public class SelectedSlotsSerializer extends JsonSerializer<SelectedSlots> {
+
+    @Override
+    public void serialize(SelectedSlots selectedSlots, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        List<String> timePoints = selectedSlots.getTimePoints();
+        gen.writeStartArray();
+        for (int i = 0; i < timePoints.size(); i++) {
+            gen.writeStartObject();
+            gen.writeStringField("time_point", timePoints.get(i));
+            gen.writeArrayFieldStart("times");
+            for (String time : selectedSlots.getTimes(i)) {
+                gen.writeString(time);
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+}
@@ -0,0 +1,13 @@
+package side.onetime.global.retry.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OptimisticRetry {
+    int maxAttempts() default 3;
+    long backoffMillis() default 20L;
+}
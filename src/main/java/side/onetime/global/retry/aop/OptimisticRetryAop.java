@@ -0,0 +1,44 @@
+package side.onetime.global.retry.aop;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import side.onetime.exception.CustomException;
+import side.onetime.exception.status.ScheduleErrorStatus;
+import side.onetime.global.retry.annotation.OptimisticRetry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 낙관적 동시성 충돌 재시도 AOP.
+ *
+ * 트랜잭션이 커밋되기 전에 버전 충돌(OptimisticLockingFailureException)이 발생하면 임의 지연 후 메서드를 다시 실행합니다.
+ * 재시도마다 새 트랜잭션에서 실행되도록 트랜잭션 어드바이스보다 바깥에서 동작합니다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class OptimisticRetryAop {
+
+    @Around("@annotation(retry)")
+    public Object retry(ProceedingJoinPoint joinPoint, OptimisticRetry retry) throws Throwable {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= retry.maxAttempts()) {
+                    log.warn("⚠️ 버전 충돌 재시도 초과: {} (attempts={})", joinPoint.getSignature().toShortString(), attempt);
+                    throw new CustomException(ScheduleErrorStatus._CONFLICT_SCHEDULE_UPDATE);
+                }
+                log.debug("🔁 버전 충돌로 재시도: {} (attempt={})", joinPoint.getSignature().toShortString(), attempt);
+                Thread.sleep(ThreadLocalRandom.current().nextLong(retry.backoffMillis() * attempt + 1));
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package side.onetime.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import side.onetime.domain.Event;
@@ -8,7 +10,9 @@ import side.onetime.domain.EventParticipation;
 import side.onetime.domain.User;
 import side.onetime.repository.custom.EventParticipationRepositoryCustom;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface EventParticipationRepository extends JpaRepository<EventParticipation,Long>, EventParticipationRepositoryCustom {
 
@@ -21,7 +25,46 @@ public interface EventParticipationRepository extends JpaRepository<EventPartici
     """)
     List<EventParticipation> findAllByUserWithEvent(@Param("user") User user);
 
+    @Query("""
+    SELECT ep FROM EventParticipation ep
+    JOIN FETCH ep.event e
+    WHERE ep.user = :user
+    ORDER BY e.createdDate DESC, e.id DESC
+    """)
+    List<EventParticipation> findAllByUserWithEventOrderByCreatedDate(@Param("user") User user, Pageable pageable);
+
+    @Query("""
+    SELECT ep FROM EventParticipation ep
+    JOIN FETCH ep.event e
+    WHERE ep.user = :user
+    AND (e.createdDate < :cursorCreatedDate OR (e.createdDate = :cursorCreatedDate AND e.id < :cursorId))
+    ORDER BY e.createdDate DESC, e.id DESC
+    """)
+    List<EventParticipation> findAllByUserWithEventBeforeCursor(
+            @Param("user") User user,
+            @Param("cursorCreatedDate") LocalDateTime cursorCreatedDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
     EventParticipation findByUserAndEvent(User user, Event event);
 
     List<EventParticipation> findAllByEventIdIn(List<Long> eventIds);
+
+    @Query("""
+    SELECT ep FROM EventParticipation ep
+    JOIN FETCH ep.user
+    WHERE ep.event.id IN :eventIds
+    """)
+    List<EventParticipation> findAllByEventIdInWithUser(@Param("eventIds") List<Long> eventIds);
+
+    @Query("SELECT ep.selectionVersion FROM EventParticipation ep WHERE ep.event.id = :eventId AND ep.user.id = :userId")
+    Optional<Long> findSelectionVersionByEventIdAndUserId(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("""
+    UPDATE EventParticipation ep SET ep.selectionVersion = ep.selectionVersion + 1
+    WHERE ep.event.id = :eventId AND ep.user.id = :userId AND ep.selectionVersion = :selectionVersion
+    """)
+    int increaseSelectionVersion(@Param("eventId") Long eventId, @Param("userId") Long userId, @Param("selectionVersion") Long selectionVersion);
 }
@@ -1,6 +1,7 @@
 package side.onetime.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import side.onetime.domain.Event;
@@ -25,4 +26,21 @@ public interface EventRepository extends JpaRepository<Event,Long>, EventReposit
     WHERE e.eventId = :eventId
     """)
     Optional<Event> findByEventIdWithMembers(@Param("eventId") UUID eventId);
+
+    @Query("SELECT e.selectionVersion FROM Event e WHERE e.id = :id")
+    Optional<Long> findSelectionVersionById(@Param("id") Long id);
+
+    @Query("SELECT e.selectionVersion FROM Event e WHERE e.eventId = :eventId")
+    Optional<Long> findSelectionVersionByEventId(@Param("eventId") UUID eventId);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.selectionVersion = e.selectionVersion + 1 WHERE e.id = :id")
+    int increaseSelectionVersion(@Param("id") Long id);
+
+    @Modifying
+    @Query("""
+    UPDATE Event e SET e.selectionVersion = e.selectionVersion + 1
+    WHERE e.id IN (SELECT ep.event.id FROM EventParticipation ep WHERE ep.user.id = :userId)
+    """)
+    int increaseSelectionVersionsByUserId(@Param("userId") Long userId);
 }
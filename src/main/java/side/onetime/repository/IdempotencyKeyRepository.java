@@ -0,0 +1,33 @@
+package side.onetime.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyRepository {
+
+    private static final String KEY_PREFIX = "idempotency:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public boolean reserve(String key, String value, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, value, ttl));
+    }
+
+    public Optional<String> find(String key) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(KEY_PREFIX + key));
+    }
+
+    public void save(String key, String value, Duration ttl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, value, ttl);
+    }
+
+    public void delete(String key) {
+        redisTemplate.delete(KEY_PREFIX + key);
+    }
+}
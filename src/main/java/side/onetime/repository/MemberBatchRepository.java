@@ -0,0 +1,49 @@
+package side.onetime.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import side.onetime.domain.Member;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class MemberBatchRepository {
+
+    private static final List<String> COLUMNS = List.of("events_id", "members_uuid", "name", "pin", "selection_version", "created_date", "updated_date");
+
+    private final MultiRowBatchWriter multiRowBatchWriter;
+
+    /**
+     * 멤버 다중 행 저장 메서드.
+     * 생성된 ID는 엔티티에 반영되지 않으므로, 필요하면 멤버 UUID로 다시 조회합니다.
+     *
+     * @param members 저장할 멤버 목록 (ID 미할당)
+     */
+    public void insertAll(List<Member> members) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        multiRowBatchWriter.insert("members", COLUMNS, members.size(), (ps, index, row) -> {
+            Member member = members.get(row);
+            ps.setLong(index, member.getEvent().getId());
+            ps.setBytes(index + 1, toBytes(member.getMemberId()));
+            ps.setString(index + 2, member.getName());
+            ps.setString(index + 3, member.getPin());
+            ps.setLong(index + 4, member.getSelectionVersion());
+            ps.setTimestamp(index + 5, now);
+            ps.setTimestamp(index + 6, now);
+        });
+    }
+
+    // BINARY(16) 컬럼에 JPA와 같은 바이트 순서(상위 64비트, 하위 64비트)로 저장
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
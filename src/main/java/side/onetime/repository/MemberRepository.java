@@ -1,11 +1,13 @@
 package side.onetime.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import side.onetime.domain.Event;
 import side.onetime.domain.Member;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,9 +16,12 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Boolean existsByEventAndName(Event event, String name);
     Optional<Member> findByEventAndNameAndPin(Event event, String name, String pin);
     Optional<Member> findByMemberId(UUID memberId);
+    List<Member> findAllByMemberIdIn(Collection<UUID> memberIds);
 
     List<Member> findAllByEvent(Event event);
 
+    List<Member> findAllByEventAndIdIn(Event event, Collection<Long> ids);
+
     @Query("SELECT m FROM Member m " +
             "JOIN FETCH m.selections s " +
             "JOIN FETCH s.schedule sch " +
@@ -24,4 +29,11 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     List<Member> findAllWithSelectionsAndSchedulesByEventAndMemberIds(@Param("event") Event event, @Param("memberIds") List<Long> memberIds);
 
     List<Member> findAllByEventIdIn(List<Long> eventIds);
+
+    @Query("SELECT m.selectionVersion FROM Member m WHERE m.id = :id")
+    Optional<Long> findSelectionVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Member m SET m.selectionVersion = m.selectionVersion + 1 WHERE m.id = :id AND m.selectionVersion = :selectionVersion")
+    int increaseSelectionVersion(@Param("id") Long id, @Param("selectionVersion") Long selectionVersion);
 }
@@ -0,0 +1,140 @@
+package side.onetime.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 다중 행 INSERT/DELETE 배치 작성기.
+ *
+ * JdbcTemplate.batchUpdate는 MySQL 드라이버에서 rewriteBatchedStatements 없이 행마다 문장을 전송하므로,
+ * 행을 청크 단위로 묶어 INSERT ... VALUES (...),(...) 및 DELETE ... WHERE id IN (...) 한 문장으로 전송합니다.
+ * 한 문장의 바인딩 파라미터 수는 MySQL 제한(65,535개)을 넘지 않도록 청크 크기를 조정합니다.
+ */
+@Component
+public class MultiRowBatchWriter {
+
+    private static final int MAX_PARAMETERS = 65_535;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+
+    /**
+     * 한 행의 파라미터 바인딩 함수.
+     */
+    @FunctionalInterface
+    public interface RowBinder {
+
+        /**
+         * @param ps 바인딩할 PreparedStatement
+         * @param index 해당 행의 첫 번째 파라미터 인덱스
+         * @param row 전체 입력 기준 행 번호
+         */
+        void bind(PreparedStatement ps, int index, int row) throws SQLException;
+    }
+
+    public MultiRowBatchWriter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${batch.multi-row.chunk-size:1000}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("batch.multi-row.chunk-size must be positive: " + chunkSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 다중 행 INSERT 메서드.
+     * rowCount개의 행을 청크 단위의 다중 행 INSERT 문으로 저장합니다.
+     *
+     * @param table 테이블명
+     * @param columns 컬럼명 목록
+     * @param rowCount 저장할 행 수
+     * @param binder 행별 파라미터 바인딩 함수
+     * @return 저장된 행 수
+     */
+    public int insert(String table, List<String> columns, int rowCount, RowBinder binder) {
+        int rowsPerChunk = rowsPerChunk(columns.size());
+        String fullChunkSql = null;
+        int inserted = 0;
+        for (int from = 0; from < rowCount; from += rowsPerChunk) {
+            int rows = Math.min(rowsPerChunk, rowCount - from);
+            String sql;
+            if (rows == rowsPerChunk) {
+                if (fullChunkSql == null) {
+                    fullChunkSql = insertSql(table, columns, rows);
+                }
+                sql = fullChunkSql;
+            } else {
+                sql = insertSql(table, columns, rows);
+            }
+            int offset = from;
+            inserted += jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (int row = offset; row < offset + rows; row++) {
+                    binder.bind(ps, index, row);
+                    index += columns.size();
+                }
+            });
+        }
+        return inserted;
+    }
+
+    /**
+     * 다중 ID DELETE 메서드.
+     * ID 목록을 청크 단위의 IN 조건 DELETE 문으로 삭제합니다.
+     *
+     * @param table 테이블명
+     * @param idColumn ID 컬럼명
+     * @param ids 삭제할 ID 배열
+     * @return 삭제된 행 수
+     */
+    public int deleteByIds(String table, String idColumn, long[] ids) {
+        int rowsPerChunk = rowsPerChunk(1);
+        int deleted = 0;
+        for (int from = 0; from < ids.length; from += rowsPerChunk) {
+            int rows = Math.min(rowsPerChunk, ids.length - from);
+            String sql = "DELETE FROM " + table + " WHERE " + idColumn + " IN (" + placeholders(rows) + ")";
+            int offset = from;
+            deleted += jdbcTemplate.update(sql, ps -> {
+                for (int i = 0; i < rows; i++) {
+                    ps.setLong(i + 1, ids[offset + i]);
+                }
+            });
+        }
+        return deleted;
+    }
+
+    private int rowsPerChunk(int columnCount) {
+        return Math.max(1, Math.min(chunkSize, MAX_PARAMETERS / columnCount));
+    }
+
+    private static String insertSql(String table, List<String> columns, int rows) {
+        String row = "(" + placeholders(columns.size()) + ")";
+        StringBuilder sql = new StringBuilder(32 + table.length() + rows * (row.length() + 1))
+                .append("INSERT INTO ").append(table)
+                .append(" (").append(String.join(", ", columns)).append(") VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(row);
+        }
+        return sql.toString();
+    }
+
+    private static String placeholders(int count) {
+        StringBuilder placeholders = new StringBuilder(count * 3);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                placeholders.append(", ");
+            }
+            placeholders.append('?');
+        }
+        return placeholders.toString();
+    }
+}
@@ -1,14 +1,11 @@
 package side.onetime.repository;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.stereotype.Repository;
 import side.onetime.domain.Schedule;
 
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -16,28 +13,26 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ScheduleBatchRepository {
 
-    private final JdbcTemplate jdbcTemplate;
+    private static final List<String> COLUMNS = List.of("events_id", "date", "day", "time", "slot_key", "created_date", "updated_date");
+
+    private final MultiRowBatchWriter multiRowBatchWriter;
 
     public void insertAll(List<Schedule> schedules) {
-        String sql = "INSERT INTO schedules (events_id, date, day, time, created_date, updated_date) VALUES (?, ?, ?, ?, ?, ?)";
         Timestamp now = Timestamp.valueOf(LocalDateTime.now());
 
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                Schedule schedule = schedules.get(i);
-                ps.setLong(1, schedule.getEvent().getId());
-                ps.setString(2, schedule.getDate());
-                ps.setString(3, schedule.getDay());
-                ps.setString(4, schedule.getTime());
-                ps.setTimestamp(5, now);
-                ps.setTimestamp(6, now);
-            }
-
-            @Override
-            public int getBatchSize() {
-                return schedules.size();
+        multiRowBatchWriter.insert("schedules", COLUMNS, schedules.size(), (ps, index, row) -> {
+            Schedule schedule = schedules.get(row);
+            ps.setLong(index, schedule.getEvent().getId());
+            ps.setString(index + 1, schedule.getDate());
+            ps.setString(index + 2, schedule.getDay());
+            ps.setString(index + 3, schedule.getTime());
+            if (schedule.getSlotKey() != null) {
+                ps.setInt(index + 4, schedule.getSlotKey());
+            } else {
+                ps.setNull(index + 4, Types.INTEGER);
             }
+            ps.setTimestamp(index + 5, now);
+            ps.setTimestamp(index + 6, now);
         });
     }
 }
@@ -0,0 +1,126 @@
+package side.onetime.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+public class ScheduleChangeLogRepository {
+
+    private static final String KEY_PREFIX = "schedule-change-log:";
+    private static final String FLOOR = "floor";
+    private static final String HEAD = "head";
+
+    /**
+     * 참여자 변경 기록 스크립트.
+     * 기준 버전(floor)과 마지막 기록 버전(head)을 같은 정렬 집합에 두고, 기록/정리/만료 설정을 한 번에 처리합니다.
+     * 기록이 없거나 직전 버전의 기록이 빠졌으면 기록을 새로 시작하여, 그 이전 버전 기준의 조회가 전체 목록으로 대체되도록 합니다.
+     */
+    private static final RedisScript<Long> RECORD_SCRIPT = RedisScript.of("""
+            local key = KEYS[1]
+            local version = tonumber(ARGV[1])
+            local maxEntries = tonumber(ARGV[2])
+            local head = tonumber(redis.call('ZSCORE', key, 'head'))
+            if head == nil or head < version - 1 then
+                redis.call('DEL', key)
+                redis.call('ZADD', key, version - 1, 'floor')
+                head = version - 1
+            end
+            for i = 4, #ARGV do
+                redis.call('ZADD', key, version, ARGV[i])
+            end
+            if head < version then
+                redis.call('ZADD', key, version, 'head')
+            end
+            local overflow = redis.call('ZCARD', key) - 2 - maxEntries
+            if overflow > 0 then
+                local oldest = redis.call('ZRANGE', key, 0, overflow + 1, 'WITHSCORES')
+                local floor = nil
+                local removed = 0
+                for i = 1, #oldest, 2 do
+                    if oldest[i] ~= 'floor' and oldest[i] ~= 'head' and removed < overflow then
+                        redis.call('ZREM', key, oldest[i])
+                        floor = oldest[i + 1]
+                        removed = removed + 1
+                    end
+                end
+                if floor then
+                    redis.call('ZADD', key, floor, 'floor')
+                end
+            end
+            redis.call('EXPIRE', key, ARGV[3])
+            return 0
+            """, Long.class);
+
+    /**
+     * 기준 버전 이후 변경된 참여자 조회 스크립트.
+     * 마지막 기록 버전과 변경된 참여자를 한 번에 읽어, 조회 도중 기록이 새로 시작되어도 서로 다른 기록을 섞지 않습니다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FIND_CHANGED_SINCE_SCRIPT = RedisScript.of("""
+            local key = KEYS[1]
+            local floor = tonumber(redis.call('ZSCORE', key, 'floor'))
+            local head = redis.call('ZSCORE', key, 'head')
+            if floor == nil or head == false or floor > tonumber(ARGV[1]) then
+                return false
+            end
+            local changed = redis.call('ZRANGEBYSCORE', key, '(' .. ARGV[1], '+inf')
+            table.insert(changed, 1, head)
+            return changed
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 변경 기록 조회 결과.
+     *
+     * @param headVersion 마지막으로 기록된 이벤트 버전
+     * @param participants since 버전 이후 변경된 참여자 목록
+     */
+    public record ChangeLog(long headVersion, Set<String> participants) {
+    }
+
+    /**
+     * 참여자 변경 기록 메서드.
+     * 참여자마다 마지막 변경 버전만 남기고, 기록이 처음 만들어지면 이전 버전을 기준 버전(floor)으로 저장합니다.
+     * 참여자 수가 최대 개수를 넘으면 가장 오래된 항목부터 지우고 기준 버전을 지운 항목의 버전으로 올립니다.
+     * 변경된 참여자가 없어도 마지막 기록 버전은 올려, 버전 사이에 빠진 기록이 없음을 확인할 수 있도록 합니다.
+     */
+    public void record(UUID eventId, long version, Collection<String> participants, int maxEntries, Duration ttl) {
+        List<String> args = new ArrayList<>(participants.size() + 3);
+        args.add(String.valueOf(version));
+        args.add(String.valueOf(maxEntries));
+        args.add(String.valueOf(Math.max(1, ttl.toSeconds())));
+        args.addAll(participants);
+        redisTemplate.execute(RECORD_SCRIPT, List.of(KEY_PREFIX + eventId), args.toArray());
+    }
+
+    /**
+     * 기준 버전 이후 변경된 참여자 조회 메서드.
+     *
+     * @return 마지막 기록 버전과 변경된 참여자 목록 (기록이 없거나 기준 버전이 since보다 크면 빈 값)
+     */
+    public Optional<ChangeLog> findChangedSince(UUID eventId, long since) {
+        List<?> result = redisTemplate.execute(FIND_CHANGED_SINCE_SCRIPT, List.of(KEY_PREFIX + eventId), String.valueOf(since));
+        if (result == null || result.isEmpty()) {
+            return Optional.empty();
+        }
+        long headVersion = (long) Double.parseDouble(String.valueOf(result.get(0)));
+        Set<String> changed = new HashSet<>();
+        for (Object participant : result.subList(1, result.size())) {
+            changed.add(String.valueOf(participant));
+        }
+        changed.remove(FLOOR);
+        changed.remove(HEAD);
+        return Optional.of(new ChangeLog(headVersion, changed));
+    }
+
+    public void delete(UUID eventId) {
+        redisTemplate.delete(KEY_PREFIX + eventId);
+    }
+}
@@ -0,0 +1,50 @@
+package side.onetime.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+import side.onetime.domain.enums.SubmissionStatus;
+import side.onetime.dto.schedule.response.ScheduleSubmissionResponse;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class ScheduleSubmissionRepository {
+
+    private static final String KEY_PREFIX = "schedule-submission:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void save(String token, SubmissionStatus status, String code, String message, Duration ttl) {
+        String key = KEY_PREFIX + token;
+        Map<String, String> values = new HashMap<>();
+        values.put("status", status.name());
+        if (code != null) {
+            values.put("code", code);
+            values.put("message", message);
+        }
+        redisTemplate.opsForHash().putAll(key, values);
+        redisTemplate.expire(key, ttl);
+    }
+
+    public void delete(String token) {
+        redisTemplate.delete(KEY_PREFIX + token);
+    }
+
+    public Optional<ScheduleSubmissionResponse> findByToken(String token) {
+        Map<Object, Object> values = redisTemplate.opsForHash().entries(KEY_PREFIX + token);
+        if (values.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ScheduleSubmissionResponse(
+                token,
+                SubmissionStatus.valueOf((String) values.get("status")),
+                (String) values.get("code"),
+                (String) values.get("message")
+        ));
+    }
+}
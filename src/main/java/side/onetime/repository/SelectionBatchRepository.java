@@ -1,17 +1,14 @@
 package side.onetime.repository;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.jdbc.core.BatchPreparedStatementSetter;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import side.onetime.domain.Member;
 import side.onetime.domain.Schedule;
 import side.onetime.domain.Selection;
 import side.onetime.domain.User;
 
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -20,33 +17,66 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class SelectionBatchRepository {
 
-    private final JdbcTemplate jdbcTemplate;
+    private static final List<String> COLUMNS = List.of("members_id", "users_id", "schedules_id", "created_date", "updated_date");
+
+    private final MultiRowBatchWriter multiRowBatchWriter;
 
     public void insertAll(List<Selection> selections) {
-        String sql = "INSERT INTO selections (members_id, users_id, schedules_id, created_date, updated_date) VALUES (?, ?, ?, ?, ?)";
         Timestamp now = Timestamp.valueOf(LocalDateTime.now());
 
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                Selection selection = selections.get(i);
-                ps.setObject(1, Optional.ofNullable(selection.getMember())
-                        .map(Member::getId)
-                        .orElse(null), java.sql.Types.BIGINT);
-                ps.setObject(2, Optional.ofNullable(selection.getUser())
-                        .map(User::getId)
-                        .orElse(null), java.sql.Types.BIGINT);
-                ps.setObject(3, Optional.ofNullable(selection.getSchedule())
-                        .map(Schedule::getId)
-                        .orElse(null), java.sql.Types.BIGINT);
-                ps.setTimestamp(4, now);
-                ps.setTimestamp(5, now);
-            }
-
-            @Override
-            public int getBatchSize() {
-                return selections.size();
-            }
+        multiRowBatchWriter.insert("selections", COLUMNS, selections.size(), (ps, index, row) -> {
+            Selection selection = selections.get(row);
+            ps.setObject(index, Optional.ofNullable(selection.getMember())
+                    .map(Member::getId)
+                    .orElse(null), Types.BIGINT);
+            ps.setObject(index + 1, Optional.ofNullable(selection.getUser())
+                    .map(User::getId)
+                    .orElse(null), Types.BIGINT);
+            ps.setObject(index + 2, Optional.ofNullable(selection.getSchedule())
+                    .map(Schedule::getId)
+                    .orElse(null), Types.BIGINT);
+            ps.setTimestamp(index + 3, now);
+            ps.setTimestamp(index + 4, now);
+        });
+    }
+
+    public void insertAllByScheduleIds(Long memberId, Long userId, long[] scheduleIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        multiRowBatchWriter.insert("selections", COLUMNS, scheduleIds.length, (ps, index, row) -> {
+            ps.setObject(index, memberId, Types.BIGINT);
+            ps.setObject(index + 1, userId, Types.BIGINT);
+            ps.setLong(index + 2, scheduleIds[row]);
+            ps.setTimestamp(index + 3, now);
+            ps.setTimestamp(index + 4, now);
+        });
+    }
+
+    public void insertAllByMemberIds(long[] memberIds, long[] scheduleIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        multiRowBatchWriter.insert("selections", COLUMNS, scheduleIds.length, (ps, index, row) -> {
+            ps.setLong(index, memberIds[row]);
+            ps.setNull(index + 1, Types.BIGINT);
+            ps.setLong(index + 2, scheduleIds[row]);
+            ps.setTimestamp(index + 3, now);
+            ps.setTimestamp(index + 4, now);
         });
     }
+
+    public void insertAllByUserIds(long[] userIds, long[] scheduleIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        multiRowBatchWriter.insert("selections", COLUMNS, scheduleIds.length, (ps, index, row) -> {
+            ps.setNull(index, Types.BIGINT);
+            ps.setLong(index + 1, userIds[row]);
+            ps.setLong(index + 2, scheduleIds[row]);
+            ps.setTimestamp(index + 3, now);
+            ps.setTimestamp(index + 4, now);
+        });
+    }
+
+    public void deleteAllByIds(long[] selectionIds) {
+        multiRowBatchWriter.deleteByIds("selections", "selections_id", selectionIds);
+    }
 }
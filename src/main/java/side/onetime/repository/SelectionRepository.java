@@ -8,10 +8,11 @@ import side.onetime.domain.Event;
 import side.onetime.domain.Member;
 import side.onetime.domain.Selection;
 import side.onetime.domain.User;
+import side.onetime.repository.custom.SelectionRepositoryCustom;
 
 import java.util.List;
 
-public interface SelectionRepository extends JpaRepository<Selection, Long> {
+public interface SelectionRepository extends JpaRepository<Selection, Long>, SelectionRepositoryCustom {
 
     @Modifying
     @Query("DELETE FROM Selection s WHERE s.member = :member")
@@ -28,6 +29,13 @@ public interface SelectionRepository extends JpaRepository<Selection, Long> {
     """)
     List<Selection> findAllSelectionsByEvent(@Param("event") Event event);
 
+    @Query("""
+        SELECT s FROM Selection s
+        JOIN FETCH s.schedule sc
+        WHERE sc.event.id IN :eventIds
+    """)
+    List<Selection> findAllSelectionsByEventIds(@Param("eventIds") List<Long> eventIds);
+
     @Query("""
         SELECT COUNT(s) > 0 FROM Selection s
         WHERE s.user = :user
@@ -0,0 +1,20 @@
+package side.onetime.repository.custom;
+
+/**
+ * 선택 스케줄 조회 결과.
+ * 선택한 참여자(멤버 또는 유저)의 ID와 스케줄의 요일/날짜, 시간만 담는 프로젝션입니다.
+ *
+ * @param memberId 선택한 멤버 ID (유저의 선택인 경우 null)
+ * @param userId 선택한 유저 ID (멤버의 선택인 경우 null)
+ * @param day 요일 (날짜 스케줄인 경우 null)
+ * @param date 날짜 (요일 스케줄인 경우 null)
+ * @param time 시작 시간 (HH:mm 형식)
+ */
+public record ScheduleSelectionRow(
+        Long memberId,
+        Long userId,
+        String day,
+        String date,
+        String time
+) {
+}
@@ -0,0 +1,14 @@
+package side.onetime.repository.custom;
+
+/**
+ * 참여자 선택 스케줄 조회 결과.
+ * 선택 정보 ID와 선택한 스케줄 ID만 담는 프로젝션입니다.
+ *
+ * @param selectionId 선택 정보 ID
+ * @param scheduleId 선택한 스케줄 ID
+ */
+public record SelectedScheduleRow(
+        Long selectionId,
+        Long scheduleId
+) {
+}
@@ -0,0 +1,16 @@
+package side.onetime.repository.custom;
+
+import side.onetime.domain.Event;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SelectionRepositoryCustom {
+    List<ScheduleSelectionRow> findAllScheduleSelectionRowsByEvent(Event event);
+
+    List<ScheduleSelectionRow> findAllScheduleSelectionRowsByEventAndParticipants(Event event, Collection<Long> memberIds, Collection<Long> userIds);
+
+    List<SelectedScheduleRow> findAllSelectedScheduleRowsByMemberId(Long memberId);
+
+    List<SelectedScheduleRow> findAllSelectedScheduleRowsByUserIdAndEventId(Long userId, Long eventId);
+}
@@ -0,0 +1,122 @@
+package side.onetime.repository.custom;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import side.onetime.domain.Event;
+
+import java.util.Collection;
+import java.util.List;
+
+import static side.onetime.domain.QSchedule.schedule;
+import static side.onetime.domain.QSelection.selection;
+
+@RequiredArgsConstructor
+public class SelectionRepositoryImpl implements SelectionRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 이벤트 기반 선택 스케줄 조회 메서드.
+     *
+     * 이벤트의 모든 선택 정보를 엔티티 대신 참여자 ID와 요일/날짜, 시간 컬럼만 한 번의 쿼리로 조회합니다.
+     * 선택 정보가 저장된 순서대로 정렬됩니다.
+     *
+     * @param e 조회할 이벤트 객체
+     * @return 선택 스케줄 조회 결과 리스트
+     */
+    @Override
+    public List<ScheduleSelectionRow> findAllScheduleSelectionRowsByEvent(Event e) {
+        return queryFactory
+                .select(Projections.constructor(ScheduleSelectionRow.class,
+                        selection.member.id,
+                        selection.user.id,
+                        schedule.day,
+                        schedule.date,
+                        schedule.time))
+                .from(selection)
+                .join(selection.schedule, schedule)
+                .where(schedule.event.eq(e))
+                .orderBy(selection.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 이벤트 참여자별 선택 스케줄 조회 메서드.
+     *
+     * 이벤트의 선택 정보 중 주어진 멤버/유저의 선택 정보만 참여자 ID와 요일/날짜, 시간 컬럼으로 조회합니다.
+     * 선택 정보가 저장된 순서대로 정렬됩니다.
+     *
+     * @param e 조회할 이벤트 객체
+     * @param memberIds 조회할 멤버 ID 목록
+     * @param userIds 조회할 유저 ID 목록
+     * @return 선택 스케줄 조회 결과 리스트
+     */
+    @Override
+    public List<ScheduleSelectionRow> findAllScheduleSelectionRowsByEventAndParticipants(Event e, Collection<Long> memberIds, Collection<Long> userIds) {
+        BooleanBuilder participants = new BooleanBuilder();
+        if (!memberIds.isEmpty()) {
+            participants.or(selection.member.id.in(memberIds));
+        }
+        if (!userIds.isEmpty()) {
+            participants.or(selection.user.id.in(userIds));
+        }
+        if (!participants.hasValue()) {
+            return List.of();
+        }
+        return queryFactory
+                .select(Projections.constructor(ScheduleSelectionRow.class,
+                        selection.member.id,
+                        selection.user.id,
+                        schedule.day,
+                        schedule.date,
+                        schedule.time))
+                .from(selection)
+                .join(selection.schedule, schedule)
+                .where(schedule.event.eq(e), participants)
+                .orderBy(selection.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 멤버 선택 스케줄 ID 조회 메서드.
+     *
+     * 멤버의 선택 정보를 엔티티 대신 선택 정보 ID와 스케줄 ID만 조회합니다.
+     *
+     * @param memberId 조회할 멤버 ID
+     * @return 선택 정보 ID와 스케줄 ID 리스트
+     */
+    @Override
+    public List<SelectedScheduleRow> findAllSelectedScheduleRowsByMemberId(Long memberId) {
+        return queryFactory
+                .select(Projections.constructor(SelectedScheduleRow.class,
+                        selection.id,
+                        selection.schedule.id))
+                .from(selection)
+                .where(selection.member.id.eq(memberId))
+                .fetch();
+    }
+
+    /**
+     * 유저 선택 스케줄 ID 조회 메서드.
+     *
+     * 이벤트에 대한 유저의 선택 정보를 엔티티 대신 선택 정보 ID와 스케줄 ID만 조회합니다.
+     *
+     * @param userId 조회할 유저 ID
+     * @param eventId 조회할 이벤트 ID
+     * @return 선택 정보 ID와 스케줄 ID 리스트
+     */
+    @Override
+    public List<SelectedScheduleRow> findAllSelectedScheduleRowsByUserIdAndEventId(Long userId, Long eventId) {
+        return queryFactory
+                .select(Projections.constructor(SelectedScheduleRow.class,
+                        selection.id,
+                        schedule.id))
+                .from(selection)
+                .join(selection.schedule, schedule)
+                .where(selection.user.id.eq(userId),
+                        schedule.event.id.eq(eventId))
+                .fetch();
+    }
+}
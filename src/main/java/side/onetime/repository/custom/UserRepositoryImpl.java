@@ -3,6 +3,7 @@ package side.onetime.repository.custom;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -70,6 +71,16 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
                     .execute();
         }
 
+        // 유저가 선택 정보를 남긴 이벤트의 선택 버전 증가
+        queryFactory.update(QEvent.event)
+                .set(QEvent.event.selectionVersion, QEvent.event.selectionVersion.add(1))
+                .where(QEvent.event.id.in(
+                        JPAExpressions.select(QSelection.selection.schedule.event.id)
+                                .from(QSelection.selection)
+                                .where(QSelection.selection.user.eq(user))
+                ))
+                .execute();
+
         // 유저 소유 Selection, FixedSelection, eventParticipation 삭제
         queryFactory.delete(QSelection.selection)
                 .where(QSelection.selection.user.eq(user))
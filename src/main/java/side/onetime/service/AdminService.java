@@ -35,6 +35,7 @@ public class AdminService {
     private final UserRepository userRepository;
     private final BannerRepository bannerRepository;
     private final BarBannerRepository barBannerRepository;
+    private final ScheduleIngestionService scheduleIngestionService;
     private final JwtUtil jwtUtil;
     private final S3Util s3Util;
 
@@ -268,6 +269,19 @@ public class AdminService {
         return GetAllDashboardUsersResponse.of(dashboardUsers, pageInfo);
     }
 
+    /**
+     * 대시보드 스케줄 비동기 저장 통계 조회 메서드.
+     *
+     * 스케줄 비동기 저장 큐의 길이, 접수/거절/완료/실패 건수, 배치 크기, 저장 지연 시간을 조회합니다.
+     *
+     * @param authorizationHeader Authorization 헤더에서 추출한 토큰
+     * @return 스케줄 비동기 저장 통계 응답 DTO
+     */
+    public GetScheduleIngestionStatsResponse getScheduleIngestionStats(String authorizationHeader) {
+        jwtUtil.getAdminUserFromHeader(authorizationHeader);
+        return GetScheduleIngestionStatsResponse.from(scheduleIngestionService.getStats());
+    }
+
     /**
      * 배너 등록 메서드.
      *
@@ -0,0 +1,161 @@
+package side.onetime.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import side.onetime.domain.*;
+import side.onetime.domain.enums.Category;
+import side.onetime.domain.enums.EventStatus;
+import side.onetime.exception.CustomException;
+import side.onetime.exception.status.EventErrorStatus;
+import side.onetime.global.cache.AvailabilitySnapshotCache;
+import side.onetime.repository.EventParticipationRepository;
+import side.onetime.repository.EventRepository;
+import side.onetime.repository.MemberRepository;
+import side.onetime.repository.SelectionRepository;
+import side.onetime.util.AvailabilityMatrix;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class AvailabilitySnapshotService {
+    private final EventRepository eventRepository;
+    private final EventParticipationRepository eventParticipationRepository;
+    private final MemberRepository memberRepository;
+    private final SelectionRepository selectionRepository;
+    private final AvailabilitySnapshotCache availabilitySnapshotCache;
+    private final SelectionWriter selectionWriter;
+
+    /**
+     * 이벤트 가용성 스냅샷 조회 메서드.
+     * 현재 이벤트 선택 버전만 조회하여, 캐시된 스냅샷이 그 버전 이상이면 그대로 사용하고
+     * 없거나 오래되었으면(다른 인스턴스에서 변경이 커밋된 경우 포함) 적재 후 캐시에 저장합니다.
+     *
+     * @param eventId 조회할 이벤트의 UUID
+     * @param reader 스냅샷으로부터 결과를 계산하는 함수
+     * @return reader의 계산 결과
+     * @throws CustomException 이벤트를 찾을 수 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public <R> R read(UUID eventId, Function<AvailabilityMatrix, R> reader) {
+        long version = eventRepository.findSelectionVersionByEventId(eventId)
+                .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
+        return availabilitySnapshotCache.read(eventId, version, () -> loadAvailabilitySnapshot(eventId), reader);
+    }
+
+    /**
+     * 여러 이벤트의 가용성 스냅샷 일괄 조회 메서드.
+     * 캐시에 없거나 조회한 이벤트의 선택 버전보다 오래된 스냅샷은 IN 쿼리로 한 번에 적재하여,
+     * 이벤트 수와 관계없이 고정된 횟수의 쿼리만 실행합니다.
+     *
+     * @param events 같은 요청에서 조회한 이벤트 목록
+     * @param reader 스냅샷으로부터 결과를 계산하는 함수
+     * @return 이벤트 UUID별 reader의 계산 결과
+     */
+    @Transactional(readOnly = true)
+    public <R> Map<UUID, R> readAll(Collection<Event> events, Function<AvailabilityMatrix, R> reader) {
+        Map<UUID, Event> eventsById = events.stream()
+                .collect(Collectors.toMap(Event::getEventId, event -> event, (a, b) -> a, LinkedHashMap::new));
+
+        Map<UUID, Long> versions = new LinkedHashMap<>();
+        eventsById.forEach((eventId, event) -> versions.put(eventId, event.getSelectionVersion()));
+
+        return availabilitySnapshotCache.readAll(
+                versions,
+                missingEventIds -> loadAvailabilitySnapshots(missingEventIds.stream().map(eventsById::get).toList()),
+                reader
+        );
+    }
+
+    /**
+     * 이벤트 가용성 스냅샷 적재 메서드.
+     * 이벤트의 전체 참여자(멤버 + CREATOR를 제외한 유저)와 선택 정보를 조회하여 가용성 매트릭스를 생성합니다.
+     *
+     * @param eventId 조회할 이벤트의 UUID
+     * @return 이벤트 전체 참여자의 가용성 매트릭스
+     * @throws CustomException 이벤트를 찾을 수 없는 경우
+     */
+    private AvailabilityMatrix loadAvailabilitySnapshot(UUID eventId) {
+        // 1. 이벤트 + 멤버 fetch join으로 조회
+        Event event = eventRepository.findByEventIdWithMembers(eventId)
+                .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
+
+        // 2. 참여자(user) 조회 (CREATOR 제외)
+        List<User> users = eventParticipationRepository.findAllByEvent(event).stream()
+                .filter(ep -> ep.getEventStatus() != EventStatus.CREATOR)
+                .map(EventParticipation::getUser)
+                .toList();
+
+        // 3. 선택 정보 가져오기
+        List<Selection> selections = selectionRepository.findAllSelectionsByEvent(event);
+
+        // 4. 참여자(멤버 + 유저) × 스케줄 가용성 매트릭스 생성 후, 아직 저장되지 않은 선택 정보 반영
+        AvailabilityMatrix matrix = buildAvailabilityMatrix(event.getMembers(), users, selections, event.getCategory());
+        selectionWriter.applyPending(eventId, matrix);
+        return matrix;
+    }
+
+    /**
+     * 여러 이벤트의 가용성 스냅샷 일괄 적재 메서드.
+     * 멤버, 참여자(user), 선택 정보를 이벤트 ID 목록 기준 IN 쿼리로 각각 한 번씩 조회한 뒤 이벤트별로 분류합니다.
+     * 선택 정보의 멤버/유저가 영속성 컨텍스트에서 바로 조회되도록 멤버와 유저를 먼저 조회합니다.
+     *
+     * @param events 적재할 이벤트 목록
+     * @return 이벤트 UUID별 가용성 매트릭스
+     */
+    private Map<UUID, AvailabilityMatrix> loadAvailabilitySnapshots(List<Event> events) {
+        List<Long> ids = events.stream().map(Event::getId).toList();
+
+        Map<Long, List<Member>> membersByEvent = memberRepository.findAllByEventIdIn(ids).stream()
+                .collect(Collectors.groupingBy(member -> member.getEvent().getId()));
+
+        // CREATOR 제외
+        Map<Long, List<User>> usersByEvent = eventParticipationRepository.findAllByEventIdInWithUser(ids).stream()
+                .filter(ep -> ep.getEventStatus() != EventStatus.CREATOR)
+                .collect(Collectors.groupingBy(ep -> ep.getEvent().getId(),
+                        Collectors.mapping(EventParticipation::getUser, Collectors.toList())));
+
+        Map<Long, List<Selection>> selectionsByEvent = selectionRepository.findAllSelectionsByEventIds(ids).stream()
+                .collect(Collectors.groupingBy(selection -> selection.getSchedule().getEvent().getId()));
+
+        Map<UUID, AvailabilityMatrix> snapshots = new HashMap<>();
+        for (Event event : events) {
+            AvailabilityMatrix matrix = buildAvailabilityMatrix(
+                    membersByEvent.getOrDefault(event.getId(), List.of()),
+                    usersByEvent.getOrDefault(event.getId(), List.of()),
+                    selectionsByEvent.getOrDefault(event.getId(), List.of()),
+                    event.getCategory()
+            );
+            selectionWriter.applyPending(event.getEventId(), matrix);
+            snapshots.put(event.getEventId(), matrix);
+        }
+        return snapshots;
+    }
+
+    /**
+     * 가용성 매트릭스 생성 메서드.
+     * 멤버와 유저에게 참여자 인덱스를, 선택된 스케줄에 슬롯 인덱스를 부여하고 선택 정보를 비트셋으로 기록합니다.
+     *
+     * @param members 전체 참여자 목록에 포함할 멤버 리스트
+     * @param users 전체 참여자 목록에 포함할 유저 리스트
+     * @param selections 선택 정보 리스트
+     * @param category 이벤트의 카테고리 (DATE 또는 DAY)
+     * @return 가용성 매트릭스
+     */
+    private AvailabilityMatrix buildAvailabilityMatrix(List<Member> members, List<User> users, List<Selection> selections, Category category) {
+        AvailabilityMatrix matrix = new AvailabilityMatrix(category);
+        for (Member member : members) {
+            matrix.addMember(member.getId(), member.getName());
+        }
+        for (User user : users) {
+            matrix.addUser(user.getId(), user.getNickname());
+        }
+        for (Selection selection : selections) {
+            matrix.addSelection(selection);
+        }
+        return matrix;
+    }
+}
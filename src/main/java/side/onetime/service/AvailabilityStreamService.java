@@ -0,0 +1,199 @@
+package side.onetime.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import side.onetime.domain.Member;
+import side.onetime.domain.User;
+import side.onetime.dto.event.response.AvailabilityChangeResponse;
+import side.onetime.exception.CustomException;
+import side.onetime.exception.status.EventErrorStatus;
+import side.onetime.repository.EventRepository;
+import side.onetime.util.ScheduleGrid;
+import side.onetime.util.TransactionUtil;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트 가용성 변경 스트림 서비스.
+ *
+ * 스케줄/멤버 등록이 커밋되면 해당 참여자의 전체 선택 정보를 Redis 채널(availability:{이벤트 UUID})로 발행하고,
+ * 모든 인스턴스가 패턴 구독으로 받은 메시지를 자신에게 연결된 이벤트별 SSE 구독자에게 그대로 전달합니다.
+ * 메시지는 참여자 한 명의 선택 정보를 통째로 교체하는 형태이므로, 일부 메시지가 유실되거나 순서가 바뀌어도
+ * 다음 메시지에서 다시 맞춰지며, 증분 반영이 어려운 변경(이벤트 수정/삭제, 참여자 정보 변경)은 RESET으로 다시 조회하게 합니다.
+ */
+@Slf4j
+@Service
+public class AvailabilityStreamService implements MessageListener {
+
+    public static final String CHANNEL_PATTERN = "availability:*";
+    private static final String CHANNEL_PREFIX = "availability:";
+    private static final String EVENT_NAME = "availability";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final EventRepository eventRepository;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+
+    private final Map<UUID, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public AvailabilityStreamService(
+            RedisTemplate<String, String> redisTemplate,
+            EventRepository eventRepository,
+            ObjectMapper objectMapper,
+            @Value("${availability-stream.timeout:PT30M}") Duration timeout) {
+        this.redisTemplate = redisTemplate;
+        this.eventRepository = eventRepository;
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * 이벤트 가용성 변경 구독 메서드.
+     * 연결이 끊기거나 만료되면 구독자 목록에서 제거되며, 클라이언트(EventSource)는 자동으로 다시 연결합니다.
+     *
+     * @param eventId 구독할 이벤트의 ID
+     * @return SSE 응답 객체
+     */
+    public SseEmitter subscribe(String eventId) {
+        UUID eventUuid = UUID.fromString(eventId);
+        if (!eventRepository.existsByEventId(eventUuid)) {
+            throw new CustomException(EventErrorStatus._NOT_FOUND_EVENT);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitters.compute(eventUuid, (key, eventEmitters) -> {
+            Set<SseEmitter> registered = eventEmitters != null ? eventEmitters : ConcurrentHashMap.newKeySet();
+            registered.add(emitter);
+            return registered;
+        });
+        emitter.onCompletion(() -> remove(eventUuid, emitter));
+        emitter.onTimeout(() -> remove(eventUuid, emitter));
+        emitter.onError(e -> remove(eventUuid, emitter));
+
+        // 프록시가 응답 헤더를 바로 전달하도록 연결 직후 주석 한 줄을 보냄
+        send(eventUuid, emitter, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    /**
+     * 멤버 선택 정보 변경 발행 메서드.
+     * 트랜잭션 커밋 이후 발행합니다.
+     *
+     * @param eventId 이벤트 UUID
+     * @param member 선택을 제출한 멤버
+     * @param cells 새로 선택한 스케줄 셀 목록
+     */
+    public void publishSelections(UUID eventId, Member member, List<ScheduleGrid.Cell> cells) {
+        AvailabilityChangeResponse change = AvailabilityChangeResponse.ofMember(eventId, member, cells);
+        TransactionUtil.afterCommit(() -> publish(eventId, change));
+    }
+
+    /**
+     * 유저 선택 정보 변경 발행 메서드.
+     * 트랜잭션 커밋 이후 발행합니다.
+     *
+     * @param eventId 이벤트 UUID
+     * @param user 선택을 제출한 유저
+     * @param cells 새로 선택한 스케줄 셀 목록
+     */
+    public void publishSelections(UUID eventId, User user, List<ScheduleGrid.Cell> cells) {
+        AvailabilityChangeResponse change = AvailabilityChangeResponse.ofUser(eventId, user, cells);
+        TransactionUtil.afterCommit(() -> publish(eventId, change));
+    }
+
+    /**
+     * 전체 다시 조회 발행 메서드.
+     * 이벤트 수정/삭제, 참여자 정보 변경 등 증분 반영이 어려운 경우 트랜잭션 커밋 이후 발행합니다.
+     *
+     * @param eventId 이벤트 UUID
+     */
+    public void publishReset(UUID eventId) {
+        AvailabilityChangeResponse change = AvailabilityChangeResponse.reset(eventId);
+        TransactionUtil.afterCommit(() -> publish(eventId, change));
+    }
+
+    /**
+     * Redis 채널 메시지 수신 메서드.
+     * 채널 이름에서 이벤트 UUID를 읽고, 본문(JSON)을 다시 해석하지 않고 이 인스턴스의 구독자에게 전달합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        UUID eventId;
+        try {
+            eventId = UUID.fromString(channel.substring(CHANNEL_PREFIX.length()));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            return;
+        }
+        deliver(eventId, new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 연결 유지 메서드.
+     * 유휴 연결이 프록시/로드밸런서에서 끊기지 않도록 주기적으로 주석을 보내고, 끊긴 연결을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${availability-stream.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        emitters.forEach((eventId, eventEmitters) ->
+                eventEmitters.forEach(emitter -> send(eventId, emitter, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    private void publish(UUID eventId, AvailabilityChangeResponse change) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            log.error("❌ 가용성 변경 직렬화 실패: eventId={}", eventId, e);
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + eventId, payload);
+        } catch (RuntimeException e) {
+            // Redis 장애 시에도 같은 인스턴스의 구독자는 변경을 받도록 직접 전달
+            log.warn("⚠️ 가용성 변경 발행 실패, 로컬 구독자에게만 전달: eventId={}", eventId, e);
+            deliver(eventId, payload);
+        }
+    }
+
+    private void deliver(UUID eventId, String payload) {
+        Set<SseEmitter> eventEmitters = emitters.get(eventId);
+        if (eventEmitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : eventEmitters) {
+            send(eventId, emitter, SseEmitter.event().name(EVENT_NAME).data(payload, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void send(UUID eventId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            remove(eventId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(UUID eventId, SseEmitter emitter) {
+        emitters.computeIfPresent(eventId, (key, eventEmitters) -> {
+            eventEmitters.remove(emitter);
+            return eventEmitters.isEmpty() ? null : eventEmitters;
+        });
+    }
+}
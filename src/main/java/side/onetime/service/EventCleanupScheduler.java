@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import side.onetime.domain.Event;
+import side.onetime.global.cache.AvailabilitySnapshotCache;
+import side.onetime.global.cache.ScheduleGridCache;
 import side.onetime.repository.EventRepository;
 import side.onetime.util.S3Util;
 
@@ -17,6 +19,8 @@ public class EventCleanupScheduler {
 
     private final EventRepository eventRepository;
     private final S3Util s3Util;
+    private final AvailabilitySnapshotCache availabilitySnapshotCache;
+    private final ScheduleGridCache scheduleGridCache;
 
     /**
      * 오래된 이벤트 삭제 스케줄러.
@@ -43,6 +47,8 @@ public class EventCleanupScheduler {
             }
             // 이벤트 삭제
             eventRepository.deleteEvent(event);
+            availabilitySnapshotCache.invalidate(event.getEventId());
+            scheduleGridCache.invalidate(event.getEventId());
         });
     }
 }
@@ -1,6 +1,7 @@
 package side.onetime.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,27 +18,33 @@ import side.onetime.exception.status.EventErrorStatus;
 import side.onetime.exception.status.EventParticipationErrorStatus;
 import side.onetime.exception.status.ScheduleErrorStatus;
 import side.onetime.exception.status.UserErrorStatus;
+import side.onetime.global.cache.AvailabilitySnapshotCache;
+import side.onetime.global.cache.ScheduleGridCache;
 import side.onetime.repository.*;
 import side.onetime.util.*;
 
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 
 @Service
 @RequiredArgsConstructor
 public class EventService {
-    private static final int MAX_MOST_POSSIBLE_TIMES_SIZE = 10;
+    private static final int DEFAULT_MOST_POSSIBLE_TIMES_SIZE = 10;
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
     private final EventParticipationRepository eventParticipationRepository;
     private final ScheduleRepository scheduleRepository;
-    private final SelectionRepository selectionRepository;
     private final ScheduleBatchRepository scheduleBatchRepository;
     private final JwtUtil jwtUtil;
     private final S3Util s3Util;
     private final QrUtil qrUtil;
+    private final AvailabilitySnapshotService availabilitySnapshotService;
+    private final AvailabilitySnapshotCache availabilitySnapshotCache;
+    private final AvailabilityStreamService availabilityStreamService;
+    private final ScheduleChangeLogService scheduleChangeLogService;
+    private final ScheduleGridService scheduleGridService;
+    private final ScheduleGridCache scheduleGridCache;
 
     /**
      * 비로그인 사용자를 위한 이벤트 생성 메서드.
@@ -185,12 +192,11 @@ public class EventService {
         Event event = eventRepository.findByEventId(UUID.fromString(eventId))
                 .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
 
-        List<Schedule> schedules = scheduleRepository.findAllByEvent(event)
-                .orElseThrow(() -> new CustomException(ScheduleErrorStatus._NOT_FOUND_ALL_SCHEDULES));
-
+        // 캐시된 스케줄 그리드의 요일/날짜 목록으로 범위 계산
+        List<String> timePoints = scheduleGridService.getScheduleGrid(event).getTimePoints();
         List<String> ranges = event.getCategory() == Category.DATE
-                ? DateUtil.getSortedDateRanges(schedules.stream().map(Schedule::getDate).toList(), "yyyy.MM.dd")
-                : DateUtil.getSortedDayRanges(schedules.stream().map(Schedule::getDay).toList());
+                ? DateUtil.getSortedDateRanges(timePoints, "yyyy.MM.dd")
+                : DateUtil.getSortedDayRanges(timePoints);
 
         EventStatus eventStatus = null;
         if (authorizationHeader != null) {
@@ -229,235 +235,121 @@ public class EventService {
     /**
      * 가장 많이 되는 시간 조회 메서드.
      * 특정 이벤트에서 참여자 수가 가장 많은 시간대를 계산하여 반환합니다.
+     * 이벤트의 가용성 스냅샷이 캐시되어 있는 경우 DB를 조회하지 않습니다.
      *
      * @param eventId 조회할 이벤트의 ID
+     * @param limit 반환할 최대 시간대 개수
      * @return 가능 인원이 많은 시간대 목록
      * @throws CustomException 이벤트를 찾을 수 없는 경우
      */
     @Transactional(readOnly = true)
-    public List<GetMostPossibleTime> getMostPossibleTime(String eventId) {
-        // 1. 이벤트 + 멤버 fetch join으로 조회
-        Event event = eventRepository.findByEventIdWithMembers(UUID.fromString(eventId))
-                .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
+    public List<GetMostPossibleTime> getMostPossibleTime(String eventId, int limit) {
+        UUID uuid = UUID.fromString(eventId);
 
-        // 2. 멤버 이름 리스트
-        List<String> memberNames = event.getMembers().stream()
-                .map(Member::getName)
-                .toList();
-
-        // 3. 참여자(user) 조회 (CREATOR 제외)
-        List<String> userNicknames = eventParticipationRepository.findAllByEvent(event).stream()
-                .filter(ep -> ep.getEventStatus() != EventStatus.CREATOR)
-                .map(ep -> ep.getUser().getNickname())
-                .toList();
-
-        // 4. 전체 참여자 이름 통합
-        List<String> allParticipants = new ArrayList<>(memberNames);
-        allParticipants.addAll(userNicknames);
-
-        // 5. 선택 정보 가져오기
-        List<Selection> selections = selectionRepository.findAllSelectionsByEvent(event);
+        // 캐시된 가용성 스냅샷이 있으면 DB 조회 없이 계산
+        return availabilitySnapshotService.read(uuid, matrix -> buildMostPossibleTimes(matrix, limit));
+    }
 
-        // 6. 스케줄 → 참여자 이름 리스트 매핑
-        Map<Schedule, List<String>> scheduleToNamesMap = buildScheduleToNamesMap(selections, event.getCategory());
+    /**
+     * 이벤트 히트맵 조회 메서드.
+     * 이벤트의 가용성 스냅샷으로부터 슬롯별 가능 인원 수를 계산하여 반환합니다.
+     * 선택한 참여자가 없는 슬롯은 생략하며, 요일/날짜 및 시간 순으로 정렬됩니다.
+     *
+     * @param eventId 조회할 이벤트의 ID
+     * @param includeParticipants 슬롯별 가능 참여자 인덱스 포함 여부
+     * @return 슬롯별 가능 인원 수 목록
+     * @throws CustomException 이벤트를 찾을 수 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public GetHeatmapResponse getHeatmap(String eventId, boolean includeParticipants) {
+        UUID uuid = UUID.fromString(eventId);
 
-        // 7. 최적 시간대 리스트 생성
-        List<GetMostPossibleTime> mostPossibleTimes = buildMostPossibleTimes(
-                scheduleToNamesMap, allParticipants, event.getCategory());
+        // 캐시된 가용성 스냅샷이 있으면 DB 조회 없이 계산
+        return availabilitySnapshotService.read(uuid, matrix -> buildHeatmap(matrix, includeParticipants));
+    }
 
-        return DateUtil.sortMostPossibleTimes(mostPossibleTimes, event.getCategory());
+    /**
+     * 히트맵 응답 생성 메서드.
+     * 전체 참여자 수와 이름 목록은 전체 참여자 목록에서 계산하며,
+     * 참여자 인덱스를 포함하는 경우 슬롯별 인덱스는 이름 목록에서의 위치를 가리킵니다.
+     *
+     * @param matrix 참여자 × 스케줄 가용성 매트릭스
+     * @param includeParticipants 슬롯별 가능 참여자 인덱스 포함 여부
+     * @return 히트맵 응답
+     */
+    private GetHeatmapResponse buildHeatmap(AvailabilityMatrix matrix, boolean includeParticipants) {
+        List<HeatmapSlot> slots = new ArrayList<>();
+        for (int slot : matrix.getSortedSlots()) {
+            int possibleCount = matrix.getPossibleCount(slot);
+            if (possibleCount == 0) continue;
+
+            slots.add(HeatmapSlot.of(
+                    matrix.getTimePoint(slot),
+                    matrix.getTime(slot),
+                    possibleCount,
+                    includeParticipants ? matrix.getPossibleRosterPositions(slot) : null
+            ));
+        }
+        List<String> rosterNames = matrix.getRosterNames();
+        return GetHeatmapResponse.of(
+                matrix.getCategory(),
+                rosterNames.size(),
+                includeParticipants ? rosterNames : null,
+                slots
+        );
     }
 
     /**
      * 필터링한 참여자의 가장 많이 되는 시간을 조회하는 메서드.
      * 특정 이벤트에서 전달받은 멤버 및 유저 ID를 기준으로 선택 정보를 필터링하고, 가능한 시간대를 정리하여 반환합니다.
+     * 이벤트의 가용성 스냅샷을 재사용하며, 멤버와 유저의 임의 조합을 비트 마스크로 필터링합니다.
      *
      * @param eventId 조회할 이벤트의 ID
      * @param getFilteredSchedulesRequest 필터링할 스케줄 요청 객체 (유저 ID 목록, 멤버 ID 목록)
+     * @param limit 반환할 최대 시간대 개수
      * @return 필터링된 참여자의 가능한 시간대 정보 리스트
      * @throws CustomException 이벤트를 찾을 수 없는 경우
      */
     @Transactional(readOnly = true)
-    public List<GetMostPossibleTime> getFilteredMostPossibleTimes(String eventId, GetFilteredSchedulesRequest getFilteredSchedulesRequest) {
-        // 1. 이벤트 + 멤버 fetch join으로 조회
-        Event event = eventRepository.findByEventIdWithMembers(UUID.fromString(eventId))
-                .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
-
+    public List<GetMostPossibleTime> getFilteredMostPossibleTimes(String eventId, GetFilteredSchedulesRequest getFilteredSchedulesRequest, int limit) {
         List<Long> memberIds = getFilteredSchedulesRequest.members();
         List<Long> userIds = getFilteredSchedulesRequest.users();
 
-        // 요청 값이 없을 경우, 빈 리스트 반환
-        if (memberIds.isEmpty() && userIds.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        // 2. 멤버 이름 리스트 (요청된 멤버 ID에 해당하는 이름만 추출)
-        List<String> memberNames = event.getMembers().stream()
-                .filter(member -> memberIds.contains(member.getId()))
-                .map(Member::getName)
-                .toList();
-
-        // 3. 참여자(user) 조회 (CREATOR 제외, 요청된 유저 ID에 해당하는 이름만 추출)
-        List<String> userNicknames = eventParticipationRepository.findAllByEvent(event).stream()
-                .filter(ep -> userIds.contains(ep.getUser().getId()))
-                .filter(ep -> ep.getEventStatus() != EventStatus.CREATOR)
-                .map(ep -> ep.getUser().getNickname())
-                .toList();
-
-        // 4. 전체 참여자 이름 목록 생성 (멤버 + 유저)
-        List<String> allParticipants = Stream.concat(memberNames.stream(), userNicknames.stream())
-                .collect(Collectors.toList());
-
-        // 5. 선택 정보 조회 (멤버 ID 및 유저 ID 기준)
-        List<Selection> allSelections = selectionRepository.findAllByUserIdsOrMemberIdsWithScheduleAndEvent(event, userIds, memberIds);
-
-        // 6. 스케줄 기준으로 참여자 이름 매핑 생성
-        Map<Schedule, List<String>> scheduleToNamesMap = buildScheduleToNamesMap(allSelections, event.getCategory());
-
-        // 7. 최적 시간대 리스트 구성
-        List<GetMostPossibleTime> mostPossibleTimes = buildMostPossibleTimes(
-                scheduleToNamesMap, allParticipants, event.getCategory());
-
-        return DateUtil.sortMostPossibleTimes(mostPossibleTimes, event.getCategory());
-    }
-
-    /**
-     * 스케줄과 선택된 참여자 이름 매핑 메서드.
-     * 이벤트 카테고리에 따라 요일 또는 날짜를 유지하며, 같은 날짜/요일 내에서는 time 기준으로 정렬합니다.
-     *
-     * @param selections 선택 정보 리스트
-     * @param category 이벤트의 카테고리 (DATE 또는 DAY)
-     * @return 스케줄과 참여자 이름의 매핑 데이터
-     */
-    private Map<Schedule, List<String>> buildScheduleToNamesMap(List<Selection> selections, Category category) {
-        Map<String, Integer> dayOrderIndex = Map.of(
-                "일", 0, "월", 1, "화", 2, "수", 3, "목", 4, "금", 5, "토", 6
-        );
-
-        // Comparator 정의
-        Comparator<Schedule> scheduleComparator = (s1, s2) -> {
-            if (category == Category.DAY) {
-                int cmp = Integer.compare(
-                        dayOrderIndex.getOrDefault(s1.getDay(), 7),
-                        dayOrderIndex.getOrDefault(s2.getDay(), 7)
-                );
-                if (cmp != 0) return cmp;
-            } else {
-                int cmp = Comparator.nullsLast(String::compareTo)
-                        .compare(s1.getDate(), s2.getDate());
-                if (cmp != 0) return cmp;
+        // 캐시된 가용성 스냅샷에 요청된 참여자 마스크를 AND 연산하여 계산 (스냅샷이 캐시되어 있으면 DB 조회 없음)
+        return availabilitySnapshotService.read(UUID.fromString(eventId), matrix -> {
+            // 요청 값이 없을 경우, 빈 리스트 반환
+            if (memberIds.isEmpty() && userIds.isEmpty()) {
+                return Collections.emptyList();
             }
-            return s1.getTime().compareTo(s2.getTime());
-        };
-
-        // 정렬된 TreeMap 사용
-        Map<Schedule, List<String>> scheduleToNamesMap = new TreeMap<>(scheduleComparator);
-
-        for (Selection selection : selections) {
-            Schedule schedule = selection.getSchedule();
-            if (schedule == null) continue;
-
-            String name = selection.getMember() != null
-                    ? selection.getMember().getName()
-                    : (selection.getUser() != null ? selection.getUser().getNickname() : null);
-
-            if (name == null) continue;
-
-            scheduleToNamesMap.computeIfAbsent(schedule, k -> new ArrayList<>()).add(name);
-        }
-
-        return scheduleToNamesMap;
+            return buildMostPossibleTimes(matrix.filter(memberIds, userIds), limit);
+        });
     }
 
     /**
      * 참여 인원이 많은 순서대로 정렬된 시간대 리스트 생성 메서드.
-     * 참여 가능한 인원이 많은 시간대 순으로 시간대 리스트를 생성합니다.
+     * 연속되고 가능 참여자가 같은 슬롯을 하나의 시간대로 병합한 뒤, 가능 인원이 많은 상위 시간대만 반환합니다.
+     * 인원이 같으면 요일/날짜 및 시간 순으로 정렬됩니다.
+     * 벤치마크(src/jmh)에서 직접 호출할 수 있도록 package-private으로 둡니다.
      *
-     * @param scheduleToNamesMap 스케줄과 참여자 이름 매핑 데이터
-     * @param allMembersName 이벤트 참여자의 전체 이름 목록
-     * @param category 이벤트의 카테고리 (날짜 또는 요일)
+     * @param matrix 참여자 × 스케줄 가용성 매트릭스
+     * @param limit 반환할 최대 시간대 개수
      * @return 참여 인원이 많은 순서대로 정렬된 시간대 리스트
      */
-    private List<GetMostPossibleTime> buildMostPossibleTimes(Map<Schedule, List<String>> scheduleToNamesMap, List<String> allMembersName, Category category) {
+    static List<GetMostPossibleTime> buildMostPossibleTimes(AvailabilityMatrix matrix, int limit) {
         List<GetMostPossibleTime> mostPossibleTimes = new ArrayList<>();
-        GetMostPossibleTime previousTime = null;
-
-        // 참여자 많은 순으로 정렬
-        List<Map.Entry<Schedule, List<String>>> sortedEntries = new ArrayList<>(scheduleToNamesMap.entrySet());
-        sortedEntries.sort((a, b) -> Integer.compare(b.getValue().size(), a.getValue().size()));
-
-        for (Map.Entry<Schedule, List<String>> entry : sortedEntries) {
-            Schedule schedule = entry.getKey();
-            List<String> curNames = entry.getValue();
-
-            if (canMergeWithPrevious(previousTime, schedule, curNames, category)) {
-                // 이전 시간대와 병합 가능한 경우
-                previousTime = previousTime.updateEndTime(schedule.getTime());
-                mostPossibleTimes.set(mostPossibleTimes.size() - 1, previousTime); // 종료 시간을 더해 업데이트
-            } else {
-                // 새로운 시간대를 추가하는 경우
-                if (mostPossibleTimes.size() == MAX_MOST_POSSIBLE_TIMES_SIZE) {
-                    // 10개를 찾았을 시 종료
-                    break;
-                }
-                List<String> impossibleNames = new ArrayList<>();
-                // 유저, 멤버 동명이인을 고려하기 위함
-                List<String> curNamesCopy = new ArrayList<>(curNames);
-                for (String name : allMembersName) {
-                    if (curNamesCopy.contains(name)) {
-                        curNamesCopy.remove(name);
-                    } else {
-                        impossibleNames.add(name);
-                    }
-                }
-
-                // 새로운 시간대를 추가
-                GetMostPossibleTime newTime = createMostPossibleTime(schedule, curNames, impossibleNames, category);
-                mostPossibleTimes.add(newTime);
-                previousTime = newTime;
-            }
+        for (AvailabilityMatrix.SlotRange range : matrix.getTopRanges(limit)) {
+            // 유저, 멤버 동명이인은 참여자 인덱스로 구분됨
+            GetMostPossibleTime mostPossibleTime = GetMostPossibleTime.of(
+                    matrix.getTimePoint(range.startSlot()),
+                    matrix.getTime(range.startSlot()),
+                    matrix.getPossibleNames(range.startSlot()),
+                    matrix.getImpossibleNames(range.startSlot())
+            );
+            mostPossibleTimes.add(mostPossibleTime.updateEndTime(matrix.getTime(range.endSlot())));
         }
         return mostPossibleTimes;
     }
 
-    /**
-     * 이전 시간대와 병합 가능 여부 확인 메서드.
-     * 현재 시간대가 이전 시간대와 연속적이며 참여 가능한 인원이 동일한지 확인합니다.
-     *
-     * @param previousTime 이전 시간대 정보
-     * @param schedule 현재 스케줄
-     * @param curNames 현재 시간대의 참여자 이름 목록
-     * @param category 이벤트의 카테고리 (날짜 또는 요일)
-     * @return 병합 가능 여부
-     */
-    private boolean canMergeWithPrevious(GetMostPossibleTime previousTime, Schedule schedule, List<String> curNames, Category category) {
-        if (previousTime == null) return false;
-
-        boolean isSameTimePoint = category.equals(Category.DAY)
-                ? previousTime.timePoint().equals(schedule.getDay())
-                : previousTime.timePoint().equals(schedule.getDate());
-
-        return isSameTimePoint
-                && previousTime.endTime().equals(schedule.getTime())
-                && new HashSet<>(previousTime.possibleNames()).containsAll(curNames);
-    }
-
-    /**
-     * 새로운 시간대 객체 생성 메서드.
-     * 주어진 스케줄 정보와 참여자 데이터를 기반으로 새로운 시간대 객체를 생성합니다.
-     *
-     * @param schedule 스케줄 정보
-     * @param curNames 참여 가능한 이름 목록
-     * @param impossibleNames 참여 불가능한 이름 목록
-     * @param category 이벤트의 카테고리 (날짜 또는 요일)
-     * @return 생성된 시간대 객체
-     */
-    private GetMostPossibleTime createMostPossibleTime(Schedule schedule, List<String> curNames, List<String> impossibleNames, Category category) {
-        return category.equals(Category.DAY)
-                ? GetMostPossibleTime.dayOf(schedule, curNames, impossibleNames)
-                : GetMostPossibleTime.dateOf(schedule, curNames, impossibleNames);
-    }
-
     /**
      * 날짜 포맷 여부 검증 메서드.
      * 주어진 문자열이 날짜 형식인지 확인합니다.
@@ -480,32 +372,90 @@ public class EventService {
         User user = userRepository.findById(UserAuthorizationUtil.getLoginUserId())
                 .orElseThrow(() -> new CustomException(UserErrorStatus._NOT_FOUND_USER));
 
-        List<EventParticipation> participations = eventParticipationRepository.findAllByUserWithEvent(user);
+        List<EventParticipation> participations = eventParticipationRepository.findAllByUserWithEvent(user).stream()
+                .sorted(Comparator.comparing((EventParticipation ep) -> ep.getEvent().getCreatedDate()).reversed())
+                .toList();
 
-        // 캐시 맵 선언
-        Map<String, GetParticipantsResponse> participantsCache = new HashMap<>();
-        Map<String, List<GetMostPossibleTime>> mostPossibleCache = new HashMap<>();
+        return buildUserParticipatedEvents(participations, DEFAULT_MOST_POSSIBLE_TIMES_SIZE);
+    }
 
-        return participations.stream()
-                .sorted(Comparator.comparing((EventParticipation ep) -> ep.getEvent().getCreatedDate()).reversed())
-                .map(ep -> {
-                    Event event = ep.getEvent();
-                    String eventId = event.getEventId().toString();
+    /**
+     * 유저 참여 이벤트 페이지 조회 메서드.
+     * 인증된 유저가 참여한 이벤트를 생성일 내림차순으로 커서 기반 페이지 조회합니다.
+     * 커서는 이전 페이지의 마지막 이벤트 ID이며, 첫 페이지는 커서 없이 조회합니다.
+     *
+     * @param cursor 이전 페이지의 마지막 이벤트 ID (선택 사항)
+     * @param size 페이지 크기
+     * @param limit 이벤트별로 반환할 최대 시간대 개수
+     * @return 유저가 참여한 이벤트 목록과 다음 페이지 정보
+     * @throws CustomException 유저 또는 커서 이벤트를 찾을 수 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public GetUserParticipatedEventsPageResponse getUserParticipatedEventsPage(String cursor, int size, int limit) {
+        User user = userRepository.findById(UserAuthorizationUtil.getLoginUserId())
+                .orElseThrow(() -> new CustomException(UserErrorStatus._NOT_FOUND_USER));
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        PageRequest pageRequest = PageRequest.of(0, size + 1);
+        List<EventParticipation> participations;
+        if (cursor == null) {
+            participations = eventParticipationRepository.findAllByUserWithEventOrderByCreatedDate(user, pageRequest);
+        } else {
+            Event cursorEvent = eventRepository.findByEventId(UUID.fromString(cursor))
+                    .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
+            participations = eventParticipationRepository.findAllByUserWithEventBeforeCursor(
+                    user, cursorEvent.getCreatedDate(), cursorEvent.getId(), pageRequest);
+        }
+
+        boolean hasNext = participations.size() > size;
+        List<EventParticipation> pageParticipations = hasNext ? participations.subList(0, size) : participations;
+        UUID nextCursor = hasNext ? pageParticipations.get(size - 1).getEvent().getEventId() : null;
+
+        return GetUserParticipatedEventsPageResponse.of(
+                buildUserParticipatedEvents(pageParticipations, limit),
+                CursorPageInfo.of(size, hasNext, nextCursor)
+        );
+    }
+
+    /**
+     * 유저 참여 이벤트 응답 목록 생성 메서드.
+     * 캐시된 가용성 스냅샷을 우선 사용하고, 캐시에 없는 이벤트는 IN 쿼리로 한 번에 적재하여
+     * 이벤트 수와 관계없이 고정된 횟수의 쿼리로 참여자 수와 가장 많이 되는 시간을 계산합니다.
+     *
+     * @param participations 정렬된 이벤트 참여 정보 목록
+     * @param limit 이벤트별로 반환할 최대 시간대 개수
+     * @return 참여 정보 순서의 유저 참여 이벤트 목록
+     */
+    private List<GetUserParticipatedEventsResponse> buildUserParticipatedEvents(List<EventParticipation> participations, int limit) {
+        List<Event> events = participations.stream()
+                .map(EventParticipation::getEvent)
+                .toList();
 
-                    // 캐시 또는 메서드 실행
-                    GetParticipantsResponse participants = participantsCache.computeIfAbsent(
-                            eventId, this::getParticipants);
-                    List<GetMostPossibleTime> mostPossibleTimes = mostPossibleCache.computeIfAbsent(
-                            eventId, this::getMostPossibleTime);
+        Map<UUID, ParticipatedEventSummary> summaries = availabilitySnapshotService.readAll(
+                events,
+                matrix -> new ParticipatedEventSummary(matrix.getRosterCount(), buildMostPossibleTimes(matrix, limit))
+        );
 
+        return participations.stream()
+                .map(ep -> {
+                    ParticipatedEventSummary summary = summaries.get(ep.getEvent().getEventId());
                     return GetUserParticipatedEventsResponse.of(
-                            event,
+                            ep.getEvent(),
                             ep,
-                            participants.users().size() + participants.members().size(),
-                            mostPossibleTimes
+                            summary.participantCount(),
+                            summary.mostPossibleTimes()
                     );
                 })
-                .collect(Collectors.toList());
+                .toList();
+    }
+
+    /**
+     * 참여 이벤트 요약 정보.
+     *
+     * @param participantCount 전체 참여자 수
+     * @param mostPossibleTimes 가장 많이 되는 시간 목록
+     */
+    private record ParticipatedEventSummary(int participantCount, List<GetMostPossibleTime> mostPossibleTimes) {
     }
 
     /**
@@ -521,6 +471,10 @@ public class EventService {
         EventParticipation eventParticipation = verifyUserHasEventAccess(user, eventId);
         eventRepository.deleteEvent(eventParticipation.getEvent());
         s3Util.deleteFile(eventParticipation.getEvent().getQrFileName()); // QR 이미지 삭제
+        availabilitySnapshotCache.invalidate(eventParticipation.getEvent().getEventId());
+        availabilityStreamService.publishReset(eventParticipation.getEvent().getEventId());
+        scheduleChangeLogService.reset(eventParticipation.getEvent().getEventId());
+        scheduleGridCache.invalidate(eventParticipation.getEvent().getEventId());
     }
 
     /**
@@ -544,6 +498,13 @@ public class EventService {
         List<Schedule> newSchedules = scheduleRepository.findAllByEvent(event)
                 .orElseThrow(() -> new CustomException(ScheduleErrorStatus._NOT_FOUND_ALL_SCHEDULES));
         updateEventTimes(event, newSchedules, modifyUserCreatedEventRequest.startTime(), modifyUserCreatedEventRequest.endTime());
+
+        // 범위/시간 변경으로 스케줄 및 선택 정보가 바뀌므로 선택 버전을 올리고 스냅샷 및 스케줄 그리드 무효화
+        eventRepository.increaseSelectionVersion(event.getId());
+        scheduleChangeLogService.reset(event.getEventId());
+        availabilitySnapshotCache.invalidate(event.getEventId());
+        availabilityStreamService.publishReset(event.getEventId());
+        scheduleGridCache.invalidate(event.getEventId());
     }
 
     /**
@@ -4,29 +4,39 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import side.onetime.domain.Event;
+import side.onetime.domain.EventParticipation;
 import side.onetime.domain.Member;
-import side.onetime.domain.Schedule;
-import side.onetime.domain.Selection;
-import side.onetime.domain.enums.Category;
+import side.onetime.domain.User;
+import side.onetime.domain.enums.EventStatus;
+import side.onetime.dto.member.request.BulkRegisterMemberItem;
+import side.onetime.dto.member.request.BulkRegisterMembersRequest;
 import side.onetime.dto.member.request.IsDuplicateRequest;
 import side.onetime.dto.member.request.LoginMemberRequest;
 import side.onetime.dto.member.request.RegisterMemberRequest;
+import side.onetime.dto.member.response.BulkRegisterMemberResult;
+import side.onetime.dto.member.response.BulkRegisterMembersResponse;
 import side.onetime.dto.member.response.IsDuplicateResponse;
 import side.onetime.dto.member.response.LoginMemberResponse;
 import side.onetime.dto.member.response.RegisterMemberResponse;
 import side.onetime.dto.member.response.ScheduleResponse;
 import side.onetime.exception.CustomException;
 import side.onetime.exception.status.EventErrorStatus;
+import side.onetime.exception.status.EventParticipationErrorStatus;
 import side.onetime.exception.status.MemberErrorStatus;
-import side.onetime.exception.status.ScheduleErrorStatus;
+import side.onetime.exception.status.UserErrorStatus;
+import side.onetime.global.cache.AvailabilitySnapshotCache;
+import side.onetime.repository.EventParticipationRepository;
 import side.onetime.repository.EventRepository;
+import side.onetime.repository.MemberBatchRepository;
 import side.onetime.repository.MemberRepository;
-import side.onetime.repository.ScheduleRepository;
 import side.onetime.repository.SelectionBatchRepository;
+import side.onetime.repository.UserRepository;
+import side.onetime.util.ScheduleGrid;
+import side.onetime.util.UserAuthorizationUtil;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -34,8 +44,14 @@ public class MemberService {
 
     private final EventRepository eventRepository;
     private final MemberRepository memberRepository;
-    private final ScheduleRepository scheduleRepository;
+    private final MemberBatchRepository memberBatchRepository;
+    private final UserRepository userRepository;
+    private final EventParticipationRepository eventParticipationRepository;
     private final SelectionBatchRepository selectionBatchRepository;
+    private final AvailabilitySnapshotCache availabilitySnapshotCache;
+    private final AvailabilityStreamService availabilityStreamService;
+    private final ScheduleChangeLogService scheduleChangeLogService;
+    private final ScheduleGridService scheduleGridService;
 
     /**
      * 멤버 등록 메서드.
@@ -59,77 +75,157 @@ public class MemberService {
         Member member = registerMemberRequest.toEntity(event);
         memberRepository.save(member);
 
-        List<Selection> selections;
-        if (event.getCategory().equals(Category.DAY)) {
-            selections = createMembersDaySelections(event, member, registerMemberRequest);
-        } else {
-            selections = createMembersDateSelections(event, member, registerMemberRequest);
-        }
-        selectionBatchRepository.insertAll(selections);
+        List<ScheduleGrid.Cell> cells = resolveMemberCells(event, registerMemberRequest);
+        long[] scheduleIds = cells.stream().mapToLong(ScheduleGrid.Cell::scheduleId).toArray();
+        selectionBatchRepository.insertAllByScheduleIds(member.getId(), null, scheduleIds);
+        eventRepository.increaseSelectionVersion(event.getId());
+        long version = scheduleChangeLogService.recordAtCurrentVersion(event.getEventId(), event.getId(), List.of(member.getId()), List.of());
+        availabilitySnapshotCache.replaceSelections(event.getEventId(), version, member, cells);
+        availabilityStreamService.publishSelections(event.getEventId(), member, cells);
 
         return RegisterMemberResponse.of(member, event);
     }
 
     /**
-     * 멤버 요일 선택 목록 생성 메서드.
+     * 멤버 일괄 등록 메서드.
      *
-     * 멤버가 선택한 요일과 시간을 기반으로 Selection 데이터를 생성합니다.
+     * 이벤트 생성자가 여러 참여자의 스케줄을 한 번에 등록합니다.
+     * 이름/PIN/스케줄 누락 또는 이름 중복(기존 멤버, 같은 요청 내 항목)인 항목은 건너뛰고 항목별 결과로 반환합니다.
+     * 새 참여자 등록 전용으로, 이미 등록된 이름의 멤버는 스케줄을 갱신하지 않고 실패 항목으로 반환합니다.
+     * 유효한 멤버와 선택 정보는 한 트랜잭션에서 각각 다중 행 INSERT로 한 번에 저장합니다.
      *
-     * @param event 이벤트 객체
-     * @param member 멤버 객체
-     * @param registerMemberRequest 멤버 등록 요청 데이터
-     * @return 생성된 Selection 리스트
+     * @param bulkRegisterMembersRequest 멤버 일괄 등록 요청 데이터
+     * @return 항목별 등록 결과
      */
-    private List<Selection> createMembersDaySelections(Event event, Member member, RegisterMemberRequest registerMemberRequest) {
-        List<ScheduleResponse> schedules = registerMemberRequest.schedules();
-        List<Selection> selections = new ArrayList<>();
-        for (ScheduleResponse schedule : schedules) {
-            String day = schedule.timePoint();
-            List<String> times = schedule.times();
-            List<Schedule> selectedSchedules = scheduleRepository.findAllByEventAndDay(event, day)
-                    .orElseThrow(() -> new CustomException(ScheduleErrorStatus._NOT_FOUND_DAY_SCHEDULES));
-
-            for (Schedule selectedSchedule : selectedSchedules) {
-                if (times.contains(selectedSchedule.getTime())) {
-                    selections.add(Selection.builder()
-                            .member(member)
-                            .schedule(selectedSchedule)
-                            .build());
-                }
+    @Transactional
+    public BulkRegisterMembersResponse registerMembers(BulkRegisterMembersRequest bulkRegisterMembersRequest) {
+        Event event = eventRepository.findByEventId(UUID.fromString(bulkRegisterMembersRequest.eventId()))
+                .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
+        verifyUserIsEventCreator(event);
+
+        Set<String> names = new HashSet<>();
+        for (Member member : memberRepository.findAllByEvent(event)) {
+            names.add(member.getName());
+        }
+
+        List<BulkRegisterMemberItem> items = bulkRegisterMembersRequest.members();
+        BulkRegisterMemberResult[] results = new BulkRegisterMemberResult[items.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<Member> newMembers = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            BulkRegisterMemberItem item = items.get(i);
+            if (item == null || isBlank(item.name()) || isBlank(item.pin()) || item.schedules() == null) {
+                results[i] = BulkRegisterMemberResult.failure(i, item == null ? null : item.name(), MemberErrorStatus._INVALID_MEMBER_INFO);
+            } else if (!names.add(item.name())) {
+                results[i] = BulkRegisterMemberResult.failure(i, item.name(), MemberErrorStatus._IS_EXISTED_NAME);
+            } else {
+                validIndexes.add(i);
+                newMembers.add(item.toEntity(event));
             }
         }
-        return selections;
+        List<Member> members = insertMembers(newMembers);
+
+        ScheduleGrid grid = scheduleGridService.getScheduleGrid(event);
+        List<List<ScheduleGrid.Cell>> cellsByMember = new ArrayList<>(members.size());
+        int selectionCount = 0;
+        for (int i = 0; i < members.size(); i++) {
+            List<ScheduleGrid.Cell> cells = resolveCells(grid, items.get(validIndexes.get(i)).schedules());
+            cellsByMember.add(cells);
+            selectionCount += cells.size();
+        }
+
+        long[] memberIds = new long[selectionCount];
+        long[] scheduleIds = new long[selectionCount];
+        int selectionIndex = 0;
+        for (int i = 0; i < members.size(); i++) {
+            Member member = members.get(i);
+            for (ScheduleGrid.Cell cell : cellsByMember.get(i)) {
+                memberIds[selectionIndex] = member.getId();
+                scheduleIds[selectionIndex++] = cell.scheduleId();
+            }
+            availabilityStreamService.publishSelections(event.getEventId(), member, cellsByMember.get(i));
+            results[validIndexes.get(i)] = BulkRegisterMemberResult.success(validIndexes.get(i), member);
+        }
+        selectionBatchRepository.insertAllByMemberIds(memberIds, scheduleIds);
+        if (!members.isEmpty()) {
+            eventRepository.increaseSelectionVersion(event.getId());
+            long version = scheduleChangeLogService.recordAtCurrentVersion(event.getEventId(), event.getId(),
+                    members.stream().map(Member::getId).toList(), List.of());
+            for (int i = 0; i < members.size(); i++) {
+                availabilitySnapshotCache.replaceSelections(event.getEventId(), version, members.get(i), cellsByMember.get(i));
+            }
+        }
+
+        return BulkRegisterMembersResponse.of(event, List.of(results));
+    }
+
+    /**
+     * 이벤트 생성자 검증 메서드.
+     * 로그인한 유저가 이벤트의 생성자(또는 생성자 겸 참여자)가 아니면 예외를 던집니다.
+     *
+     * @param event 이벤트 객체
+     */
+    private void verifyUserIsEventCreator(Event event) {
+        User user = userRepository.findById(UserAuthorizationUtil.getLoginUserId())
+                .orElseThrow(() -> new CustomException(UserErrorStatus._NOT_FOUND_USER));
+        EventParticipation eventParticipation = eventParticipationRepository.findByUserAndEvent(user, event);
+        if (eventParticipation == null) {
+            throw new CustomException(EventParticipationErrorStatus._NOT_FOUND_EVENT_PARTICIPATION);
+        }
+        if (EventStatus.PARTICIPANT.equals(eventParticipation.getEventStatus())) {
+            throw new CustomException(EventParticipationErrorStatus._IS_NOT_AUTHORIZED_EVENT_PARTICIPATION);
+        }
     }
 
     /**
-     * 멤버 날짜 선택 목록 생성 메서드.
+     * 멤버 선택 셀 조회 메서드.
      *
-     * 멤버가 선택한 날짜와 시간을 기반으로 Selection 데이터를 생성합니다.
+     * 멤버가 선택한 요일/날짜와 시간에 해당하는 스케줄 셀을 찾습니다.
+     * 캐시된 이벤트 스케줄 그리드에서 요청된 셀을 해시 조회로 찾습니다.
      *
      * @param event 이벤트 객체
-     * @param member 멤버 객체
      * @param registerMemberRequest 멤버 등록 요청 데이터
-     * @return 생성된 Selection 리스트
+     * @return 선택한 스케줄 셀 리스트
      */
-    private List<Selection> createMembersDateSelections(Event event, Member member, RegisterMemberRequest registerMemberRequest) {
-        List<ScheduleResponse> schedules = registerMemberRequest.schedules();
-        List<Selection> selections = new ArrayList<>();
+    private List<ScheduleGrid.Cell> resolveMemberCells(Event event, RegisterMemberRequest registerMemberRequest) {
+        return resolveCells(scheduleGridService.getScheduleGrid(event), registerMemberRequest.schedules());
+    }
+
+    private static List<ScheduleGrid.Cell> resolveCells(ScheduleGrid grid, List<ScheduleResponse> schedules) {
+        Map<Long, ScheduleGrid.Cell> cells = new LinkedHashMap<>();
         for (ScheduleResponse schedule : schedules) {
-            String date = schedule.timePoint();
-            List<String> times = schedule.times();
-            List<Schedule> selectedSchedules = scheduleRepository.findAllByEventAndDate(event, date)
-                    .orElseThrow(() -> new CustomException(ScheduleErrorStatus._NOT_FOUND_DATE_SCHEDULES));
-
-            for (Schedule selectedSchedule : selectedSchedules) {
-                if (times.contains(selectedSchedule.getTime())) {
-                    selections.add(Selection.builder()
-                            .member(member)
-                            .schedule(selectedSchedule)
-                            .build());
-                }
+            if (schedule == null || schedule.times() == null) {
+                continue;
+            }
+            for (ScheduleGrid.Cell cell : grid.resolve(schedule.timePoint(), schedule.times())) {
+                cells.putIfAbsent(cell.scheduleId(), cell);
             }
         }
-        return selections;
+        return new ArrayList<>(cells.values());
+    }
+
+    /**
+     * 멤버 일괄 저장 메서드.
+     * 멤버 ID가 IDENTITY 전략이라 saveAll은 멤버마다 INSERT 문을 보내므로, 다중 행 INSERT로 저장한 뒤
+     * 생성된 ID가 할당된 멤버를 UUID IN 조회 한 번으로 다시 읽습니다.
+     *
+     * @param newMembers 저장할 멤버 목록
+     * @return 저장된 멤버 목록 (입력 순서)
+     */
+    private List<Member> insertMembers(List<Member> newMembers) {
+        if (newMembers.isEmpty()) {
+            return List.of();
+        }
+        memberBatchRepository.insertAll(newMembers);
+        Map<UUID, Member> inserted = memberRepository.findAllByMemberIdIn(newMembers.stream().map(Member::getMemberId).toList()).stream()
+                .collect(Collectors.toMap(Member::getMemberId, Function.identity()));
+        return newMembers.stream()
+                .map(member -> inserted.get(member.getMemberId()))
+                .toList();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
     }
 
     /**
@@ -0,0 +1,151 @@
+package side.onetime.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import side.onetime.exception.CustomException;
+import side.onetime.exception.status.EventErrorStatus;
+import side.onetime.repository.EventRepository;
+import side.onetime.repository.ScheduleChangeLogRepository;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 이벤트별 스케줄 변경 기록 서비스.
+ *
+ * 선택 정보가 바뀐 참여자를 이벤트 버전과 함께 Redis 정렬 집합에 기록하여, 스케줄 목록을 since 버전 이후 변경분만으로 응답할 수 있게 합니다.
+ * 참여자마다 마지막 변경 버전만 남기므로 기록 크기는 참여자 수로 제한되며, 최대 개수를 넘으면 오래된 항목부터 지우고 기준 버전을 올립니다.
+ * 변경 기록은 버전 증가로 이벤트 행 잠금을 잡은 뒤 같은 트랜잭션 안에서 남기므로, 커밋된 버전의 변경은 항상 기록에 먼저 존재합니다.
+ * 기록에 실패하여 빠진 버전이 있으면, 다음 기록은 기록을 새로 시작하고 조회는 마지막 기록 버전이 현재 버전에 못 미치는 기록을 사용하지 않습니다.
+ * 참여자 이름 변경/탈퇴, 이벤트 수정처럼 참여자 단위로 표현하기 어려운 변경은 기록을 삭제하여 다음 조회가 전체 목록을 받도록 합니다.
+ */
+@Slf4j
+@Service
+public class ScheduleChangeLogService {
+
+    private static final String MEMBER_PREFIX = "m:";
+    private static final String USER_PREFIX = "u:";
+
+    private final ScheduleChangeLogRepository scheduleChangeLogRepository;
+    private final EventRepository eventRepository;
+    private final int maxEntries;
+    private final Duration ttl;
+
+    /**
+     * 변경된 참여자 목록.
+     *
+     * @param memberIds 선택 정보가 바뀐 멤버 ID 목록
+     * @param userIds 선택 정보가 바뀐 유저 ID 목록
+     */
+    public record ChangedParticipants(Set<Long> memberIds, Set<Long> userIds) {
+    }
+
+    public ScheduleChangeLogService(
+            ScheduleChangeLogRepository scheduleChangeLogRepository,
+            EventRepository eventRepository,
+            @Value("${schedule.change-log.max-entries:1000}") int maxEntries,
+            @Value("${schedule.change-log.ttl:PT24H}") Duration ttl) {
+        this.scheduleChangeLogRepository = scheduleChangeLogRepository;
+        this.eventRepository = eventRepository;
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 참여자 변경 기록 메서드.
+     * 이벤트 버전을 증가시킨 트랜잭션 안에서, 증가된 버전으로 호출합니다.
+     *
+     * @param eventId 이벤트 UUID
+     * @param version 변경이 반영된 이벤트 버전
+     * @param memberIds 선택 정보가 바뀐 멤버 ID 목록
+     * @param userIds 선택 정보가 바뀐 유저 ID 목록
+     */
+    public void record(UUID eventId, long version, Collection<Long> memberIds, Collection<Long> userIds) {
+        List<String> participants = new ArrayList<>(memberIds.size() + userIds.size());
+        memberIds.forEach(memberId -> participants.add(MEMBER_PREFIX + memberId));
+        userIds.forEach(userId -> participants.add(USER_PREFIX + userId));
+        try {
+            // 변경된 참여자가 없어도 마지막 기록 버전을 올려야 조회 시 빠진 버전으로 판단하지 않음
+            scheduleChangeLogRepository.record(eventId, version, participants, maxEntries, ttl);
+        } catch (RuntimeException e) {
+            // 빠진 변경이 있는 기록으로 변경분을 응답하지 않도록 기록 삭제
+            log.warn("⚠️ 스케줄 변경 기록 실패: eventId={}, version={}", eventId, version, e);
+            reset(eventId);
+        }
+    }
+
+    /**
+     * 현재 버전 기준 참여자 변경 기록 메서드.
+     * 이벤트 버전을 증가시킨 직후 같은 트랜잭션 안에서 호출하며, 증가된 버전을 다시 조회하여 기록합니다.
+     *
+     * @param eventId 이벤트 UUID
+     * @param id 이벤트 ID
+     * @param memberIds 선택 정보가 바뀐 멤버 ID 목록
+     * @param userIds 선택 정보가 바뀐 유저 ID 목록
+     * @return 기록한 이벤트 버전 (가용성 스냅샷에 변경을 반영할 버전)
+     * @throws CustomException 이벤트를 찾을 수 없는 경우
+     */
+    public long recordAtCurrentVersion(UUID eventId, Long id, Collection<Long> memberIds, Collection<Long> userIds) {
+        long version = eventRepository.findSelectionVersionById(id)
+                .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
+        record(eventId, version, memberIds, userIds);
+        return version;
+    }
+
+    /**
+     * 변경 기록 삭제 메서드.
+     * 이벤트 버전을 증가시킨 이후 호출하여, 그 이전 버전 기준의 변경분 조회가 전체 목록으로 대체되도록 합니다.
+     *
+     * @param eventId 이벤트 UUID
+     */
+    public void reset(UUID eventId) {
+        try {
+            scheduleChangeLogRepository.delete(eventId);
+        } catch (RuntimeException e) {
+            log.error("❌ 스케줄 변경 기록 삭제 실패: eventId={}", eventId, e);
+        }
+    }
+
+    /**
+     * since 버전 이후 변경된 참여자 조회 메서드.
+     * 기록이 없거나, since가 기록의 기준 버전보다 오래되었거나, 마지막 기록 버전이 현재 버전보다 낮거나, 조회에 실패하면
+     * 빈 값을 반환하며 호출한 쪽은 전체 목록으로 응답합니다.
+     * 마지막 기록 버전이 낮은 경우는 기록 실패 후 기록 삭제도 실패하여 현재 버전까지의 변경이 빠진 기록입니다.
+     * 아직 커밋되지 않은 이후 버전의 참여자가 포함될 수 있으며, 해당 참여자는 현재 선택 정보로 한 번 더 전달될 뿐입니다.
+     *
+     * @param eventId 이벤트 UUID
+     * @param since 클라이언트가 마지막으로 받은 이벤트 버전
+     * @param version 현재 이벤트 버전
+     * @return 변경된 참여자 목록
+     */
+    public Optional<ChangedParticipants> findChangedSince(UUID eventId, long since, long version) {
+        Set<String> participants;
+        try {
+            Optional<ScheduleChangeLogRepository.ChangeLog> changeLog = scheduleChangeLogRepository.findChangedSince(eventId, since);
+            if (changeLog.isEmpty()) {
+                return Optional.empty();
+            }
+            if (changeLog.get().headVersion() < version) {
+                log.warn("⚠️ 스케줄 변경 기록에 빠진 버전 존재, 전체 목록으로 응답: eventId={}, head={}, version={}",
+                        eventId, changeLog.get().headVersion(), version);
+                return Optional.empty();
+            }
+            participants = changeLog.get().participants();
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 스케줄 변경 기록 조회 실패: eventId={}", eventId, e);
+            return Optional.empty();
+        }
+
+        Set<Long> memberIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (String participant : participants) {
+            if (participant.startsWith(MEMBER_PREFIX)) {
+                memberIds.add(Long.parseLong(participant.substring(MEMBER_PREFIX.length())));
+            } else if (participant.startsWith(USER_PREFIX)) {
+                userIds.add(Long.parseLong(participant.substring(USER_PREFIX.length())));
+            }
+        }
+        return Optional.of(new ChangedParticipants(memberIds, userIds));
+    }
+}
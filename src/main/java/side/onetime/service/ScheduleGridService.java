@@ -0,0 +1,33 @@
+package side.onetime.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import side.onetime.domain.Event;
+import side.onetime.global.cache.ScheduleGridCache;
+import side.onetime.repository.ScheduleRepository;
+import side.onetime.util.ScheduleGrid;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ScheduleGridService {
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleGridCache scheduleGridCache;
+
+    /**
+     * 이벤트 스케줄 그리드 조회 메서드.
+     *
+     * 이벤트의 현재 선택 버전 이후에 캐시된 그리드가 있으면 DB 조회 없이 반환하고,
+     * 없거나 다른 인스턴스의 이벤트 수정으로 버전이 바뀌었으면 이벤트의 전체 스케줄을 한 번의 쿼리로 조회하여 그리드를 만든 뒤 캐시에 저장합니다.
+     *
+     * @param event 조회할 이벤트 객체
+     * @return 스케줄 그리드
+     */
+    @Transactional(readOnly = true)
+    public ScheduleGrid getScheduleGrid(Event event) {
+        return scheduleGridCache.get(event.getEventId(), event.getSelectionVersion(),
+                () -> ScheduleGrid.of(scheduleRepository.findAllByEvent(event).orElse(List.of())));
+    }
+}
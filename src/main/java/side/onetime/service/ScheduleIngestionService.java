@@ -0,0 +1,377 @@
+package side.onetime.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import side.onetime.domain.enums.SubmissionStatus;
+import side.onetime.dto.schedule.request.CreateDateScheduleRequest;
+import side.onetime.dto.schedule.request.CreateDayScheduleRequest;
+import side.onetime.dto.schedule.response.ScheduleSubmissionResponse;
+import side.onetime.exception.CustomException;
+import side.onetime.exception.status.EventErrorStatus;
+import side.onetime.exception.status.MemberErrorStatus;
+import side.onetime.exception.status.ScheduleErrorStatus;
+import side.onetime.global.common.code.BaseErrorCode;
+import side.onetime.global.common.status.ErrorStatus;
+import side.onetime.repository.EventRepository;
+import side.onetime.repository.MemberRepository;
+import side.onetime.repository.ScheduleSubmissionRepository;
+import side.onetime.util.JwtUtil;
+import side.onetime.util.SelectedSlots;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 스케줄 등록 비동기 저장 서비스.
+ *
+ * 비동기 저장 모드에서는 요청 스레드가 요청을 검증한 뒤 제한된 크기의 메모리 큐에 넣고 상태 토큰을 바로 반환합니다.
+ * 큐는 워커 수만큼 이벤트 UUID 기준으로 나뉘어 있어 같은 이벤트의 제출은 항상 같은 워커가 순서대로 처리하며,
+ * 워커는 큐에서 최대 batch-size개의 제출을 꺼내 이벤트별로 한 트랜잭션에서 일괄 저장합니다.
+ * 큐가 가득 차면 요청을 접수하지 않고 429 응답으로 부하를 되돌립니다.
+ * 제출 처리 상태는 Redis에 보관하며, 큐 길이/배치 크기/저장 지연 시간 통계를 제공합니다.
+ */
+@Slf4j
+@Service
+public class ScheduleIngestionService {
+
+    private static final long POLL_TIMEOUT_MILLIS = 200L;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 30_000L;
+
+    private final ScheduleService scheduleService;
+    private final EventRepository eventRepository;
+    private final MemberRepository memberRepository;
+    private final ScheduleSubmissionRepository scheduleSubmissionRepository;
+    private final JwtUtil jwtUtil;
+    private final boolean enabled;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final Duration statusTtl;
+
+    private final List<BlockingQueue<Submission>> queues = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    private final LongAdder acceptedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder batchedSubmissionCount = new LongAdder();
+    private final AtomicInteger maxBatchSize = new AtomicInteger();
+    private final LongAdder drainLatencyNanos = new LongAdder();
+    private final AtomicLong maxDrainLatencyNanos = new AtomicLong();
+
+    /**
+     * 큐에 접수된 스케줄 제출.
+     *
+     * @param token 상태 조회 토큰
+     * @param eventId 이벤트 UUID
+     * @param memberId 멤버 UUID (유저인 경우 null)
+     * @param userId 유저 ID (멤버인 경우 null)
+     * @param schedules 선택 슬롯
+     * @param acceptedAt 접수 시각 (System.nanoTime 기준)
+     */
+    public record Submission(String token, UUID eventId, UUID memberId, Long userId,
+                             SelectedSlots schedules, long acceptedAt) {
+    }
+
+    /**
+     * 비동기 저장 통계.
+     *
+     * @param enabled 비동기 저장 모드 사용 여부
+     * @param queueDepth 저장 대기 중인 제출 수
+     * @param queueCapacity 큐 전체 용량
+     * @param acceptedCount 접수된 제출 수
+     * @param rejectedCount 큐가 가득 차 거절된 제출 수
+     * @param completedCount 저장 완료된 제출 수
+     * @param failedCount 저장 실패한 제출 수
+     * @param batchCount 처리한 배치 수
+     * @param averageBatchSize 평균 배치 크기
+     * @param maxBatchSize 최대 배치 크기
+     * @param averageDrainLatencyMillis 접수부터 저장 완료까지의 평균 지연 시간
+     * @param maxDrainLatencyMillis 접수부터 저장 완료까지의 최대 지연 시간
+     */
+    public record Stats(boolean enabled, int queueDepth, int queueCapacity, long acceptedCount, long rejectedCount,
+                        long completedCount, long failedCount, long batchCount, double averageBatchSize, int maxBatchSize,
+                        double averageDrainLatencyMillis, double maxDrainLatencyMillis) {
+    }
+
+    public ScheduleIngestionService(
+            ScheduleService scheduleService,
+            EventRepository eventRepository,
+            MemberRepository memberRepository,
+            ScheduleSubmissionRepository scheduleSubmissionRepository,
+            JwtUtil jwtUtil,
+            @Value("${schedule.async-ingestion.enabled:false}") boolean enabled,
+            @Value("${schedule.async-ingestion.queue-capacity:10000}") int queueCapacity,
+            @Value("${schedule.async-ingestion.workers:4}") int workerCount,
+            @Value("${schedule.async-ingestion.batch-size:100}") int batchSize,
+            @Value("${schedule.async-ingestion.status-ttl:PT10M}") Duration statusTtl) {
+        this.scheduleService = scheduleService;
+        this.eventRepository = eventRepository;
+        this.memberRepository = memberRepository;
+        this.scheduleSubmissionRepository = scheduleSubmissionRepository;
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.statusTtl = statusTtl;
+        int queueCount = Math.max(1, workerCount);
+        int capacityPerQueue = Math.max(1, queueCapacity / queueCount);
+        for (int i = 0; i < queueCount; i++) {
+            queues.add(new ArrayBlockingQueue<>(capacityPerQueue));
+        }
+        this.queueCapacity = capacityPerQueue * queueCount;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < queues.size(); i++) {
+            BlockingQueue<Submission> queue = queues.get(i);
+            Thread worker = new Thread(() -> drain(queue), "schedule-ingestion-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("📥 스케줄 비동기 저장 시작: workers={}, queueCapacity={}, batchSize={}", queues.size(), queueCapacity, batchSize);
+    }
+
+    /**
+     * 애플리케이션 종료 시 접수를 중단하고 큐에 남은 제출을 모두 저장하는 메서드.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MILLIS;
+        for (Thread worker : workers) {
+            worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+        }
+        log.info("📥 스케줄 비동기 저장 종료: 남은 제출 수={}", queueDepth());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요일 스케줄 등록 요청 접수 메서드.
+     *
+     * @param createDayScheduleRequest 요일 스케줄 등록 요청 데이터
+     * @param authorizationHeader 사용자 인증 토큰 (비로그인인 경우 null)
+     * @return 상태 조회 토큰과 접수 상태
+     */
+    public ScheduleSubmissionResponse submitDaySchedules(CreateDayScheduleRequest createDayScheduleRequest, String authorizationHeader) {
+        return submit(createDayScheduleRequest.eventId(), createDayScheduleRequest.memberId(), authorizationHeader,
+                createDayScheduleRequest.schedules());
+    }
+
+    /**
+     * 날짜 스케줄 등록 요청 접수 메서드.
+     *
+     * @param createDateScheduleRequest 날짜 스케줄 등록 요청 데이터
+     * @param authorizationHeader 사용자 인증 토큰 (비로그인인 경우 null)
+     * @return 상태 조회 토큰과 접수 상태
+     */
+    public ScheduleSubmissionResponse submitDateSchedules(CreateDateScheduleRequest createDateScheduleRequest, String authorizationHeader) {
+        return submit(createDateScheduleRequest.eventId(), createDateScheduleRequest.memberId(), authorizationHeader,
+                createDateScheduleRequest.schedules());
+    }
+
+    /**
+     * 스케줄 등록 요청 상태 조회 메서드.
+     *
+     * @param token 상태 조회 토큰
+     * @return 처리 상태 (실패한 경우 실패 코드와 메시지 포함)
+     */
+    public ScheduleSubmissionResponse getSubmission(String token) {
+        return scheduleSubmissionRepository.findByToken(token)
+                .orElseThrow(() -> new CustomException(ScheduleErrorStatus._NOT_FOUND_SCHEDULE_SUBMISSION));
+    }
+
+    public Stats getStats() {
+        long processed = completedCount.sum() + failedCount.sum();
+        long batches = batchCount.sum();
+        return new Stats(
+                enabled,
+                queueDepth(),
+                queueCapacity,
+                acceptedCount.sum(),
+                rejectedCount.sum(),
+                completedCount.sum(),
+                failedCount.sum(),
+                batches,
+                batches == 0 ? 0.0 : (double) batchedSubmissionCount.sum() / batches,
+                maxBatchSize.get(),
+                processed == 0 ? 0.0 : drainLatencyNanos.sum() / 1_000_000.0 / processed,
+                maxDrainLatencyNanos.get() / 1_000_000.0
+        );
+    }
+
+    /**
+     * 비동기 저장 통계 로그 출력 메서드.
+     */
+    @Scheduled(fixedDelayString = "${schedule.async-ingestion.stats-log-interval:PT1M}")
+    public void logStats() {
+        if (!enabled) {
+            return;
+        }
+        Stats stats = getStats();
+        log.info("📊 스케줄 비동기 저장 통계 queue={}/{}, accepted={}, rejected={}, completed={}, failed={}, batches={}, avgBatch={}, maxBatch={}, avgLatency={}ms, maxLatency={}ms",
+                stats.queueDepth(), stats.queueCapacity(), stats.acceptedCount(), stats.rejectedCount(),
+                stats.completedCount(), stats.failedCount(), stats.batchCount(),
+                String.format("%.1f", stats.averageBatchSize()), stats.maxBatchSize(),
+                String.format("%.1f", stats.averageDrainLatencyMillis()), String.format("%.1f", stats.maxDrainLatencyMillis()));
+    }
+
+    private ScheduleSubmissionResponse submit(String eventId, String memberId, String authorizationHeader, SelectedSlots schedules) {
+        // 요청 스레드에서는 트랜잭션 없이 존재 여부와 토큰만 검증
+        UUID eventUuid = UUID.fromString(eventId);
+        if (!eventRepository.existsByEventId(eventUuid)) {
+            throw new CustomException(EventErrorStatus._NOT_FOUND_EVENT);
+        }
+        UUID memberUuid = null;
+        Long userId = null;
+        if (authorizationHeader != null) {
+            String token = jwtUtil.getTokenFromHeader(authorizationHeader);
+            jwtUtil.validateToken(token);
+            userId = jwtUtil.getClaimFromToken(token, "userId", Long.class);
+        } else {
+            if (memberId == null) {
+                throw new CustomException(MemberErrorStatus._NOT_FOUND_MEMBER);
+            }
+            memberUuid = UUID.fromString(memberId);
+            if (memberRepository.findByMemberId(memberUuid).isEmpty()) {
+                throw new CustomException(MemberErrorStatus._NOT_FOUND_MEMBER);
+            }
+        }
+
+        Submission submission = new Submission(UUID.randomUUID().toString(), eventUuid, memberUuid, userId, schedules, System.nanoTime());
+        // 워커가 먼저 완료 상태를 저장하지 않도록 큐에 넣기 전에 대기 상태를 저장
+        saveStatus(submission.token(), SubmissionStatus.PENDING, null);
+        BlockingQueue<Submission> queue = queues.get(Math.floorMod(eventUuid.hashCode(), queues.size()));
+        if (!running || !queue.offer(submission)) {
+            // 접수되지 않은 토큰은 응답하지 않으므로, 조회되지 않는 대기 상태가 TTL 동안 남지 않도록 삭제
+            deleteStatus(submission.token());
+            rejectedCount.increment();
+            throw new CustomException(ScheduleErrorStatus._TOO_MANY_SCHEDULE_SUBMISSIONS);
+        }
+        acceptedCount.increment();
+        return ScheduleSubmissionResponse.of(submission.token(), SubmissionStatus.PENDING);
+    }
+
+    private void drain(BlockingQueue<Submission> queue) {
+        List<Submission> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Submission first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("❌ 스케줄 비동기 저장 워커 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<Submission> batch) {
+        batchCount.increment();
+        batchedSubmissionCount.add(batch.size());
+        maxBatchSize.accumulateAndGet(batch.size(), Math::max);
+
+        Map<UUID, List<Submission>> submissionsByEvent = new LinkedHashMap<>();
+        for (Submission submission : batch) {
+            submissionsByEvent.computeIfAbsent(submission.eventId(), key -> new ArrayList<>()).add(submission);
+        }
+        submissionsByEvent.forEach((eventId, submissions) -> {
+            try {
+                scheduleService.createSchedules(eventId, submissions);
+                submissions.forEach(submission -> complete(submission, SubmissionStatus.COMPLETED, null));
+            } catch (RuntimeException e) {
+                if (submissions.size() == 1) {
+                    fail(submissions.get(0), e);
+                    return;
+                }
+                // 실패한 제출만 골라내기 위해 한 건씩 다시 저장
+                for (Submission submission : submissions) {
+                    try {
+                        scheduleService.createSchedules(eventId, List.of(submission));
+                        complete(submission, SubmissionStatus.COMPLETED, null);
+                    } catch (RuntimeException single) {
+                        fail(submission, single);
+                    }
+                }
+            }
+        });
+    }
+
+    private void fail(Submission submission, RuntimeException e) {
+        BaseErrorCode errorCode = e instanceof CustomException customException
+                ? customException.getErrorCode()
+                : ErrorStatus._INTERNAL_SERVER_ERROR;
+        log.warn("⚠️ 스케줄 비동기 저장 실패: token={}, eventId={}", submission.token(), submission.eventId(), e);
+        complete(submission, SubmissionStatus.FAILED, errorCode);
+    }
+
+    private void complete(Submission submission, SubmissionStatus status, BaseErrorCode errorCode) {
+        if (status == SubmissionStatus.COMPLETED) {
+            completedCount.increment();
+        } else {
+            failedCount.increment();
+        }
+        long latency = System.nanoTime() - submission.acceptedAt();
+        drainLatencyNanos.add(latency);
+        maxDrainLatencyNanos.accumulateAndGet(latency, Math::max);
+        saveStatus(submission.token(), status, errorCode);
+    }
+
+    private void saveStatus(String token, SubmissionStatus status, BaseErrorCode errorCode) {
+        try {
+            scheduleSubmissionRepository.save(token, status,
+                    errorCode == null ? null : errorCode.getReasonHttpStatus().getCode(),
+                    errorCode == null ? null : errorCode.getReasonHttpStatus().getMessage(),
+                    statusTtl);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 스케줄 등록 요청 상태 저장 실패: token={}", token, e);
+        }
+    }
+
+    private void deleteStatus(String token) {
+        try {
+            scheduleSubmissionRepository.delete(token);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 스케줄 등록 요청 상태 삭제 실패: token={}", token, e);
+        }
+    }
+
+    private int queueDepth() {
+        int depth = 0;
+        for (BlockingQueue<Submission> queue : queues) {
+            depth += queue.size();
+        }
+        return depth;
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import side.onetime.domain.*;
+import side.onetime.domain.enums.Category;
 import side.onetime.domain.enums.EventStatus;
 import side.onetime.dto.schedule.request.CreateDateScheduleRequest;
 import side.onetime.dto.schedule.request.CreateDayScheduleRequest;
@@ -12,16 +13,23 @@ import side.onetime.dto.schedule.response.DateSchedule;
 import side.onetime.dto.schedule.response.DaySchedule;
 import side.onetime.dto.schedule.response.PerDateSchedulesResponse;
 import side.onetime.dto.schedule.response.PerDaySchedulesResponse;
+import side.onetime.dto.schedule.response.ScheduleChangesResponse;
 import side.onetime.exception.CustomException;
 import side.onetime.exception.status.EventErrorStatus;
 import side.onetime.exception.status.MemberErrorStatus;
-import side.onetime.exception.status.ScheduleErrorStatus;
 import side.onetime.exception.status.UserErrorStatus;
+import side.onetime.global.retry.annotation.OptimisticRetry;
 import side.onetime.repository.*;
+import side.onetime.repository.custom.ScheduleSelectionRow;
+import side.onetime.util.AvailabilityMatrix;
 import side.onetime.util.JwtUtil;
+import side.onetime.util.ScheduleBitsetWriter;
+import side.onetime.util.ScheduleGrid;
 import side.onetime.util.UserAuthorizationUtil;
 
 import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -31,20 +39,24 @@ public class ScheduleService {
     private final EventRepository eventRepository;
     private final EventParticipationRepository eventParticipationRepository;
     private final MemberRepository memberRepository;
-    private final ScheduleRepository scheduleRepository;
     private final SelectionRepository selectionRepository;
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
-    private final SelectionBatchRepository selectionBatchRepository;
+    private final AvailabilitySnapshotService availabilitySnapshotService;
+    private final ScheduleGridService scheduleGridService;
+    private final SelectionWriter selectionWriter;
+    private final ScheduleChangeLogService scheduleChangeLogService;
 
     /**
      * 요일 스케줄 등록 메서드 (비로그인).
      *
      * 비로그인 사용자가 요일 스케줄을 등록합니다.
-     * 기존 Selection 데이터를 삭제하고 새 Selection 데이터를 저장합니다.
+     * 기존 Selection 데이터와 비교하여 추가/해제된 스케줄의 Selection 데이터만 저장/삭제합니다.
+     * 같은 참여자의 선택 정보가 동시에 저장되어 참여자 선택 버전이 충돌하면 새 트랜잭션에서 다시 시도합니다.
      *
      * @param createDayScheduleRequest 요일 스케줄 등록 요청 데이터
      */
+    @OptimisticRetry
     @Transactional
     public void createDaySchedulesForAnonymousUser(CreateDayScheduleRequest createDayScheduleRequest) {
         Event event = eventRepository.findByEventId(UUID.fromString(createDayScheduleRequest.eventId()))
@@ -52,85 +64,51 @@ public class ScheduleService {
         Member member = memberRepository.findByMemberId(UUID.fromString(createDayScheduleRequest.memberId()))
                 .orElseThrow(() -> new CustomException(MemberErrorStatus._NOT_FOUND_MEMBER));
 
-        List<DaySchedule> daySchedules = createDayScheduleRequest.daySchedules();
-        List<Selection> selections = new ArrayList<>();
-        for (DaySchedule daySchedule : daySchedules) {
-            String day = daySchedule.day();
-            List<String> times = daySchedule.times();
-            List<Schedule> schedules = scheduleRepository.findAllByEventAndDay(event, day)
-                    .orElseThrow(() -> new CustomException(ScheduleErrorStatus._NOT_FOUND_DAY_SCHEDULES));
-
-            for (Schedule schedule : schedules) {
-                if (times.contains(schedule.getTime())) {
-                    selections.add(Selection.builder()
-                            .member(member)
-                            .schedule(schedule)
-                            .build());
-                }
-            }
-        }
-        selectionRepository.deleteAllByMember(member);
-        selectionBatchRepository.insertAll(selections);
+        // 캐시된 스케줄 그리드에서 요청된 선택 슬롯의 셀을 색인 조회로 찾음
+        ScheduleGrid grid = scheduleGridService.getScheduleGrid(event);
+        List<ScheduleGrid.Cell> cells = grid.resolve(createDayScheduleRequest.schedules());
+        selectionWriter.write(event, member, cells);
     }
 
     /**
      * 요일 스케줄 등록 메서드 (로그인).
      *
      * 로그인 사용자가 요일 스케줄을 등록합니다.
-     * 기존 Selection 데이터를 삭제하고 새 Selection 데이터를 저장합니다.
+     * 기존 Selection 데이터와 비교하여 추가/해제된 스케줄의 Selection 데이터만 저장/삭제합니다.
+     * 같은 참여자의 선택 정보가 동시에 저장되어 참여자 선택 버전이 충돌하면 새 트랜잭션에서 다시 시도합니다.
      *
      * @param createDayScheduleRequest 요일 스케줄 등록 요청 데이터
      * @param authorizationHeader 사용자 인증 토큰
      */
+    @OptimisticRetry
     @Transactional
     public void createDaySchedulesForAuthenticatedUser(CreateDayScheduleRequest createDayScheduleRequest, String authorizationHeader) {
         Event event = eventRepository.findByEventId(UUID.fromString(createDayScheduleRequest.eventId()))
                 .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
         User user = jwtUtil.getUserFromHeader(authorizationHeader);
-        EventParticipation eventParticipation = eventParticipationRepository.findByUserAndEvent(user, event);
-        if (eventParticipation == null) {
-            // 참여 정보가 없는 경우 참여자로 저장
-            eventParticipationRepository.save(
-                    EventParticipation.builder()
-                            .user(user)
-                            .event(event)
-                            .eventStatus(EventStatus.PARTICIPANT)
-                            .build()
-            );
-        } else if (EventStatus.CREATOR == eventParticipation.getEventStatus()) {
-            // 생성자인 경우 생성자 & 참여자로 변경
-            eventParticipation.updateEventStatus(EventStatus.CREATOR_AND_PARTICIPANT);
-        }
-
-        List<DaySchedule> daySchedules = createDayScheduleRequest.daySchedules();
-        List<Selection> selections = new ArrayList<>();
-        for (DaySchedule daySchedule : daySchedules) {
-            String day = daySchedule.day();
-            List<String> times = daySchedule.times();
-            List<Schedule> schedules = scheduleRepository.findAllByEventAndDay(event, day)
-                    .orElseThrow(() -> new CustomException(ScheduleErrorStatus._NOT_FOUND_DAY_SCHEDULES));
-
-            for (Schedule schedule : schedules) {
-                if (times.contains(schedule.getTime())) {
-                    selections.add(Selection.builder()
-                            .user(user)
-                            .schedule(schedule)
-                            .build());
-                }
-            }
+        boolean participationChanged = registerParticipation(user, event);
+
+        // 캐시된 스케줄 그리드에서 요청된 선택 슬롯의 셀을 색인 조회로 찾음
+        ScheduleGrid grid = scheduleGridService.getScheduleGrid(event);
+        List<ScheduleGrid.Cell> cells = grid.resolve(createDayScheduleRequest.schedules());
+        selectionWriter.write(event, user, cells);
+        if (participationChanged) {
+            // 선택 정보가 같아도 참여자 목록이 바뀌었으므로 이벤트 버전 증가
+            eventRepository.increaseSelectionVersion(event.getId());
+            scheduleChangeLogService.recordAtCurrentVersion(event.getEventId(), event.getId(), List.of(), List.of(user.getId()));
         }
-        selectionRepository.deleteAllByUserAndEvent(user, event);
-        selectionBatchRepository.insertAll(selections);
     }
 
     /**
      * 날짜 스케줄 등록 메서드 (비로그인).
      *
      * 비로그인 사용자가 날짜 스케줄을 등록합니다.
-     * 기존 Selection 데이터를 삭제하고 새 Selection 데이터를 저장합니다.
+     * 기존 Selection 데이터와 비교하여 추가/해제된 스케줄의 Selection 데이터만 저장/삭제합니다.
+     * 같은 참여자의 선택 정보가 동시에 저장되어 참여자 선택 버전이 충돌하면 새 트랜잭션에서 다시 시도합니다.
      *
      * @param createDateScheduleRequest 날짜 스케줄 등록 요청 데이터
      */
+    @OptimisticRetry
     @Transactional
     public void createDateSchedulesForAnonymousUser(CreateDateScheduleRequest createDateScheduleRequest) {
         Event event = eventRepository.findByEventId(UUID.fromString(createDateScheduleRequest.eventId()))
@@ -138,41 +116,93 @@ public class ScheduleService {
         Member member = memberRepository.findByMemberId(UUID.fromString(createDateScheduleRequest.memberId()))
                 .orElseThrow(() -> new CustomException(MemberErrorStatus._NOT_FOUND_MEMBER));
 
-        List<DateSchedule> dateSchedules = createDateScheduleRequest.dateSchedules();
-        List<Selection> selections = new ArrayList<>();
-        for (DateSchedule dateSchedule : dateSchedules) {
-            String date = dateSchedule.date();
-            List<String> times = dateSchedule.times();
-            List<Schedule> schedules = scheduleRepository.findAllByEventAndDate(event, date)
-                    .orElseThrow(() -> new CustomException(ScheduleErrorStatus._NOT_FOUND_DATE_SCHEDULES));
-
-            for (Schedule schedule : schedules) {
-                if (times.contains(schedule.getTime())) {
-                    selections.add(Selection.builder()
-                            .member(member)
-                            .schedule(schedule)
-                            .build());
-                }
-            }
-        }
-        selectionRepository.deleteAllByMember(member);
-        selectionBatchRepository.insertAll(selections);
+        // 캐시된 스케줄 그리드에서 요청된 선택 슬롯의 셀을 색인 조회로 찾음
+        ScheduleGrid grid = scheduleGridService.getScheduleGrid(event);
+        List<ScheduleGrid.Cell> cells = grid.resolve(createDateScheduleRequest.schedules());
+        selectionWriter.write(event, member, cells);
     }
 
     /**
      * 날짜 스케줄 등록 메서드 (로그인).
      *
      * 로그인 사용자가 날짜 스케줄을 등록합니다.
-     * 기존 Selection 데이터를 삭제하고 새 Selection 데이터를 저장합니다.
+     * 기존 Selection 데이터와 비교하여 추가/해제된 스케줄의 Selection 데이터만 저장/삭제합니다.
+     * 같은 참여자의 선택 정보가 동시에 저장되어 참여자 선택 버전이 충돌하면 새 트랜잭션에서 다시 시도합니다.
      *
      * @param createDateScheduleRequest 날짜 스케줄 등록 요청 데이터
      * @param authorizationHeader 사용자 인증 토큰
      */
+    @OptimisticRetry
     @Transactional
     public void createDateSchedulesForAuthenticatedUser(CreateDateScheduleRequest createDateScheduleRequest, String authorizationHeader) {
         Event event = eventRepository.findByEventId(UUID.fromString(createDateScheduleRequest.eventId()))
                 .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
         User user = jwtUtil.getUserFromHeader(authorizationHeader);
+        boolean participationChanged = registerParticipation(user, event);
+
+        // 캐시된 스케줄 그리드에서 요청된 선택 슬롯의 셀을 색인 조회로 찾음
+        ScheduleGrid grid = scheduleGridService.getScheduleGrid(event);
+        List<ScheduleGrid.Cell> cells = grid.resolve(createDateScheduleRequest.schedules());
+        selectionWriter.write(event, user, cells);
+        if (participationChanged) {
+            // 선택 정보가 같아도 참여자 목록이 바뀌었으므로 이벤트 버전 증가
+            eventRepository.increaseSelectionVersion(event.getId());
+            scheduleChangeLogService.recordAtCurrentVersion(event.getEventId(), event.getId(), List.of(), List.of(user.getId()));
+        }
+    }
+
+    /**
+     * 스케줄 일괄 등록 메서드 (비동기 저장).
+     *
+     * 비동기 저장 큐에서 꺼낸 같은 이벤트의 제출들을 한 트랜잭션에서 저장합니다.
+     * 같은 참여자의 제출이 여러 건이면 마지막 제출만 반영하며, 선택 정보 버전은 한 번만 증가합니다.
+     * 같은 참여자의 선택 정보가 동시에 저장되어 참여자 선택 버전이 충돌하면 새 트랜잭션에서 다시 시도합니다.
+     *
+     * @param eventId 이벤트 UUID
+     * @param submissions 접수 순서대로 정렬된 제출 목록
+     */
+    @OptimisticRetry
+    @Transactional
+    public void createSchedules(UUID eventId, List<ScheduleIngestionService.Submission> submissions) {
+        Event event = eventRepository.findByEventId(eventId)
+                .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
+        ScheduleGrid grid = scheduleGridService.getScheduleGrid(event);
+
+        List<SelectionWriter.ParticipantCells> participantCells = new ArrayList<>(submissions.size());
+        List<Long> participatedUserIds = new ArrayList<>();
+        for (ScheduleIngestionService.Submission submission : submissions) {
+            List<ScheduleGrid.Cell> cells = grid.resolve(submission.schedules());
+            if (submission.userId() != null) {
+                User user = userRepository.findById(submission.userId())
+                        .orElseThrow(() -> new CustomException(UserErrorStatus._NOT_FOUND_USER));
+                if (registerParticipation(user, event)) {
+                    participatedUserIds.add(user.getId());
+                }
+                participantCells.add(new SelectionWriter.ParticipantCells(null, user, cells));
+            } else {
+                Member member = memberRepository.findByMemberId(submission.memberId())
+                        .orElseThrow(() -> new CustomException(MemberErrorStatus._NOT_FOUND_MEMBER));
+                participantCells.add(new SelectionWriter.ParticipantCells(member, null, cells));
+            }
+        }
+        selectionWriter.writeAll(event, participantCells);
+        if (!participatedUserIds.isEmpty()) {
+            eventRepository.increaseSelectionVersion(event.getId());
+            scheduleChangeLogService.recordAtCurrentVersion(event.getEventId(), event.getId(), List.of(), participatedUserIds);
+        }
+    }
+
+    /**
+     * 이벤트 참여 정보 저장 메서드.
+     *
+     * 참여 정보가 없으면 참여자로 저장하고, 생성자인 경우 생성자 & 참여자로 변경합니다.
+     * 이벤트 행 잠금을 커밋 직전에만 잡도록, 참여 정보 변경에 따른 이벤트 버전 증가는 호출한 쪽에서 선택 정보 저장 이후에 처리합니다.
+     *
+     * @param user 스케줄을 등록하는 유저
+     * @param event 대상 이벤트
+     * @return 참여 정보 저장 또는 변경 여부
+     */
+    private boolean registerParticipation(User user, Event event) {
         EventParticipation eventParticipation = eventParticipationRepository.findByUserAndEvent(user, event);
         if (eventParticipation == null) {
             // 참여 정보가 없는 경우 참여자로 저장
@@ -183,66 +213,130 @@ public class ScheduleService {
                             .eventStatus(EventStatus.PARTICIPANT)
                             .build()
             );
-        } else if (EventStatus.CREATOR == eventParticipation.getEventStatus()) {
+            return true;
+        }
+        if (EventStatus.CREATOR == eventParticipation.getEventStatus()) {
             // 생성자인 경우 생성자 & 참여자로 변경
             eventParticipation.updateEventStatus(EventStatus.CREATOR_AND_PARTICIPANT);
+            return true;
         }
-
-        List<DateSchedule> dateSchedules = createDateScheduleRequest.dateSchedules();
-        List<Selection> selections = new ArrayList<>();
-        for (DateSchedule dateSchedule : dateSchedules) {
-            String date = dateSchedule.date();
-            List<String> times = dateSchedule.times();
-
-            List<Schedule> schedules = scheduleRepository.findAllByEventAndDate(event, date)
-                    .orElseThrow(() -> new CustomException(ScheduleErrorStatus._NOT_FOUND_DATE_SCHEDULES));
-
-            for (Schedule schedule : schedules) {
-                if (times.contains(schedule.getTime())) {
-                    selections.add(Selection.builder()
-                            .user(user)
-                            .schedule(schedule)
-                            .build());
-                }
-            }
-        }
-        selectionRepository.deleteAllByUserAndEvent(user, event);
-        selectionBatchRepository.insertAll(selections);
+        return false;
     }
 
     /**
      * 전체 요일 스케줄 반환 메서드.
      *
      * 이벤트에 참여하는 모든 사용자(멤버와 유저)의 요일 스케줄을 반환합니다.
+     * 선택 정보는 참여자 수와 관계없이 한 번의 쿼리로 조회한 뒤 참여자별로 분류합니다.
      *
      * @param eventId 조회할 이벤트 ID (UUID 문자열)
      * @return 요일별 스케줄 응답 리스트
      */
     @Transactional(readOnly = true)
     public List<PerDaySchedulesResponse> getAllDaySchedules(String eventId) {
+        selectionWriter.flushEvent(UUID.fromString(eventId));
+
         Event event = eventRepository.findByEventId(UUID.fromString(eventId))
                 .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
 
         List<Member> members = memberRepository.findAllByEvent(event);
+        List<User> users = findParticipantUsers(event);
+        ParticipantScheduleRows rows = groupScheduleSelectionRows(selectionRepository.findAllScheduleSelectionRowsByEvent(event));
+
+        return toParticipantSchedules(members, users, rows, (name, selectionRows) -> PerDaySchedulesResponse.of(name, toDaySchedules(selectionRows)));
+    }
 
-        List<User> users = eventParticipationRepository.findAllByEvent(event).stream()
+    /**
+     * 이벤트 참여 유저 조회 메서드.
+     * CREATOR를 제외한 참여 유저를 이벤트 참여 정보와 함께 한 번에 조회합니다.
+     *
+     * @param event 조회할 이벤트 객체
+     * @return 참여 유저 리스트
+     */
+    private List<User> findParticipantUsers(Event event) {
+        return eventParticipationRepository.findAllByEventIdInWithUser(List.of(event.getId())).stream()
                 .filter(p -> p.getEventStatus() != EventStatus.CREATOR)
                 .map(EventParticipation::getUser)
                 .toList();
+    }
 
-        List<PerDaySchedulesResponse> responses = new ArrayList<>();
+    /**
+     * 선택 스케줄 조회 결과를 참여자별로 분류하는 메서드.
+     * 조회 결과를 한 번 순회하며 멤버 ID, 유저 ID 기준으로 나누고, 참여자별 선택 순서는 유지합니다.
+     *
+     * @param rows 선택 스케줄 조회 결과 리스트
+     * @return 참여자별 선택 스케줄 조회 결과
+     */
+    private ParticipantScheduleRows groupScheduleSelectionRows(List<ScheduleSelectionRow> rows) {
+        Map<Long, List<ScheduleSelectionRow>> memberRows = new HashMap<>();
+        Map<Long, List<ScheduleSelectionRow>> userRows = new HashMap<>();
+        for (ScheduleSelectionRow row : rows) {
+            if (row.memberId() != null) {
+                memberRows.computeIfAbsent(row.memberId(), id -> new ArrayList<>()).add(row);
+            } else if (row.userId() != null) {
+                userRows.computeIfAbsent(row.userId(), id -> new ArrayList<>()).add(row);
+            }
+        }
+        return new ParticipantScheduleRows(memberRows, userRows);
+    }
 
-        for (Member member : members) {
-            List<Selection> selections = selectionRepository.findAllByMemberWithSchedule(member);
-            responses.add(toPerDaySchedules(member.getName(), selections, s -> s.getSchedule().getDay() != null));
+    /**
+     * 참여자별 선택 스케줄 조회 결과.
+     *
+     * @param memberRows 멤버 ID별 선택 스케줄 조회 결과
+     * @param userRows 유저 ID별 선택 스케줄 조회 결과
+     */
+    private record ParticipantScheduleRows(
+            Map<Long, List<ScheduleSelectionRow>> memberRows,
+            Map<Long, List<ScheduleSelectionRow>> userRows
+    ) {
+        private List<ScheduleSelectionRow> ofMember(Long memberId) {
+            return memberRows.getOrDefault(memberId, List.of());
         }
 
-        for (User user : users) {
-            List<Selection> selections = selectionRepository.findAllByUserAndEventWithScheduleAndEvent(user, event);
-            responses.add(toPerDaySchedules(user.getNickname(), selections, s -> s.getSchedule().getDay() != null));
+        private List<ScheduleSelectionRow> ofUser(Long userId) {
+            return userRows.getOrDefault(userId, List.of());
         }
+    }
 
-        return responses;
+    /**
+     * 선택 스케줄 조회 결과를 요일별로 그룹화하여 DaySchedule 리스트로 변환합니다.
+     * 요일이 없는 선택은 제외하며, 요일은 처음 등장한 순서를 유지합니다.
+     *
+     * @param rows 한 참여자의 선택 스케줄 조회 결과 리스트
+     * @return 요일별 스케줄 리스트
+     */
+    private List<DaySchedule> toDaySchedules(List<ScheduleSelectionRow> rows) {
+        Map<String, List<String>> grouped = new LinkedHashMap<>();
+        for (ScheduleSelectionRow row : rows) {
+            if (row.day() != null) {
+                grouped.computeIfAbsent(row.day(), day -> new ArrayList<>()).add(row.time());
+            }
+        }
+
+        List<DaySchedule> daySchedules = new ArrayList<>();
+        grouped.forEach((day, times) -> daySchedules.add(new DaySchedule(day, times)));
+        return daySchedules;
+    }
+
+    /**
+     * 선택 스케줄 조회 결과를 날짜별로 그룹화하여 DateSchedule 리스트로 변환합니다.
+     * 날짜가 없는 선택은 제외하며, 날짜는 처음 등장한 순서를 유지합니다.
+     *
+     * @param rows 한 참여자의 선택 스케줄 조회 결과 리스트
+     * @return 날짜별 스케줄 리스트
+     */
+    private List<DateSchedule> toDateSchedules(List<ScheduleSelectionRow> rows) {
+        Map<String, List<String>> grouped = new LinkedHashMap<>();
+        for (ScheduleSelectionRow row : rows) {
+            if (row.date() != null) {
+                grouped.computeIfAbsent(row.date(), date -> new ArrayList<>()).add(row.time());
+            }
+        }
+
+        List<DateSchedule> dateSchedules = new ArrayList<>();
+        grouped.forEach((date, times) -> dateSchedules.add(new DateSchedule(date, times)));
+        return dateSchedules;
     }
 
     /**
@@ -280,6 +374,8 @@ public class ScheduleService {
      */
     @Transactional(readOnly = true)
     public PerDaySchedulesResponse getMemberDaySchedules(String eventId, String memberId) {
+        selectionWriter.flushMember(UUID.fromString(eventId), UUID.fromString(memberId));
+
         Event event = eventRepository.findByEventId(UUID.fromString(eventId))
                 .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
 
@@ -300,6 +396,8 @@ public class ScheduleService {
      */
     @Transactional(readOnly = true)
     public PerDaySchedulesResponse getUserDaySchedules(String eventId) {
+        selectionWriter.flushUser(UUID.fromString(eventId), UserAuthorizationUtil.getLoginUserId());
+
         User user = userRepository.findById(UserAuthorizationUtil.getLoginUserId())
                 .orElseThrow(() -> new CustomException(UserErrorStatus._NOT_FOUND_USER));
 
@@ -315,34 +413,184 @@ public class ScheduleService {
      *
      * 특정 이벤트에 참여한 멤버와 유저의 선택 스케줄을 조회하고,
      * 날짜별로 그룹화하여 응답 형태로 반환합니다.
+     * 선택 정보는 참여자 수와 관계없이 한 번의 쿼리로 조회한 뒤 참여자별로 분류합니다.
      *
      * @param eventId 조회할 이벤트 ID (UUID 문자열)
      * @return 날짜별 스케줄 응답 리스트
      */
     @Transactional(readOnly = true)
     public List<PerDateSchedulesResponse> getAllDateSchedules(String eventId) {
+        selectionWriter.flushEvent(UUID.fromString(eventId));
+
         Event event = eventRepository.findByEventId(UUID.fromString(eventId))
                 .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
 
         List<Member> members = memberRepository.findAllByEvent(event);
+        List<User> users = findParticipantUsers(event);
+        ParticipantScheduleRows rows = groupScheduleSelectionRows(selectionRepository.findAllScheduleSelectionRowsByEvent(event));
 
-        List<User> users = eventParticipationRepository.findAllByEvent(event).stream()
-                .filter(p -> p.getEventStatus() != EventStatus.CREATOR)
-                .map(EventParticipation::getUser)
-                .toList();
+        return toParticipantSchedules(members, users, rows, (name, selectionRows) -> PerDateSchedulesResponse.of(name, toDateSchedules(selectionRows)));
+    }
+
+    /**
+     * 전체 요일 스케줄 비트셋 반환 메서드.
+     *
+     * 전체 요일 스케줄 조회와 같은 참여자와 선택 정보를, 이벤트 슬롯 그리드 기준 참여자별 비트셋 형식으로 반환합니다.
+     * 응답 객체와 JSON 직렬화 없이 선택 스케줄 조회 결과를 바로 비트로 씁니다.
+     *
+     * @param eventId 조회할 이벤트 ID (UUID 문자열)
+     * @return 비트셋 형식 응답 본문
+     */
+    @Transactional(readOnly = true)
+    public byte[] getAllDaySchedulesBitset(String eventId) {
+        return getAllSchedulesBitset(eventId, ScheduleSelectionRow::day);
+    }
+
+    /**
+     * 전체 날짜 스케줄 비트셋 반환 메서드.
+     *
+     * 전체 날짜 스케줄 조회와 같은 참여자와 선택 정보를, 이벤트 슬롯 그리드 기준 참여자별 비트셋 형식으로 반환합니다.
+     * 응답 객체와 JSON 직렬화 없이 선택 스케줄 조회 결과를 바로 비트로 씁니다.
+     *
+     * @param eventId 조회할 이벤트 ID (UUID 문자열)
+     * @return 비트셋 형식 응답 본문
+     */
+    @Transactional(readOnly = true)
+    public byte[] getAllDateSchedulesBitset(String eventId) {
+        return getAllSchedulesBitset(eventId, ScheduleSelectionRow::date);
+    }
+
+    /**
+     * 전체 스케줄 비트셋 작성 메서드.
+     *
+     * @param eventId 조회할 이벤트 ID (UUID 문자열)
+     * @param timePoint 선택 스케줄 조회 결과에서 요일 또는 날짜를 꺼내는 함수
+     * @return 비트셋 형식 응답 본문
+     */
+    private byte[] getAllSchedulesBitset(String eventId, Function<ScheduleSelectionRow, String> timePoint) {
+        selectionWriter.flushEvent(UUID.fromString(eventId));
 
-        List<PerDateSchedulesResponse> responses = new ArrayList<>();
+        Event event = eventRepository.findByEventId(UUID.fromString(eventId))
+                .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
+
+        List<Member> members = memberRepository.findAllByEvent(event);
+        List<User> users = findParticipantUsers(event);
+        ParticipantScheduleRows rows = groupScheduleSelectionRows(selectionRepository.findAllScheduleSelectionRowsByEvent(event));
 
+        ScheduleBitsetWriter writer = new ScheduleBitsetWriter(scheduleGridService.getScheduleGrid(event), members.size() + users.size());
         for (Member member : members) {
-            List<Selection> selections = selectionRepository.findAllByMemberWithSchedule(member);
-            responses.add(toPerDateSchedules(member.getName(), selections, s -> s.getSchedule().getDate() != null));
+            writer.writeParticipant(member.getName(), toSlotBits(writer, rows.ofMember(member.getId()), timePoint));
         }
-
         for (User user : users) {
-            List<Selection> selections = selectionRepository.findAllByUserAndEventWithScheduleAndEvent(user, event);
-            responses.add(toPerDateSchedules(user.getNickname(), selections, s -> s.getSchedule().getDate() != null));
+            writer.writeParticipant(user.getNickname(), toSlotBits(writer, rows.ofUser(user.getId()), timePoint));
+        }
+        return writer.toByteArray();
+    }
+
+    private static BitSet toSlotBits(ScheduleBitsetWriter writer, List<ScheduleSelectionRow> rows, Function<ScheduleSelectionRow, String> timePoint) {
+        BitSet slots = new BitSet();
+        for (ScheduleSelectionRow row : rows) {
+            int index = writer.slotIndex(timePoint.apply(row), row.time());
+            if (index >= 0) {
+                slots.set(index);
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * 변경된 요일 스케줄 반환 메서드.
+     *
+     * since 버전 이후 선택 정보가 바뀐 참여자의 요일 스케줄만 반환합니다.
+     * 변경 기록으로 응답할 수 없으면 전체 요일 스케줄을 반환합니다.
+     *
+     * @param eventId 조회할 이벤트 ID (UUID 문자열)
+     * @param since 클라이언트가 마지막으로 받은 이벤트 버전
+     * @return 현재 이벤트 버전과 변경된 참여자의 요일별 스케줄
+     */
+    @Transactional(readOnly = true)
+    public ScheduleChangesResponse<PerDaySchedulesResponse> getDayScheduleChanges(String eventId, long since) {
+        return getScheduleChanges(eventId, since, (name, rows) -> PerDaySchedulesResponse.of(name, toDaySchedules(rows)));
+    }
+
+    /**
+     * 변경된 날짜 스케줄 반환 메서드.
+     *
+     * since 버전 이후 선택 정보가 바뀐 참여자의 날짜 스케줄만 반환합니다.
+     * 변경 기록으로 응답할 수 없으면 전체 날짜 스케줄을 반환합니다.
+     *
+     * @param eventId 조회할 이벤트 ID (UUID 문자열)
+     * @param since 클라이언트가 마지막으로 받은 이벤트 버전
+     * @return 현재 이벤트 버전과 변경된 참여자의 날짜별 스케줄
+     */
+    @Transactional(readOnly = true)
+    public ScheduleChangesResponse<PerDateSchedulesResponse> getDateScheduleChanges(String eventId, long since) {
+        return getScheduleChanges(eventId, since, (name, rows) -> PerDateSchedulesResponse.of(name, toDateSchedules(rows)));
+    }
+
+    /**
+     * 변경된 참여자 스케줄 조회 메서드.
+     *
+     * 이벤트 조회로 시작된 읽기 스냅샷의 버전을 현재 버전으로 응답합니다.
+     * 변경 기록은 버전 증가와 같은 트랜잭션에서 커밋 전에 남으므로, 이 버전까지의 변경은 모두 기록에서 찾을 수 있습니다.
+     * 기록에 이후 버전의 참여자가 함께 조회되더라도, 같은 읽기 스냅샷의 선택 정보로 응답하므로 다음 조회에서 다시 전달될 뿐입니다.
+     *
+     * @param eventId 조회할 이벤트 ID (UUID 문자열)
+     * @param since 클라이언트가 마지막으로 받은 이벤트 버전
+     * @param mapper 참여자 이름과 선택 스케줄 조회 결과로 응답 항목을 만드는 함수
+     * @return 현재 이벤트 버전과 참여자별 스케줄
+     */
+    private <T> ScheduleChangesResponse<T> getScheduleChanges(String eventId, long since, BiFunction<String, List<ScheduleSelectionRow>, T> mapper) {
+        UUID eventUuid = UUID.fromString(eventId);
+        selectionWriter.flushEvent(eventUuid);
+
+        Event event = eventRepository.findByEventId(eventUuid)
+                .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
+        long version = event.getSelectionVersion();
+        if (since == version) {
+            return ScheduleChangesResponse.changed(version, List.of());
         }
 
+        Optional<ScheduleChangeLogService.ChangedParticipants> changed = since < version
+                ? scheduleChangeLogService.findChangedSince(eventUuid, since, version)
+                : Optional.empty();
+        if (changed.isEmpty()) {
+            List<Member> members = memberRepository.findAllByEvent(event);
+            List<User> users = findParticipantUsers(event);
+            ParticipantScheduleRows rows = groupScheduleSelectionRows(selectionRepository.findAllScheduleSelectionRowsByEvent(event));
+            return ScheduleChangesResponse.full(version, toParticipantSchedules(members, users, rows, mapper));
+        }
+
+        Set<Long> memberIds = changed.get().memberIds();
+        Set<Long> userIds = changed.get().userIds();
+        List<Member> members = memberIds.isEmpty() ? List.of() : memberRepository.findAllByEventAndIdIn(event, memberIds);
+        List<User> users = userIds.isEmpty() ? List.of() : findParticipantUsers(event).stream()
+                .filter(user -> userIds.contains(user.getId()))
+                .toList();
+        ParticipantScheduleRows rows = groupScheduleSelectionRows(
+                selectionRepository.findAllScheduleSelectionRowsByEventAndParticipants(event, memberIds, userIds));
+        return ScheduleChangesResponse.changed(version, toParticipantSchedules(members, users, rows, mapper));
+    }
+
+    /**
+     * 참여자별 스케줄 응답 변환 메서드.
+     * 멤버, 유저 순서로 응답 항목을 만듭니다.
+     *
+     * @param members 멤버 리스트
+     * @param users 유저 리스트
+     * @param rows 참여자별 선택 스케줄 조회 결과
+     * @param mapper 참여자 이름과 선택 스케줄 조회 결과로 응답 항목을 만드는 함수
+     * @return 참여자별 스케줄 응답 리스트
+     */
+    private <T> List<T> toParticipantSchedules(List<Member> members, List<User> users, ParticipantScheduleRows rows,
+                                               BiFunction<String, List<ScheduleSelectionRow>, T> mapper) {
+        List<T> responses = new ArrayList<>(members.size() + users.size());
+        for (Member member : members) {
+            responses.add(mapper.apply(member.getName(), rows.ofMember(member.getId())));
+        }
+        for (User user : users) {
+            responses.add(mapper.apply(user.getNickname(), rows.ofUser(user.getId())));
+        }
         return responses;
     }
 
@@ -384,6 +632,8 @@ public class ScheduleService {
      */
     @Transactional(readOnly = true)
     public PerDateSchedulesResponse getMemberDateSchedules(String eventId, String memberId) {
+        selectionWriter.flushMember(UUID.fromString(eventId), UUID.fromString(memberId));
+
         Event event = eventRepository.findByEventId(UUID.fromString(eventId))
                 .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
 
@@ -404,6 +654,8 @@ public class ScheduleService {
      */
     @Transactional(readOnly = true)
     public PerDateSchedulesResponse getUserDateSchedules(String eventId) {
+        selectionWriter.flushUser(UUID.fromString(eventId), UserAuthorizationUtil.getLoginUserId());
+
         User user = userRepository.findById(UserAuthorizationUtil.getLoginUserId())
                 .orElseThrow(() -> new CustomException(UserErrorStatus._NOT_FOUND_USER));
         Event event = eventRepository.findByEventId(UUID.fromString(eventId))
@@ -417,57 +669,78 @@ public class ScheduleService {
      * 참여자 필터링 요일 스케줄 반환 메서드.
      *
      * 주어진 ID 필터에 해당하는 참여자의 요일 스케줄을 반환합니다.
+     * 이벤트의 가용성 스냅샷을 재사용하며, 스냅샷이 캐시되어 있으면 DB를 조회하지 않습니다.
      *
      * @param getFilteredSchedulesRequest 필터링 요청 데이터
      * @return 필터링된 요일 스케줄 응답 리스트
      */
     @Transactional(readOnly = true)
     public List<PerDaySchedulesResponse> getFilteredDaySchedules(String eventId, GetFilteredSchedulesRequest getFilteredSchedulesRequest) {
-        Event event = eventRepository.findByEventId(UUID.fromString(eventId))
-                .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
-
-        List<Member> members = memberRepository.findAllWithSelectionsAndSchedulesByEventAndMemberIds(event, getFilteredSchedulesRequest.members());
-        List<User> users = userRepository.findAllWithSelectionsAndSchedulesByEventAndUserIds(event, getFilteredSchedulesRequest.users());
+        // 캐시된 가용성 스냅샷에서 요청된 참여자의 선택 슬롯만 추출 (스냅샷이 캐시되어 있으면 DB 조회 없음)
+        return availabilitySnapshotService.read(UUID.fromString(eventId), matrix ->
+                filterParticipants(matrix, getFilteredSchedulesRequest).stream()
+                        .map(participant -> PerDaySchedulesResponse.of(
+                                matrix.getParticipantName(participant),
+                                groupSelectedTimes(matrix, participant, Category.DAY).entrySet().stream()
+                                        .map(entry -> new DaySchedule(entry.getKey(), entry.getValue()))
+                                        .toList()))
+                        .toList());
+    }
 
-        List<PerDaySchedulesResponse> perDaySchedulesResponses = new ArrayList<>();
+    /**
+     * 필터링 요청에 해당하는 참여자 인덱스 반환 메서드.
+     * 멤버, 유저 순서로 반환하며, 이벤트에서 선택한 스케줄이 없는 참여자는 제외합니다.
+     *
+     * @param matrix 이벤트 가용성 매트릭스
+     * @param getFilteredSchedulesRequest 필터링 요청 데이터
+     * @return 참여자 인덱스 목록
+     */
+    private List<Integer> filterParticipants(AvailabilityMatrix matrix, GetFilteredSchedulesRequest getFilteredSchedulesRequest) {
+        List<Integer> participants = new ArrayList<>(matrix.findMemberParticipants(getFilteredSchedulesRequest.members()));
+        participants.addAll(matrix.findUserParticipants(getFilteredSchedulesRequest.users()));
+        participants.removeIf(participant -> matrix.getSelectedSlots(participant).isEmpty());
+        return participants;
+    }
 
-        for (Member member : members) {
-            perDaySchedulesResponses.add(toPerDaySchedules(member.getName(), member.getSelections(), s -> s.getSchedule().getDay() != null));
+    /**
+     * 참여자의 선택 시간을 요일/날짜별로 그룹화하는 메서드.
+     * 요일/날짜 및 시간 순으로 정렬되며, 이벤트 카테고리와 요청 카테고리가 다르면 빈 맵을 반환합니다.
+     *
+     * @param matrix 이벤트 가용성 매트릭스
+     * @param participant 참여자 인덱스
+     * @param category 요청 카테고리 (DAY 또는 DATE)
+     * @return 요일/날짜별 선택 시간 목록
+     */
+    private Map<String, List<String>> groupSelectedTimes(AvailabilityMatrix matrix, int participant, Category category) {
+        Map<String, List<String>> grouped = new LinkedHashMap<>();
+        if (matrix.getCategory() != category) {
+            return grouped;
         }
-
-        for (User user : users) {
-            perDaySchedulesResponses.add(toPerDaySchedules(user.getNickname(), user.getSelections(), s -> s.getSchedule().getDay() != null));
+        for (int slot : matrix.getSelectedSlots(participant)) {
+            grouped.computeIfAbsent(matrix.getTimePoint(slot), timePoint -> new ArrayList<>()).add(matrix.getTime(slot));
         }
-
-        return perDaySchedulesResponses;
+        return grouped;
     }
 
     /**
      * 참여자 필터링 날짜 스케줄 반환 메서드.
      *
      * 주어진 ID 필터에 해당하는 참여자의 날짜 스케줄을 반환합니다.
+     * 이벤트의 가용성 스냅샷을 재사용하며, 스냅샷이 캐시되어 있으면 DB를 조회하지 않습니다.
      *
      * @param getFilteredSchedulesRequest 필터링 요청 데이터
      * @return 필터링된 날짜 스케줄 응답 리스트
      */
     @Transactional(readOnly = true)
     public List<PerDateSchedulesResponse> getFilteredDateSchedules(String eventId, GetFilteredSchedulesRequest getFilteredSchedulesRequest) {
-        Event event = eventRepository.findByEventId(UUID.fromString(eventId))
-                .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
-
-        List<Member> members = memberRepository.findAllWithSelectionsAndSchedulesByEventAndMemberIds(event, getFilteredSchedulesRequest.members());
-        List<User> users = userRepository.findAllWithSelectionsAndSchedulesByEventAndUserIds(event, getFilteredSchedulesRequest.users());
-
-        List<PerDateSchedulesResponse> perDateSchedulesResponses = new ArrayList<>();
-
-        for (Member member : members) {
-            perDateSchedulesResponses.add(toPerDateSchedules(member.getName(), member.getSelections(), s -> s.getSchedule().getDate() != null));
-        }
-
-        for (User user : users) {
-            perDateSchedulesResponses.add(toPerDateSchedules(user.getNickname(), user.getSelections(), s -> s.getSchedule().getDate() != null));
-        }
-
-        return perDateSchedulesResponses;
+        // 캐시된 가용성 스냅샷에서 요청된 참여자의 선택 슬롯만 추출 (스냅샷이 캐시되어 있으면 DB 조회 없음)
+        return availabilitySnapshotService.read(UUID.fromString(eventId), matrix ->
+                filterParticipants(matrix, getFilteredSchedulesRequest).stream()
+                        .map(participant -> PerDateSchedulesResponse.of(
+                                matrix.getParticipantName(participant),
+                                groupSelectedTimes(matrix, participant, Category.DATE).entrySet().stream()
+                                        .map(entry -> new DateSchedule(entry.getKey(), entry.getValue()))
+                                        .toList()))
+                        .toList());
     }
 }
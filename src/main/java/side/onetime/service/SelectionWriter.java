@@ -0,0 +1,551 @@
+package side.onetime.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import side.onetime.domain.Event;
+import side.onetime.domain.Member;
+import side.onetime.domain.User;
+import side.onetime.global.cache.AvailabilitySnapshotCache;
+import side.onetime.repository.EventParticipationRepository;
+import side.onetime.repository.EventRepository;
+import side.onetime.repository.MemberRepository;
+import side.onetime.repository.SelectionBatchRepository;
+import side.onetime.repository.SelectionRepository;
+import side.onetime.repository.custom.SelectedScheduleRow;
+import side.onetime.util.AvailabilityMatrix;
+import side.onetime.util.ScheduleGrid;
+import side.onetime.util.TransactionUtil;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 참여자 선택 정보 저장기.
+ *
+ * 제출된 스케줄 셀과 현재 선택 정보를 비교하여 추가/해제된 Selection만 저장/삭제하고, 가용성 스냅샷에 반영합니다.
+ * 각 참여자는 자신의 Selection만 쓰므로 동시 저장 충돌은 참여자 선택 버전으로만 확인하고,
+ * 이벤트 선택 버전은 트랜잭션 마지막에 조건 없이 증가시켜 서로 다른 참여자의 저장이 충돌하지 않도록 합니다.
+ * 쓰기 지연(write-behind) 모드에서는 같은 (이벤트, 참여자)의 제출을 설정된 시간 동안 메모리에 모아 마지막 상태만 저장합니다.
+ * 지연 중인 선택 정보는 스냅샷과 가용성 변경 스트림에 즉시 반영되며, 해당 참여자/이벤트의 DB 조회 전과 애플리케이션 종료 시 저장됩니다.
+ * 저장된 선택 정보는 증가된 이벤트 선택 버전과 함께 스냅샷에 반영하여, 그 사이 다른 인스턴스의 변경이 있었으면 스냅샷을 다시 적재하도록 합니다.
+ * 저장 대기 중인 선택 정보는 이 인스턴스의 메모리에만 있으므로, 쓰기 지연 모드는 같은 이벤트의 요청이 항상 같은 인스턴스로
+ * 전달되는(이벤트 ID 기준 고정 라우팅) 배포에서만 사용할 수 있으며, schedule.write-behind.sticky-routing 설정으로 이를 명시해야 합니다.
+ * 그렇지 않으면 다른 인스턴스에서는 참여자의 마지막 제출이 보이지 않으므로 애플리케이션 시작 시 예외를 던집니다.
+ */
+@Slf4j
+@Service
+public class SelectionWriter {
+
+    private static final int LOCK_STRIPES = 64;
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+    private final EventRepository eventRepository;
+    private final MemberRepository memberRepository;
+    private final EventParticipationRepository eventParticipationRepository;
+    private final SelectionRepository selectionRepository;
+    private final SelectionBatchRepository selectionBatchRepository;
+    private final AvailabilitySnapshotCache availabilitySnapshotCache;
+    private final AvailabilityStreamService availabilityStreamService;
+    private final ScheduleChangeLogService scheduleChangeLogService;
+    private final TransactionTemplate flushTransactionTemplate;
+    private final boolean writeBehindEnabled;
+    private final long writeBehindWindowNanos;
+
+    private final Map<Participant, PendingSelections> pending = new ConcurrentHashMap<>();
+    private final Object[] flushLocks = new Object[LOCK_STRIPES];
+
+    /**
+     * 쓰기 지연 대상 참여자.
+     *
+     * @param eventId 이벤트 UUID
+     * @param memberId 멤버 UUID (유저인 경우 null)
+     * @param userId 유저 ID (멤버인 경우 null)
+     */
+    private record Participant(UUID eventId, UUID memberId, Long userId) {
+    }
+
+    /**
+     * 저장 대기 중인 선택 정보.
+     *
+     * @param eventId 이벤트 ID
+     * @param member 선택을 제출한 멤버 (유저인 경우 null)
+     * @param user 선택을 제출한 유저 (멤버인 경우 null)
+     * @param cells 마지막으로 제출된 스케줄 셀 목록
+     * @param flushAt 저장 예정 시각 (System.nanoTime 기준)
+     */
+    private record PendingSelections(Long eventId, Member member, User user, List<ScheduleGrid.Cell> cells, long flushAt) {
+    }
+
+    /**
+     * 선택 정보 차이.
+     *
+     * @param removedSelectionIds 삭제할 Selection ID 목록
+     * @param addedScheduleIds 새로 저장할 스케줄 ID 목록
+     */
+    private record SelectionDiff(List<Long> removedSelectionIds, List<Long> addedScheduleIds) {
+        boolean isEmpty() {
+            return removedSelectionIds.isEmpty() && addedScheduleIds.isEmpty();
+        }
+    }
+
+    /**
+     * 참여자별 제출 셀.
+     *
+     * @param member 선택을 제출한 멤버 (유저인 경우 null)
+     * @param user 선택을 제출한 유저 (멤버인 경우 null)
+     * @param cells 제출된 스케줄 셀 목록
+     */
+    public record ParticipantCells(Member member, User user, List<ScheduleGrid.Cell> cells) {
+    }
+
+    public SelectionWriter(
+            EventRepository eventRepository,
+            MemberRepository memberRepository,
+            EventParticipationRepository eventParticipationRepository,
+            SelectionRepository selectionRepository,
+            SelectionBatchRepository selectionBatchRepository,
+            AvailabilitySnapshotCache availabilitySnapshotCache,
+            AvailabilityStreamService availabilityStreamService,
+            ScheduleChangeLogService scheduleChangeLogService,
+            PlatformTransactionManager transactionManager,
+            @Value("${schedule.write-behind.enabled:false}") boolean writeBehindEnabled,
+            @Value("${schedule.write-behind.window:PT1S}") Duration writeBehindWindow,
+            @Value("${schedule.write-behind.sticky-routing:false}") boolean stickyRouting) {
+        if (writeBehindEnabled && !stickyRouting) {
+            throw new IllegalStateException("schedule.write-behind.enabled는 이벤트 ID 기준 고정 라우팅 배포에서만 사용할 수 있습니다. "
+                    + "고정 라우팅을 구성한 뒤 schedule.write-behind.sticky-routing=true로 설정하세요.");
+        }
+        this.eventRepository = eventRepository;
+        this.memberRepository = memberRepository;
+        this.eventParticipationRepository = eventParticipationRepository;
+        this.selectionRepository = selectionRepository;
+        this.selectionBatchRepository = selectionBatchRepository;
+        this.availabilitySnapshotCache = availabilitySnapshotCache;
+        this.availabilityStreamService = availabilityStreamService;
+        this.scheduleChangeLogService = scheduleChangeLogService;
+        this.flushTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.writeBehindEnabled = writeBehindEnabled;
+        this.writeBehindWindowNanos = writeBehindWindow.toNanos();
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            flushLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * 멤버 선택 정보 저장 메서드.
+     * 같은 멤버의 선택 정보가 그 사이 저장되어 멤버 선택 버전이 바뀌었으면 OptimisticLockingFailureException을 던집니다.
+     * 쓰기 지연 모드에서는 트랜잭션 커밋 이후 저장 대기열에 등록합니다.
+     *
+     * @param event 이벤트 객체
+     * @param member 선택을 제출한 멤버
+     * @param cells 제출된 스케줄 셀 목록
+     */
+    public void write(Event event, Member member, List<ScheduleGrid.Cell> cells) {
+        if (writeBehindEnabled) {
+            Participant participant = new Participant(event.getEventId(), member.getMemberId(), null);
+            TransactionUtil.afterCommit(() -> enqueue(participant, new PendingSelections(event.getId(), member, null, cells, deadline())));
+            availabilitySnapshotCache.replacePendingSelections(event.getEventId(), member, cells);
+        } else {
+            Long version = applySelectionDiff(event.getId(), event.getEventId(), member.getId(), null, cells);
+            if (version != null) {
+                availabilitySnapshotCache.replaceSelections(event.getEventId(), version, member, cells);
+            }
+        }
+        availabilityStreamService.publishSelections(event.getEventId(), member, cells);
+    }
+
+    /**
+     * 유저 선택 정보 저장 메서드.
+     * 같은 유저의 선택 정보가 그 사이 저장되어 참여 정보의 선택 버전이 바뀌었으면 OptimisticLockingFailureException을 던집니다.
+     * 쓰기 지연 모드에서는 트랜잭션 커밋 이후 저장 대기열에 등록합니다.
+     *
+     * @param event 이벤트 객체
+     * @param user 선택을 제출한 유저
+     * @param cells 제출된 스케줄 셀 목록
+     */
+    public void write(Event event, User user, List<ScheduleGrid.Cell> cells) {
+        if (writeBehindEnabled) {
+            Participant participant = new Participant(event.getEventId(), null, user.getId());
+            TransactionUtil.afterCommit(() -> enqueue(participant, new PendingSelections(event.getId(), null, user, cells, deadline())));
+            availabilitySnapshotCache.replacePendingSelections(event.getEventId(), user, cells);
+        } else {
+            Long version = applySelectionDiff(event.getId(), event.getEventId(), null, user.getId(), cells);
+            if (version != null) {
+                availabilitySnapshotCache.replaceSelections(event.getEventId(), version, user, cells);
+            }
+        }
+        availabilityStreamService.publishSelections(event.getEventId(), user, cells);
+    }
+
+    /**
+     * 여러 참여자의 선택 정보 일괄 저장 메서드.
+     * 한 이벤트에 대한 제출을 모아, 삭제는 한 번의 IN 조건 DELETE로, 저장은 멤버/유저별 다중 행 INSERT로 처리하고
+     * 변경된 참여자마다 참여자 선택 버전을 조건부로 증가시킨 뒤, 이벤트 선택 버전은 마지막에 한 번만 증가시킵니다.
+     * 쓰기 지연 모드와 관계없이 바로 저장합니다.
+     * 같은 참여자의 제출이 여러 건이면 마지막 제출만 반영합니다.
+     *
+     * @param event 이벤트 객체
+     * @param submissions 참여자별 제출 셀 목록 (제출 순서)
+     */
+    public void writeAll(Event event, List<ParticipantCells> submissions) {
+        Map<Participant, ParticipantCells> latest = new LinkedHashMap<>();
+        for (ParticipantCells submission : submissions) {
+            Participant participant = submission.member() != null
+                    ? new Participant(event.getEventId(), submission.member().getMemberId(), null)
+                    : new Participant(event.getEventId(), null, submission.user().getId());
+            latest.remove(participant);
+            latest.put(participant, submission);
+        }
+        if (!pending.isEmpty()) {
+            // 먼저 제출되어 저장 대기 중인 선택 정보가 나중에 덮어쓰지 않도록 먼저 저장
+            latest.keySet().forEach(this::flush);
+        }
+
+        List<Long> removedSelectionIds = new ArrayList<>();
+        List<Long> changedMemberIds = new ArrayList<>();
+        List<Long> changedMemberVersions = new ArrayList<>();
+        List<Long> changedUserIds = new ArrayList<>();
+        List<Long> changedUserVersions = new ArrayList<>();
+        List<Long> addedMemberIds = new ArrayList<>();
+        List<Long> addedMemberScheduleIds = new ArrayList<>();
+        List<Long> addedUserIds = new ArrayList<>();
+        List<Long> addedUserScheduleIds = new ArrayList<>();
+        for (ParticipantCells submission : latest.values()) {
+            if (submission.member() != null) {
+                Long memberId = submission.member().getId();
+                Long participantVersion = findParticipantVersion(event.getId(), memberId, null);
+                SelectionDiff diff = diff(findCurrentRows(event.getId(), memberId, null), submission.cells());
+                if (!diff.isEmpty()) {
+                    changedMemberIds.add(memberId);
+                    changedMemberVersions.add(participantVersion);
+                }
+                removedSelectionIds.addAll(diff.removedSelectionIds());
+                for (Long scheduleId : diff.addedScheduleIds()) {
+                    addedMemberIds.add(memberId);
+                    addedMemberScheduleIds.add(scheduleId);
+                }
+            } else {
+                Long userId = submission.user().getId();
+                Long participantVersion = findParticipantVersion(event.getId(), null, userId);
+                SelectionDiff diff = diff(findCurrentRows(event.getId(), null, userId), submission.cells());
+                if (!diff.isEmpty()) {
+                    changedUserIds.add(userId);
+                    changedUserVersions.add(participantVersion);
+                }
+                removedSelectionIds.addAll(diff.removedSelectionIds());
+                for (Long scheduleId : diff.addedScheduleIds()) {
+                    addedUserIds.add(userId);
+                    addedUserScheduleIds.add(scheduleId);
+                }
+            }
+        }
+
+        Long version = null;
+        if (!changedMemberIds.isEmpty() || !changedUserIds.isEmpty()) {
+            for (int i = 0; i < changedMemberIds.size(); i++) {
+                increaseParticipantVersion(event.getId(), changedMemberIds.get(i), null, changedMemberVersions.get(i));
+            }
+            for (int i = 0; i < changedUserIds.size(); i++) {
+                increaseParticipantVersion(event.getId(), null, changedUserIds.get(i), changedUserVersions.get(i));
+            }
+            if (!removedSelectionIds.isEmpty()) {
+                selectionBatchRepository.deleteAllByIds(toArray(removedSelectionIds));
+            }
+            if (!addedMemberIds.isEmpty()) {
+                selectionBatchRepository.insertAllByMemberIds(toArray(addedMemberIds), toArray(addedMemberScheduleIds));
+            }
+            if (!addedUserIds.isEmpty()) {
+                selectionBatchRepository.insertAllByUserIds(toArray(addedUserIds), toArray(addedUserScheduleIds));
+            }
+            eventRepository.increaseSelectionVersion(event.getId());
+            version = scheduleChangeLogService.recordAtCurrentVersion(event.getEventId(), event.getId(), changedMemberIds, changedUserIds);
+        }
+
+        for (ParticipantCells submission : latest.values()) {
+            if (submission.member() != null) {
+                if (version != null) {
+                    availabilitySnapshotCache.replaceSelections(event.getEventId(), version, submission.member(), submission.cells());
+                }
+                availabilityStreamService.publishSelections(event.getEventId(), submission.member(), submission.cells());
+            } else {
+                if (version != null) {
+                    availabilitySnapshotCache.replaceSelections(event.getEventId(), version, submission.user(), submission.cells());
+                }
+                availabilityStreamService.publishSelections(event.getEventId(), submission.user(), submission.cells());
+            }
+        }
+    }
+
+    /**
+     * 멤버의 저장 대기 선택 정보 즉시 저장 메서드.
+     * 멤버 스케줄을 DB에서 조회하기 전에 호출하여, 자신이 제출한 선택 정보를 바로 조회할 수 있도록 합니다.
+     *
+     * @param eventId 이벤트 UUID
+     * @param memberId 멤버 UUID
+     */
+    public void flushMember(UUID eventId, UUID memberId) {
+        flush(new Participant(eventId, memberId, null));
+    }
+
+    /**
+     * 유저의 저장 대기 선택 정보 즉시 저장 메서드.
+     * 유저 스케줄을 DB에서 조회하기 전에 호출하여, 자신이 제출한 선택 정보를 바로 조회할 수 있도록 합니다.
+     *
+     * @param eventId 이벤트 UUID
+     * @param userId 유저 ID
+     */
+    public void flushUser(UUID eventId, Long userId) {
+        flush(new Participant(eventId, null, userId));
+    }
+
+    /**
+     * 이벤트의 저장 대기 선택 정보 즉시 저장 메서드.
+     * 이벤트 전체 스케줄을 DB에서 조회하기 전에 호출합니다.
+     *
+     * @param eventId 이벤트 UUID
+     */
+    public void flushEvent(UUID eventId) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        for (Participant participant : List.copyOf(pending.keySet())) {
+            if (participant.eventId().equals(eventId)) {
+                flush(participant);
+            }
+        }
+    }
+
+    /**
+     * 이벤트의 저장 대기 선택 정보 존재 여부 확인 메서드.
+     * 저장 대기 선택 정보는 스냅샷에만 반영되고 이벤트 버전은 바뀌지 않았으므로, 버전별 응답 캐시에 저장하기 전에 확인합니다.
+     *
+     * @param eventId 이벤트 UUID
+     * @return 저장 대기 선택 정보 존재 여부
+     */
+    public boolean hasPending(UUID eventId) {
+        if (pending.isEmpty()) {
+            return false;
+        }
+        for (Participant participant : pending.keySet()) {
+            if (participant.eventId().equals(eventId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 저장 대기 선택 정보의 스냅샷 반영 메서드.
+     * DB에서 새로 적재한 스냅샷에 아직 저장되지 않은 선택 정보를 덮어씁니다.
+     *
+     * @param eventId 이벤트 UUID
+     * @param matrix 새로 적재한 가용성 매트릭스
+     */
+    public void applyPending(UUID eventId, AvailabilityMatrix matrix) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        pending.forEach((participant, selections) -> {
+            if (!participant.eventId().equals(eventId)) {
+                return;
+            }
+            if (selections.member() != null) {
+                Member member = selections.member();
+                matrix.replaceMemberSelections(member.getId(), member.getName(), selections.cells());
+            } else {
+                User user = selections.user();
+                matrix.replaceUserSelections(user.getId(), user.getNickname(), selections.cells());
+            }
+        });
+    }
+
+    /**
+     * 저장 예정 시각이 지난 선택 정보 저장 메서드.
+     */
+    @Scheduled(fixedDelayString = "${schedule.write-behind.flush-interval:PT0.2S}")
+    public void flushDue() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        pending.forEach((participant, selections) -> {
+            if (now - selections.flushAt() >= 0) {
+                flush(participant);
+            }
+        });
+    }
+
+    /**
+     * 애플리케이션 종료 시 저장 대기 선택 정보를 모두 저장하는 메서드.
+     */
+    @PreDestroy
+    public void flushAll() {
+        if (!pending.isEmpty()) {
+            log.info("💾 종료 전 저장 대기 선택 정보 저장: {}건", pending.size());
+        }
+        List.copyOf(pending.keySet()).forEach(this::flush);
+    }
+
+    private void enqueue(Participant participant, PendingSelections selections) {
+        // 첫 제출 시각을 기준으로 저장하여, 연속 제출 중에도 지연 시간이 늘어나지 않도록 함
+        pending.merge(participant, selections, (previous, latest) ->
+                new PendingSelections(latest.eventId(), latest.member(), latest.user(), latest.cells(), previous.flushAt()));
+    }
+
+    private void flush(Participant participant) {
+        synchronized (flushLocks[Math.floorMod(participant.hashCode(), LOCK_STRIPES)]) {
+            PendingSelections selections = pending.remove(participant);
+            if (selections == null) {
+                return;
+            }
+            Long version;
+            try {
+                version = flushWithRetry(participant.eventId(), selections);
+            } catch (RuntimeException e) {
+                // 저장에 실패한 선택 정보가 스냅샷과 구독자 화면에 남지 않도록 무효화
+                log.error("❌ 선택 정보 지연 저장 실패: participant={}", participant, e);
+                availabilitySnapshotCache.invalidate(participant.eventId());
+                availabilityStreamService.publishReset(participant.eventId());
+                return;
+            }
+            if (version == null) {
+                return;
+            }
+            // 저장 직전 DB에서 적재된 스냅샷이 있을 수 있으므로 커밋된 선택 정보를 증가된 버전으로 다시 반영
+            if (selections.member() != null) {
+                availabilitySnapshotCache.replaceSelections(participant.eventId(), version, selections.member(), selections.cells());
+            } else {
+                availabilitySnapshotCache.replaceSelections(participant.eventId(), version, selections.user(), selections.cells());
+            }
+        }
+    }
+
+    private Long flushWithRetry(UUID eventUuid, PendingSelections selections) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return flushTransactionTemplate.execute(status -> selections.member() != null
+                        ? applySelectionDiff(selections.eventId(), eventUuid, selections.member().getId(), null, selections.cells())
+                        : applySelectionDiff(selections.eventId(), eventUuid, null, selections.user().getId(), selections.cells()));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_FLUSH_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 선택 정보 차이 반영 메서드.
+     *
+     * 참여자의 현재 선택 스케줄과 새로 제출된 스케줄 셀을 비교하여,
+     * 해제된 스케줄의 Selection만 삭제하고 새로 선택된 스케줄의 Selection만 저장합니다.
+     * 같은 스케줄에 중복된 기존 Selection은 하나만 남기고 삭제합니다.
+     * 변경 사항이 있으면 먼저 참여자 선택 버전을 조건부로 증가시키며, 그 사이 같은 참여자의 다른 저장이 커밋되어 버전이 바뀐 경우
+     * OptimisticLockingFailureException을 던져 트랜잭션을 롤백합니다. 다른 참여자의 저장과는 충돌하지 않습니다.
+     * 이벤트 선택 버전은 마지막 문장으로 조건 없이 증가시켜 이벤트 행 잠금을 커밋 직전에만 잡고,
+     * 같은 트랜잭션에서 참여자를 스케줄 변경 기록에 남깁니다.
+     *
+     * @param eventId 이벤트 ID
+     * @param eventUuid 이벤트 UUID
+     * @param memberId 선택을 제출한 멤버 ID (유저인 경우 null)
+     * @param userId 선택을 제출한 유저 ID (멤버인 경우 null)
+     * @param cells 새로 제출된 스케줄 셀 목록
+     * @return 변경을 반영한 이벤트 선택 버전 (변경 사항이 없으면 null)
+     */
+    private Long applySelectionDiff(Long eventId, UUID eventUuid, Long memberId, Long userId, List<ScheduleGrid.Cell> cells) {
+        // 참여자 선택 버전을 먼저 조회하여, 이후 조회한 선택 정보가 최소한 이 버전만큼 최신이도록 함
+        Long participantVersion = findParticipantVersion(eventId, memberId, userId);
+        SelectionDiff diff = diff(findCurrentRows(eventId, memberId, userId), cells);
+        if (diff.isEmpty()) {
+            return null;
+        }
+        increaseParticipantVersion(eventId, memberId, userId, participantVersion);
+        if (!diff.removedSelectionIds().isEmpty()) {
+            selectionBatchRepository.deleteAllByIds(toArray(diff.removedSelectionIds()));
+        }
+        if (!diff.addedScheduleIds().isEmpty()) {
+            selectionBatchRepository.insertAllByScheduleIds(memberId, userId, toArray(diff.addedScheduleIds()));
+        }
+        eventRepository.increaseSelectionVersion(eventId);
+        return scheduleChangeLogService.recordAtCurrentVersion(eventUuid, eventId,
+                memberId != null ? List.of(memberId) : List.of(), userId != null ? List.of(userId) : List.of());
+    }
+
+    private List<SelectedScheduleRow> findCurrentRows(Long eventId, Long memberId, Long userId) {
+        return memberId != null
+                ? selectionRepository.findAllSelectedScheduleRowsByMemberId(memberId)
+                : selectionRepository.findAllSelectedScheduleRowsByUserIdAndEventId(userId, eventId);
+    }
+
+    private Long findParticipantVersion(Long eventId, Long memberId, Long userId) {
+        return memberId != null
+                ? memberRepository.findSelectionVersionById(memberId).orElse(null)
+                : eventParticipationRepository.findSelectionVersionByEventIdAndUserId(eventId, userId).orElse(null);
+    }
+
+    /**
+     * 참여자 선택 버전 조건부 증가 메서드.
+     * 참여자 행만 잠그므로 같은 참여자의 동시 저장끼리만 대기/충돌합니다.
+     * 참여 정보가 없는 유저(버전 null)는 확인하지 않습니다.
+     */
+    private void increaseParticipantVersion(Long eventId, Long memberId, Long userId, Long participantVersion) {
+        if (participantVersion == null) {
+            return;
+        }
+        int updated = memberId != null
+                ? memberRepository.increaseSelectionVersion(memberId, participantVersion)
+                : eventParticipationRepository.increaseSelectionVersion(eventId, userId, participantVersion);
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException("참여자 선택 버전 충돌: eventId=" + eventId
+                    + ", memberId=" + memberId + ", userId=" + userId + ", version=" + participantVersion);
+        }
+    }
+
+    /**
+     * 현재 선택 정보와 제출된 셀의 차이 계산 메서드.
+     *
+     * @param currentRows 참여자의 현재 선택 정보 ID와 스케줄 ID 목록
+     * @param cells 새로 제출된 스케줄 셀 목록
+     * @return 삭제할 Selection ID와 새로 저장할 스케줄 ID
+     */
+    private static SelectionDiff diff(List<SelectedScheduleRow> currentRows, List<ScheduleGrid.Cell> cells) {
+        Set<Long> selectedScheduleIds = new HashSet<>();
+        for (ScheduleGrid.Cell cell : cells) {
+            selectedScheduleIds.add(cell.scheduleId());
+        }
+
+        Set<Long> keptScheduleIds = new HashSet<>();
+        List<Long> removedSelectionIds = new ArrayList<>();
+        for (SelectedScheduleRow row : currentRows) {
+            if (selectedScheduleIds.contains(row.scheduleId()) && keptScheduleIds.add(row.scheduleId())) {
+                continue;
+            }
+            removedSelectionIds.add(row.selectionId());
+        }
+
+        List<Long> addedScheduleIds = new ArrayList<>();
+        for (Long scheduleId : selectedScheduleIds) {
+            if (keptScheduleIds.add(scheduleId)) {
+                addedScheduleIds.add(scheduleId);
+            }
+        }
+        return new SelectionDiff(removedSelectionIds, addedScheduleIds);
+    }
+
+    private static long[] toArray(List<Long> values) {
+        return values.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private long deadline() {
+        return System.nanoTime() + writeBehindWindowNanos;
+    }
+}
@@ -12,12 +12,17 @@ import side.onetime.dto.user.response.GetUserSleepTimeResponse;
 import side.onetime.dto.user.response.OnboardUserResponse;
 import side.onetime.exception.CustomException;
 import side.onetime.exception.status.UserErrorStatus;
+import side.onetime.global.cache.AvailabilitySnapshotCache;
+import side.onetime.repository.EventParticipationRepository;
+import side.onetime.repository.EventRepository;
 import side.onetime.repository.RefreshTokenRepository;
 import side.onetime.repository.UserRepository;
 import side.onetime.util.JwtUtil;
 import side.onetime.util.UserAuthorizationUtil;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -25,7 +30,12 @@ public class UserService {
 
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+    private final EventParticipationRepository eventParticipationRepository;
     private final JwtUtil jwtUtil;
+    private final AvailabilitySnapshotCache availabilitySnapshotCache;
+    private final AvailabilityStreamService availabilityStreamService;
+    private final ScheduleChangeLogService scheduleChangeLogService;
 
     /**
      * 유저 온보딩 처리 메서드.
@@ -97,6 +107,7 @@ public class UserService {
      *
      * 인증된 유저의 닉네임 or 언어를 수정합니다.
      * 수정된 닉네임은 길이 제한을 검증합니다.
+     * 닉네임을 수정하면 참여한 이벤트의 선택 버전을 증가시켜 조회 응답의 ETag가 바뀌도록 합니다.
      *
      * @param updateUserProfileRequest 유저 정보 수정 요청 데이터
      */
@@ -104,11 +115,45 @@ public class UserService {
     public void updateUserProfile(UpdateUserProfileRequest updateUserProfileRequest) {
         User user = userRepository.findById(UserAuthorizationUtil.getLoginUserId())
                 .orElseThrow(() -> new CustomException(UserErrorStatus._NOT_FOUND_USER));
-        Optional.ofNullable(updateUserProfileRequest.nickname()).ifPresent(user::updateNickName);
+        Optional.ofNullable(updateUserProfileRequest.nickname()).ifPresent(nickname -> {
+            user.updateNickName(nickname);
+            // 참여자 목록에 닉네임이 포함되므로 참여한 이벤트의 버전 증가 (ETag 갱신)
+            eventRepository.increaseSelectionVersionsByUserId(user.getId());
+            invalidateParticipatedEvents(findParticipatedEventIds(user));
+        });
         Optional.ofNullable(updateUserProfileRequest.language()).ifPresent(user::updateLanguage);
         userRepository.save(user);
     }
 
+    /**
+     * 유저가 참여한 이벤트 ID 조회 메서드.
+     *
+     * @param user 대상 유저
+     * @return 참여한 이벤트 UUID 목록
+     */
+    private List<UUID> findParticipatedEventIds(User user) {
+        return eventParticipationRepository.findAllByUserWithEvent(user).stream()
+                .map(ep -> ep.getEvent().getEventId())
+                .toList();
+    }
+
+    /**
+     * 유저가 참여한 이벤트의 가용성 스냅샷 무효화 메서드.
+     *
+     * 스냅샷에 포함된 닉네임 및 선택 정보가 더 이상 유효하지 않을 때 호출합니다.
+     * 해당 이벤트의 가용성 변경 구독자에게 전체를 다시 조회하도록 알리고, 스케줄 변경 기록도 삭제합니다.
+     * 변경 기록은 이벤트 버전을 증가시킨 이후에 삭제해야 하므로 버전 증가 뒤에 호출합니다.
+     *
+     * @param eventIds 유저가 참여한 이벤트 UUID 목록
+     */
+    private void invalidateParticipatedEvents(List<UUID> eventIds) {
+        for (UUID eventId : eventIds) {
+            availabilitySnapshotCache.invalidate(eventId);
+            availabilityStreamService.publishReset(eventId);
+            scheduleChangeLogService.reset(eventId);
+        }
+    }
+
     /**
      * 유저 서비스 탈퇴 메서드.
      *
@@ -119,7 +164,9 @@ public class UserService {
     public void withdrawUser() {
         User user = userRepository.findById(UserAuthorizationUtil.getLoginUserId())
                 .orElseThrow(() -> new CustomException(UserErrorStatus._NOT_FOUND_USER));
+        List<UUID> participatedEventIds = findParticipatedEventIds(user);
         userRepository.withdraw(user);
+        invalidateParticipatedEvents(participatedEventIds);
         refreshTokenRepository.deleteAllByUserId(user.getId());
     }
 
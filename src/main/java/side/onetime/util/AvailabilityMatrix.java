@@ -0,0 +1,587 @@
+package side.onetime.util;
+
+import side.onetime.domain.Member;
+import side.onetime.domain.Schedule;
+import side.onetime.domain.Selection;
+import side.onetime.domain.User;
+import side.onetime.domain.enums.Category;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * 이벤트 가용성 매트릭스.
+ *
+ * 참여자마다 고유한 참여자 인덱스를, 스케줄마다 슬롯 인덱스를 부여하고
+ * 슬롯별로 가능한 참여자 집합을 long[] 비트셋으로 저장합니다.
+ * 가능/불가능 참여자와 인원 수는 문자열 비교 없이 비트 연산과 Long.bitCount로 계산합니다.
+ */
+public class AvailabilityMatrix {
+
+    private final Category category;
+
+    private final List<String> participantNames = new ArrayList<>();
+    private final Map<Long, Integer> memberIndexes = new HashMap<>();
+    private final Map<Long, Integer> userIndexes = new HashMap<>();
+    private long[] rosterBits = new long[1];
+
+    private final List<Slot> slots = new ArrayList<>();
+    private final Map<Long, Integer> slotIndexes = new HashMap<>();
+    private int[] sortedSlots;
+
+    public AvailabilityMatrix(Category category) {
+        this.category = category;
+    }
+
+    /**
+     * 슬롯 정보.
+     * 정렬과 연속 여부 비교를 정수 연산으로 처리하기 위해 슬롯 키를 함께 보관합니다.
+     * 요일/날짜 또는 시간 형식이 올바르지 않은 슬롯은 슬롯 키가 null입니다.
+     */
+    private static final class Slot {
+        private final String timePoint;
+        private final String time;
+        private final SlotKey key;
+        private long[] bits = new long[1];
+
+        private Slot(String timePoint, String time, SlotKey key) {
+            this.timePoint = timePoint;
+            this.time = time;
+            this.key = key;
+        }
+
+        private Slot(Slot source, long[] bits) {
+            this.timePoint = source.timePoint;
+            this.time = source.time;
+            this.key = source.key;
+            this.bits = bits;
+        }
+    }
+
+    /**
+     * 연속 시간 범위.
+     * 같은 요일/날짜에서 30분 간격으로 이어지며 가능 참여자 집합이 같은 슬롯들을 하나로 묶은 범위입니다.
+     *
+     * @param startSlot 범위의 첫 슬롯 인덱스
+     * @param endSlot 범위의 마지막 슬롯 인덱스
+     * @param possibleCount 가능 인원 수
+     * @param order 요일/날짜 및 시간 순서상의 범위 순번
+     */
+    public record SlotRange(int startSlot, int endSlot, int possibleCount, int order) {
+    }
+
+    /**
+     * 멤버 참여자 등록 메서드.
+     * 전체 참여자 목록(불가능 인원 계산 기준)에 포함됩니다.
+     *
+     * @param memberId 멤버 ID
+     * @param name 멤버 이름
+     * @return 참여자 인덱스
+     */
+    public int addMember(Long memberId, String name) {
+        return registerParticipant(memberIndexes, memberId, name, true);
+    }
+
+    /**
+     * 유저 참여자 등록 메서드.
+     * 전체 참여자 목록(불가능 인원 계산 기준)에 포함됩니다.
+     *
+     * @param userId 유저 ID
+     * @param nickname 유저 닉네임
+     * @return 참여자 인덱스
+     */
+    public int addUser(Long userId, String nickname) {
+        return registerParticipant(userIndexes, userId, nickname, true);
+    }
+
+    /**
+     * 스케줄 슬롯 등록 메서드.
+     * 이미 등록된 스케줄인 경우 기존 슬롯 인덱스를 반환합니다.
+     * 스케줄에 저장된 슬롯 키가 있으면 문자열을 파싱하지 않고 사용합니다.
+     *
+     * @param schedule 스케줄 객체
+     * @return 슬롯 인덱스
+     */
+    public int addSlot(Schedule schedule) {
+        String timePoint = category == Category.DAY ? schedule.getDay() : schedule.getDate();
+        SlotKey key = schedule.getSlotKey() != null
+                ? SlotKey.decode(schedule.getSlotKey())
+                : SlotKey.of(category, timePoint, schedule.getTime());
+        return addSlot(schedule.getId(), timePoint, schedule.getTime(), key);
+    }
+
+    /**
+     * 스케줄 슬롯 등록 메서드.
+     *
+     * @param scheduleId 스케줄 ID
+     * @param timePoint 요일 또는 날짜
+     * @param time 시작 시간 (HH:mm 형식)
+     * @return 슬롯 인덱스
+     */
+    public int addSlot(Long scheduleId, String timePoint, String time) {
+        return addSlot(scheduleId, timePoint, time, SlotKey.of(category, timePoint, time));
+    }
+
+    private int addSlot(Long scheduleId, String timePoint, String time, SlotKey key) {
+        Integer index = slotIndexes.get(scheduleId);
+        if (index == null) {
+            index = slots.size();
+            slots.add(new Slot(timePoint, time, key));
+            slotIndexes.put(scheduleId, index);
+            sortedSlots = null;
+        }
+        return index;
+    }
+
+    /**
+     * 선택 정보 반영 메서드.
+     * 등록되지 않은 참여자의 선택인 경우 가능 인원에는 포함하되, 불가능 인원 계산 기준에는 포함하지 않습니다.
+     *
+     * @param selection 선택 정보
+     */
+    public void addSelection(Selection selection) {
+        Schedule schedule = selection.getSchedule();
+        if (schedule == null) return;
+
+        int participant;
+        Member member = selection.getMember();
+        User user = selection.getUser();
+        if (member != null) {
+            participant = registerParticipant(memberIndexes, member.getId(), member.getName(), false);
+        } else if (user != null) {
+            participant = registerParticipant(userIndexes, user.getId(), user.getNickname(), false);
+        } else {
+            return;
+        }
+        select(addSlot(schedule), participant);
+    }
+
+    /**
+     * 슬롯에 참여자의 가능 여부를 표시하는 메서드.
+     *
+     * @param slot 슬롯 인덱스
+     * @param participant 참여자 인덱스
+     */
+    public void select(int slot, int participant) {
+        Slot target = slots.get(slot);
+        target.bits = setBit(target.bits, participant);
+    }
+
+    /**
+     * 멤버의 선택 정보 교체 메서드.
+     * 멤버를 전체 참여자 목록에 등록하고, 기존 선택을 모두 지운 뒤 주어진 스케줄 셀로 다시 표시합니다.
+     *
+     * @param memberId 멤버 ID
+     * @param name 멤버 이름
+     * @param cells 새로 선택한 스케줄 셀 목록
+     */
+    public void replaceMemberSelections(Long memberId, String name, List<ScheduleGrid.Cell> cells) {
+        replaceSelections(registerParticipant(memberIndexes, memberId, name, true), name, cells);
+    }
+
+    /**
+     * 유저의 선택 정보 교체 메서드.
+     * 유저를 전체 참여자 목록에 등록하고, 기존 선택을 모두 지운 뒤 주어진 스케줄 셀로 다시 표시합니다.
+     *
+     * @param userId 유저 ID
+     * @param nickname 유저 닉네임
+     * @param cells 새로 선택한 스케줄 셀 목록
+     */
+    public void replaceUserSelections(Long userId, String nickname, List<ScheduleGrid.Cell> cells) {
+        replaceSelections(registerParticipant(userIndexes, userId, nickname, true), nickname, cells);
+    }
+
+    private void replaceSelections(int participant, String name, List<ScheduleGrid.Cell> cells) {
+        participantNames.set(participant, name);
+        int word = participant >>> 6;
+        long mask = ~(1L << participant);
+        for (Slot slot : slots) {
+            if (word < slot.bits.length) {
+                slot.bits[word] &= mask;
+            }
+        }
+        for (ScheduleGrid.Cell cell : cells) {
+            SlotKey key = cell.slotKey() != null ? SlotKey.decode(cell.slotKey()) : null;
+            select(addSlot(cell.scheduleId(), cell.timePoint(), cell.time(), key), participant);
+        }
+    }
+
+    /**
+     * 참여자 필터링 메서드.
+     * 요청된 멤버/유저의 참여자 인덱스로 필터 마스크를 만들고, 모든 슬롯 비트셋과 전체 참여자 목록에 AND 연산한 새 매트릭스를 반환합니다.
+     * 매트릭스에 없는 ID는 무시하며, 원본 매트릭스는 변경하지 않습니다.
+     *
+     * @param memberIds 필터링할 멤버 ID 목록
+     * @param userIds 필터링할 유저 ID 목록
+     * @return 요청된 참여자만 포함하는 가용성 매트릭스
+     */
+    public AvailabilityMatrix filter(Collection<Long> memberIds, Collection<Long> userIds) {
+        long[] mask = new long[1];
+        for (int participant : findParticipants(memberIndexes, memberIds)) {
+            mask = setBit(mask, participant);
+        }
+        for (int participant : findParticipants(userIndexes, userIds)) {
+            mask = setBit(mask, participant);
+        }
+
+        AvailabilityMatrix filtered = new AvailabilityMatrix(category);
+        filtered.participantNames.addAll(participantNames);
+        filtered.memberIndexes.putAll(memberIndexes);
+        filtered.userIndexes.putAll(userIndexes);
+        filtered.rosterBits = and(rosterBits, mask);
+        for (Slot slot : slots) {
+            filtered.slots.add(new Slot(slot, and(slot.bits, mask)));
+        }
+        filtered.slotIndexes.putAll(slotIndexes);
+        filtered.sortedSlots = getSortedSlots();
+        return filtered;
+    }
+
+    /**
+     * 멤버 ID 목록에 해당하는 참여자 인덱스 반환 메서드.
+     *
+     * @param memberIds 멤버 ID 목록
+     * @return 오름차순 참여자 인덱스 목록 (매트릭스에 없는 ID는 제외)
+     */
+    public List<Integer> findMemberParticipants(Collection<Long> memberIds) {
+        return findParticipants(memberIndexes, memberIds);
+    }
+
+    /**
+     * 유저 ID 목록에 해당하는 참여자 인덱스 반환 메서드.
+     *
+     * @param userIds 유저 ID 목록
+     * @return 오름차순 참여자 인덱스 목록 (매트릭스에 없는 ID는 제외)
+     */
+    public List<Integer> findUserParticipants(Collection<Long> userIds) {
+        return findParticipants(userIndexes, userIds);
+    }
+
+    /**
+     * 참여자가 선택한 슬롯 인덱스 반환 메서드.
+     *
+     * @param participant 참여자 인덱스
+     * @return 요일/날짜 및 시간 순으로 정렬된 선택 슬롯 인덱스 목록
+     */
+    public List<Integer> getSelectedSlots(int participant) {
+        int word = participant >>> 6;
+        long bit = 1L << participant;
+        List<Integer> selectedSlots = new ArrayList<>();
+        for (int slot : getSortedSlots()) {
+            long[] bits = slots.get(slot).bits;
+            if (word < bits.length && (bits[word] & bit) != 0) {
+                selectedSlots.add(slot);
+            }
+        }
+        return selectedSlots;
+    }
+
+    public String getParticipantName(int participant) {
+        return participantNames.get(participant);
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public int getSlotCount() {
+        return slots.size();
+    }
+
+    public int getParticipantCount() {
+        return participantNames.size();
+    }
+
+    /**
+     * 전체 참여자 수 반환 메서드.
+     * 등록된 멤버와 유저 수이며, 전체 참여자 목록에 없는 참여자의 선택은 포함하지 않습니다.
+     *
+     * @return 전체 참여자 수
+     */
+    public int getRosterCount() {
+        int count = 0;
+        for (long word : rosterBits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * 참여자 인덱스 순서의 참여자 이름 목록 반환 메서드.
+     *
+     * @return 참여자 이름 목록
+     */
+    public List<String> getParticipantNames() {
+        return List.copyOf(participantNames);
+    }
+
+    /**
+     * 전체 참여자 목록의 이름 목록 반환 메서드.
+     * 등록된 멤버와 유저만 참여자 인덱스 순서로 반환하며, 목록의 크기는 전체 참여자 수와 같습니다.
+     *
+     * @return 전체 참여자 이름 목록
+     */
+    public List<String> getRosterNames() {
+        return namesOf(rosterBits, null);
+    }
+
+    public String getTimePoint(int slot) {
+        return slots.get(slot).timePoint;
+    }
+
+    public String getTime(int slot) {
+        return slots.get(slot).time;
+    }
+
+    /**
+     * 슬롯의 가능 인원 수 반환 메서드.
+     *
+     * @param slot 슬롯 인덱스
+     * @return 가능 인원 수
+     */
+    public int getPossibleCount(int slot) {
+        int count = 0;
+        for (long word : slots.get(slot).bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * 슬롯의 가능 참여자 이름 목록 반환 메서드.
+     *
+     * @param slot 슬롯 인덱스
+     * @return 참여자 인덱스 순서의 가능 참여자 이름 목록
+     */
+    public List<String> getPossibleNames(int slot) {
+        return namesOf(slots.get(slot).bits, null);
+    }
+
+    /**
+     * 슬롯의 가능 참여자 인덱스 목록 반환 메서드.
+     *
+     * @param slot 슬롯 인덱스
+     * @return 오름차순 가능 참여자 인덱스 목록
+     */
+    public List<Integer> getPossibleParticipants(int slot) {
+        long[] bits = slots.get(slot).bits;
+        List<Integer> participants = new ArrayList<>();
+        for (int i = 0; i < bits.length; i++) {
+            long word = bits[i];
+            while (word != 0) {
+                participants.add((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return participants;
+    }
+
+    /**
+     * 슬롯의 가능 참여자 위치 목록 반환 메서드.
+     * 전체 참여자 목록에 있는 가능 참여자만 {@link #getRosterNames()} 목록에서의 위치로 반환합니다.
+     *
+     * @param slot 슬롯 인덱스
+     * @return 오름차순 전체 참여자 목록 위치 목록
+     */
+    public List<Integer> getPossibleRosterPositions(int slot) {
+        long[] bits = slots.get(slot).bits;
+        List<Integer> positions = new ArrayList<>();
+        int preceding = 0;
+        for (int i = 0; i < rosterBits.length; i++) {
+            long roster = rosterBits[i];
+            long word = i < bits.length ? bits[i] & roster : 0L;
+            while (word != 0) {
+                long lowest = word & -word;
+                positions.add(preceding + Long.bitCount(roster & (lowest - 1)));
+                word &= word - 1;
+            }
+            preceding += Long.bitCount(roster);
+        }
+        return positions;
+    }
+
+    /**
+     * 슬롯의 불가능 참여자 이름 목록 반환 메서드.
+     * 등록된 전체 참여자 중 해당 슬롯을 선택하지 않은 참여자를 반환합니다.
+     *
+     * @param slot 슬롯 인덱스
+     * @return 참여자 인덱스 순서의 불가능 참여자 이름 목록
+     */
+    public List<String> getImpossibleNames(int slot) {
+        return namesOf(rosterBits, slots.get(slot).bits);
+    }
+
+    /**
+     * 두 슬롯의 가능 참여자 집합이 같은지 확인하는 메서드.
+     *
+     * @param slot 확인할 슬롯 인덱스
+     * @param other 비교 대상 슬롯 인덱스
+     * @return 가능 참여자 집합 일치 여부
+     */
+    public boolean hasSameParticipants(int slot, int other) {
+        long[] bits = slots.get(slot).bits;
+        long[] otherBits = slots.get(other).bits;
+        int length = Math.max(bits.length, otherBits.length);
+        for (int i = 0; i < length; i++) {
+            long word = i < bits.length ? bits[i] : 0L;
+            long otherWord = i < otherBits.length ? otherBits[i] : 0L;
+            if (word != otherWord) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 두 슬롯이 같은 요일/날짜에서 30분 간격으로 이어지는지 확인하는 메서드.
+     *
+     * @param previous 이전 슬롯 인덱스
+     * @param next 다음 슬롯 인덱스
+     * @return 연속 여부
+     */
+    public boolean isConsecutive(int previous, int next) {
+        SlotKey prev = slots.get(previous).key;
+        SlotKey cur = slots.get(next).key;
+        return prev != null && cur != null && prev.isFollowedBy(cur);
+    }
+
+    /**
+     * 요일/날짜 및 시간 순으로 정렬된 슬롯 인덱스 반환 메서드.
+     * 요일 이벤트는 일~토 순서, 날짜 이벤트는 날짜 오름차순으로 정렬하며, 슬롯 키의 정수 비교로 처리합니다.
+     * 요일/날짜 또는 시간 형식이 올바르지 않은 슬롯은 등록 순서대로 마지막에 위치합니다.
+     *
+     * @return 정렬된 슬롯 인덱스 배열
+     */
+    public int[] getSortedSlots() {
+        if (sortedSlots == null) {
+            Comparator<Slot> slotComparator = Comparator.comparing(slot -> slot.key, Comparator.nullsLast(Comparator.naturalOrder()));
+
+            sortedSlots = IntStream.range(0, slots.size())
+                    .boxed()
+                    .sorted((a, b) -> slotComparator.compare(slots.get(a), slots.get(b)))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+        return sortedSlots;
+    }
+
+    /**
+     * 가능 인원이 많은 상위 시간 범위 반환 메서드.
+     * 요일/날짜 및 시간 순으로 슬롯을 한 번 순회하며 연속되고 가능 참여자 집합이 같은 슬롯을 하나의 범위로 병합하고,
+     * 크기가 limit인 힙으로 상위 범위만 유지합니다. (O(n log K))
+     * 가능 인원 내림차순, 인원이 같으면 요일/날짜 및 시간 순으로 정렬하여 반환합니다.
+     * 선택한 참여자가 없는 슬롯과 올바르지 않은 요일/날짜의 슬롯은 제외합니다.
+     *
+     * @param limit 반환할 최대 범위 개수
+     * @return 정렬된 상위 시간 범위 목록
+     */
+    public List<SlotRange> getTopRanges(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Comparator<SlotRange> ranking = Comparator.comparingInt(SlotRange::possibleCount).reversed()
+                .thenComparingInt(SlotRange::order);
+        // 힙의 루트에는 현재까지 유지 중인 범위 중 가장 순위가 낮은 범위가 위치
+        PriorityQueue<SlotRange> heap = new PriorityQueue<>(ranking.reversed());
+
+        int order = 0;
+        int startSlot = -1;
+        int endSlot = -1;
+        int possibleCount = 0;
+        for (int slot : getSortedSlots()) {
+            if (slots.get(slot).key == null) {
+                // 열린 범위를 닫아, 올바르지 않은 슬롯을 사이에 둔 범위끼리 병합되지 않도록 함
+                if (startSlot >= 0) {
+                    offer(heap, new SlotRange(startSlot, endSlot, possibleCount, order++), limit, ranking);
+                    startSlot = -1;
+                }
+                continue;
+            }
+
+            if (startSlot >= 0 && isConsecutive(endSlot, slot) && hasSameParticipants(endSlot, slot)) {
+                // 직전 범위와 병합
+                endSlot = slot;
+                continue;
+            }
+            if (startSlot >= 0) {
+                offer(heap, new SlotRange(startSlot, endSlot, possibleCount, order++), limit, ranking);
+            }
+
+            int count = getPossibleCount(slot);
+            startSlot = count > 0 ? slot : -1;
+            endSlot = slot;
+            possibleCount = count;
+        }
+        if (startSlot >= 0) {
+            offer(heap, new SlotRange(startSlot, endSlot, possibleCount, order), limit, ranking);
+        }
+
+        List<SlotRange> ranges = new ArrayList<>(heap);
+        ranges.sort(ranking);
+        return ranges;
+    }
+
+    private static void offer(PriorityQueue<SlotRange> heap, SlotRange range, int limit, Comparator<SlotRange> ranking) {
+        if (heap.size() < limit) {
+            heap.add(range);
+        } else if (ranking.compare(range, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(range);
+        }
+    }
+
+    private int registerParticipant(Map<Long, Integer> indexes, Long id, String name, boolean roster) {
+        Integer index = indexes.get(id);
+        if (index == null) {
+            index = participantNames.size();
+            participantNames.add(name);
+            indexes.put(id, index);
+        }
+        if (roster) {
+            rosterBits = setBit(rosterBits, index);
+        }
+        return index;
+    }
+
+    private List<String> namesOf(long[] bits, long[] excludeBits) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < bits.length; i++) {
+            long word = bits[i];
+            if (excludeBits != null && i < excludeBits.length) {
+                word &= ~excludeBits[i];
+            }
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                names.add(participantNames.get((i << 6) + bit));
+                word &= word - 1;
+            }
+        }
+        return names;
+    }
+
+    private static List<Integer> findParticipants(Map<Long, Integer> indexes, Collection<Long> ids) {
+        return ids.stream()
+                .map(indexes::get)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    private static long[] and(long[] bits, long[] mask) {
+        long[] result = new long[bits.length];
+        for (int i = 0; i < bits.length && i < mask.length; i++) {
+            result[i] = bits[i] & mask[i];
+        }
+        return result;
+    }
+
+    private static long[] setBit(long[] bits, int index) {
+        int word = index >>> 6;
+        if (word >= bits.length) {
+            bits = Arrays.copyOf(bits, Math.max(word + 1, bits.length * 2));
+        }
+        bits[word] |= 1L << index;
+        return bits;
+    }
+}
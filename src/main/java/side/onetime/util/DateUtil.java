@@ -11,7 +11,6 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -66,8 +65,10 @@ public class  DateUtil {
     public static List<String> getSortedDateRanges(List<String> dateStrings, String pattern) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
 
+        // 중복 제거 후 날짜마다 한 번만 파싱하여 epoch-day 기준으로 정렬
         return dateStrings.stream()
                 .filter(dateStr -> dateStr != null && !dateStr.isEmpty())
+                .distinct()
                 .map(dateStr -> {
                     try {
                         return LocalDate.parse(dateStr, formatter);
@@ -115,35 +116,20 @@ public class  DateUtil {
      * @return 정렬된 최적 시간대 리스트
      */
     public static List<GetMostPossibleTime> sortMostPossibleTimes(List<GetMostPossibleTime> mostPossibleTimes, Category category) {
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy.MM.dd");
-        Map<String, Integer> timePointOrder;
-
-        if (category.equals(Category.DAY)) {
-            // 요일 기준 정렬
-            List<String> dayOrder = List.of("일", "월", "화", "수", "목", "금", "토");
-            timePointOrder = IntStream.range(0, dayOrder.size())
-                    .boxed()
-                    .collect(Collectors.toMap(dayOrder::get, i -> i));
-        } else {
-            // 날짜 기준 정렬
-            AtomicInteger order = new AtomicInteger(0);
-            timePointOrder = mostPossibleTimes.stream()
-                    .map(GetMostPossibleTime::timePoint)
-                    .distinct()
-                    .filter(tp -> {
-                        try {
-                            LocalDate.parse(tp, dateFormatter);
-                            return true;
-                        } catch (DateTimeParseException e) {
-                            return false;
-                        }
-                    })
-                    .sorted(Comparator.comparing((String tp) -> LocalDate.parse(tp, dateFormatter)))
-                    .collect(Collectors.toMap(tp -> tp, tp -> order.getAndIncrement(), (a, b) -> a, LinkedHashMap::new));
+        // 요일/날짜마다 한 번만 순서값(요일 순서 또는 epoch-day)을 계산하고, 정렬은 정수 비교로 처리
+        Map<String, Integer> timePointOrder = new HashMap<>();
+        for (GetMostPossibleTime mostPossibleTime : mostPossibleTimes) {
+            String timePoint = mostPossibleTime.timePoint();
+            if (timePoint != null && !timePointOrder.containsKey(timePoint)) {
+                Integer order = SlotKey.parseTimePoint(category, timePoint);
+                if (order != null) {
+                    timePointOrder.put(timePoint, order);
+                }
+            }
         }
 
         return mostPossibleTimes.stream()
-                .filter(tp -> timePointOrder.containsKey(tp.timePoint()))
+                .filter(tp -> tp.timePoint() != null && timePointOrder.containsKey(tp.timePoint()))
                 .sorted(Comparator.comparing(GetMostPossibleTime::possibleCount, Comparator.reverseOrder())
                         .thenComparingInt(tp -> timePointOrder.get(tp.timePoint())))
                 .toList();
@@ -0,0 +1,124 @@
+package side.onetime.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 참여자별 스케줄 비트셋 응답 작성기.
+ *
+ * 전체 스케줄 조회 응답을 JSON 대신 이벤트 슬롯 그리드 기준 비트셋으로 씁니다. 요일/날짜와 시간 목록은 헤더에 한 번만 쓰고,
+ * 참여자마다 이름과 (요일/날짜 색인 × 시간 수 + 시간 색인) 위치의 비트를 고정 길이 바이트 배열로 씁니다.
+ *
+ * 형식 (정수는 big-endian, 문자열은 u16 바이트 길이 + UTF-8 바이트):
+ * <pre>
+ * "OTSB"                 매직 (4바이트)
+ * u8                     형식 버전 (1)
+ * u16 + 문자열[]          요일/날짜 목록
+ * u16 + 문자열[]          시간 목록 (HH:mm 오름차순)
+ * u32                    참여자 수
+ * (문자열, 바이트[])[]     참여자 이름과 선택 비트셋 (길이 = ceil(요일/날짜 수 × 시간 수 / 8), 바이트 안에서는 하위 비트부터)
+ * </pre>
+ */
+public final class ScheduleBitsetWriter {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.onetime.schedule-bitset";
+
+    private static final byte[] MAGIC = {'O', 'T', 'S', 'B'};
+    private static final int FORMAT_VERSION = 1;
+
+    private final Map<String, Integer> timePointIndexes = new HashMap<>();
+    private final Map<String, Integer> timeIndexes = new HashMap<>();
+    private final int timeCount;
+    private final int bitsetLength;
+    private final ByteArrayOutputStream bytes;
+    private final DataOutputStream out;
+
+    /**
+     * 작성기 생성 및 헤더 작성.
+     *
+     * @param grid 이벤트 스케줄 그리드
+     * @param participantCount 이후 작성할 참여자 수
+     */
+    public ScheduleBitsetWriter(ScheduleGrid grid, int participantCount) {
+        List<String> timePoints = grid.getTimePoints();
+        SortedSet<String> times = new TreeSet<>();
+        for (ScheduleGrid.Cell cell : grid.getCells()) {
+            if (cell.timePoint() != null && cell.time() != null) {
+                times.add(cell.time());
+            }
+        }
+        for (String timePoint : timePoints) {
+            timePointIndexes.put(timePoint, timePointIndexes.size());
+        }
+        for (String time : times) {
+            timeIndexes.put(time, timeIndexes.size());
+        }
+        this.timeCount = times.size();
+        this.bitsetLength = (timePoints.size() * timeCount + 7) / 8;
+        this.bytes = new ByteArrayOutputStream(64 + participantCount * (bitsetLength + 16));
+        this.out = new DataOutputStream(bytes);
+
+        try {
+            out.write(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            writeStrings(timePoints);
+            writeStrings(times);
+            out.writeInt(participantCount);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 슬롯 비트 색인 반환 메서드.
+     *
+     * @param timePoint 요일 또는 날짜
+     * @param time 시작 시간 (HH:mm 형식)
+     * @return 비트 색인 (그리드에 없는 슬롯이면 -1)
+     */
+    public int slotIndex(String timePoint, String time) {
+        Integer timePointIndex = timePoint == null ? null : timePointIndexes.get(timePoint);
+        Integer timeIndex = time == null ? null : timeIndexes.get(time);
+        if (timePointIndex == null || timeIndex == null) {
+            return -1;
+        }
+        return timePointIndex * timeCount + timeIndex;
+    }
+
+    /**
+     * 참여자 작성 메서드.
+     *
+     * @param name 참여자 이름
+     * @param slots slotIndex로 구한 색인의 선택 비트셋
+     */
+    public void writeParticipant(String name, BitSet slots) {
+        byte[] bitset = Arrays.copyOf(slots.toByteArray(), bitsetLength);
+        try {
+            writeString(name);
+            out.write(bitset);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public byte[] toByteArray() {
+        return bytes.toByteArray();
+    }
+
+    private void writeStrings(Collection<String> values) throws IOException {
+        out.writeShort(values.size());
+        for (String value : values) {
+            writeString(value);
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] encoded = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        out.writeShort(encoded.length);
+        out.write(encoded);
+    }
+}
@@ -0,0 +1,150 @@
+package side.onetime.util;
+
+import side.onetime.domain.Schedule;
+
+import java.util.*;
+
+/**
+ * 이벤트 스케줄 그리드.
+ *
+ * 이벤트의 전체 스케줄을 엔티티 대신 불변 셀(스케줄 ID, 요일/날짜, 시간, 슬롯 키) 배열로 보관합니다.
+ * 셀은 슬롯 키 순서로 정렬되며, (요일/날짜, 시간) → 셀 색인으로 스케줄 등록 요청의 셀들을 해시 조회로 찾습니다.
+ * 트랜잭션과 무관한 값 객체이므로 이벤트별로 캐시하여 재사용할 수 있습니다.
+ */
+public final class ScheduleGrid {
+
+    private static final Comparator<Cell> CELL_ORDER = Comparator
+            .comparing(Cell::slotKey, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Cell::scheduleId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final Cell[] cells;
+    private final Map<String, Map<String, Cell>> cellsByTimePoint;
+    private final Map<String, Cell[]> slotCellsByTimePoint;
+    private final List<String> timePoints;
+
+    /**
+     * 스케줄 셀.
+     *
+     * @param scheduleId 스케줄 ID
+     * @param timePoint 요일 또는 날짜
+     * @param time 시작 시간 (HH:mm 형식)
+     * @param slotKey 인코딩된 슬롯 키 (형식이 올바르지 않으면 null)
+     */
+    public record Cell(Long scheduleId, String timePoint, String time, Integer slotKey) {
+    }
+
+    private ScheduleGrid(Cell[] cells) {
+        this.cells = cells;
+        this.cellsByTimePoint = new HashMap<>();
+        this.slotCellsByTimePoint = new HashMap<>();
+        Set<String> distinctTimePoints = new LinkedHashSet<>();
+        for (Cell cell : cells) {
+            if (cell.timePoint() == null || cell.time() == null) {
+                continue;
+            }
+            cellsByTimePoint.computeIfAbsent(cell.timePoint(), key -> new HashMap<>())
+                    .putIfAbsent(cell.time(), cell);
+            distinctTimePoints.add(cell.timePoint());
+            int minute = SlotKey.parseMinuteOfDay(cell.time());
+            if (minute >= 0 && minute % SlotKey.SLOT_MINUTES == 0) {
+                Cell[] slotCells = slotCellsByTimePoint.computeIfAbsent(cell.timePoint(), key -> new Cell[SelectedSlots.SLOTS_PER_DAY]);
+                int slot = minute / SlotKey.SLOT_MINUTES;
+                if (slotCells[slot] == null) {
+                    slotCells[slot] = cell;
+                }
+            }
+        }
+        this.timePoints = List.copyOf(distinctTimePoints);
+    }
+
+    /**
+     * 그리드 생성 메서드.
+     * 요일 스케줄은 요일, 날짜 스케줄은 날짜를 기준으로 색인합니다.
+     *
+     * @param schedules 이벤트의 전체 스케줄 목록
+     * @return 스케줄 그리드
+     */
+    public static ScheduleGrid of(List<Schedule> schedules) {
+        Cell[] cells = new Cell[schedules.size()];
+        for (int i = 0; i < cells.length; i++) {
+            Schedule schedule = schedules.get(i);
+            String timePoint = schedule.getDay() != null ? schedule.getDay() : schedule.getDate();
+            Integer slotKey = schedule.getSlotKey() != null
+                    ? schedule.getSlotKey()
+                    : SlotKey.encode(schedule.getDate(), schedule.getDay(), schedule.getTime());
+            cells[i] = new Cell(schedule.getId(), timePoint, schedule.getTime(), slotKey);
+        }
+        Arrays.sort(cells, CELL_ORDER);
+        return new ScheduleGrid(cells);
+    }
+
+    /**
+     * 요청된 셀 조회 메서드.
+     * 이벤트에 없는 요일/날짜 또는 시간은 무시하며, 중복된 시간은 한 번만 반환합니다.
+     *
+     * @param timePoint 요일 또는 날짜
+     * @param times 선택한 시간 목록 (HH:mm 형식)
+     * @return 요청된 시간 순서의 셀 목록
+     */
+    public List<Cell> resolve(String timePoint, Collection<String> times) {
+        Map<String, Cell> cellsByTime = cellsByTimePoint.get(timePoint);
+        if (cellsByTime == null || times == null || times.isEmpty()) {
+            return List.of();
+        }
+        List<Cell> resolved = new ArrayList<>(times.size());
+        Set<String> resolvedTimes = new HashSet<>();
+        for (String time : times) {
+            Cell cell = cellsByTime.get(time);
+            if (cell != null && resolvedTimes.add(time)) {
+                resolved.add(cell);
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * 선택 슬롯 비트셋의 셀 조회 메서드.
+     * 요일/날짜마다 30분 단위 시간 색인으로 셀을 바로 찾으며, 이벤트에 없는 요일/날짜 또는 시간은 무시합니다.
+     *
+     * @param selectedSlots 스케줄 등록 요청의 선택 슬롯
+     * @return 요청된 요일/날짜 순서, 시간 오름차순의 셀 목록
+     */
+    public List<Cell> resolve(SelectedSlots selectedSlots) {
+        List<Cell> resolved = new ArrayList<>(selectedSlots.size());
+        List<String> requestedTimePoints = selectedSlots.getTimePoints();
+        for (int i = 0; i < requestedTimePoints.size(); i++) {
+            Cell[] slotCells = slotCellsByTimePoint.get(requestedTimePoints.get(i));
+            if (slotCells == null) {
+                continue;
+            }
+            selectedSlots.forEachSlot(i, slot -> {
+                if (slotCells[slot] != null) {
+                    resolved.add(slotCells[slot]);
+                }
+            });
+        }
+        return resolved;
+    }
+
+    /**
+     * 슬롯 키 순서로 정렬된 전체 셀 반환 메서드.
+     *
+     * @return 전체 셀 목록
+     */
+    public List<Cell> getCells() {
+        return List.of(cells);
+    }
+
+    /**
+     * 요일/날짜 목록 반환 메서드.
+     *
+     * @return 슬롯 키 순서의 중복 없는 요일/날짜 목록
+     */
+    public List<String> getTimePoints() {
+        return timePoints;
+    }
+
+    public int size() {
+        return cells.length;
+    }
+}
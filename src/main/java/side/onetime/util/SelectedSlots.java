@@ -0,0 +1,149 @@
+package side.onetime.util;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * 스케줄 등록 요청의 선택 슬롯 비트셋.
+ *
+ * 요청에 나온 요일/날짜를 등장 순서대로 색인하고, (요일/날짜 색인 × 하루 슬롯 수 + 30분 단위 시간 색인) 위치의 비트로
+ * 선택한 시간을 표현합니다. 요청 본문의 시간 문자열 목록을 만들지 않고 바로 비트로 기록하므로,
+ * 60일짜리 이벤트처럼 큰 요청도 요일/날짜 문자열과 비트셋만으로 보관됩니다.
+ * 30분 단위가 아니거나 형식이 올바르지 않은 시간은 이벤트 스케줄과 일치할 수 없으므로 기록하지 않습니다.
+ */
+public final class SelectedSlots {
+
+    public static final int SLOTS_PER_DAY = SlotKey.MINUTES_PER_DAY / SlotKey.SLOT_MINUTES;
+
+    private final List<String> timePoints = new ArrayList<>();
+    private final Map<String, Integer> timePointIndexes = new HashMap<>();
+    private final BitSet slots = new BitSet();
+
+    /**
+     * 요일/날짜별 선택 시간 추가 메서드.
+     * 형식이 올바르지 않은 시간은 무시합니다.
+     *
+     * @param timePoint 요일 또는 날짜
+     * @param times 선택한 시간 목록 (HH:mm 형식)
+     */
+    public void add(String timePoint, Collection<String> times) {
+        if (timePoint == null) {
+            return;
+        }
+        int index = addTimePoint(timePoint);
+        if (times == null) {
+            return;
+        }
+        for (String time : times) {
+            int minute = SlotKey.parseMinuteOfDay(time);
+            if (minute >= 0) {
+                addSlot(index, minute);
+            }
+        }
+    }
+
+    /**
+     * 요일/날짜 등록 메서드.
+     * 이미 등록된 요일/날짜면 기존 색인을 반환합니다.
+     *
+     * @param timePoint 요일 또는 날짜
+     * @return 요일/날짜 색인
+     */
+    public int addTimePoint(String timePoint) {
+        Integer index = timePointIndexes.get(timePoint);
+        if (index != null) {
+            return index;
+        }
+        timePoints.add(timePoint);
+        timePointIndexes.put(timePoint, timePoints.size() - 1);
+        return timePoints.size() - 1;
+    }
+
+    /**
+     * 선택 시간 기록 메서드.
+     *
+     * @param timePointIndex 요일/날짜 색인
+     * @param minuteOfDay 하루 중 분 단위 시각
+     * @return 기록 여부 (30분 단위가 아니거나 범위를 벗어나면 false)
+     */
+    public boolean addSlot(int timePointIndex, int minuteOfDay) {
+        if (minuteOfDay < 0 || minuteOfDay >= SlotKey.MINUTES_PER_DAY || minuteOfDay % SlotKey.SLOT_MINUTES != 0) {
+            return false;
+        }
+        slots.set(timePointIndex * SLOTS_PER_DAY + minuteOfDay / SlotKey.SLOT_MINUTES);
+        return true;
+    }
+
+    /**
+     * 요일/날짜 목록 반환 메서드.
+     *
+     * @return 요청 등장 순서의 중복 없는 요일/날짜 목록
+     */
+    public List<String> getTimePoints() {
+        return Collections.unmodifiableList(timePoints);
+    }
+
+    /**
+     * 요일/날짜의 선택 슬롯 색인 순회 메서드.
+     *
+     * @param timePointIndex 요일/날짜 색인
+     * @param consumer 선택된 30분 단위 시간 색인(0 ~ SLOTS_PER_DAY - 1)을 받는 함수
+     */
+    public void forEachSlot(int timePointIndex, IntConsumer consumer) {
+        int from = timePointIndex * SLOTS_PER_DAY;
+        int to = from + SLOTS_PER_DAY;
+        for (int bit = slots.nextSetBit(from); bit >= 0 && bit < to; bit = slots.nextSetBit(bit + 1)) {
+            consumer.accept(bit - from);
+        }
+    }
+
+    /**
+     * 요일/날짜별 선택 시간 반환 메서드.
+     *
+     * @param timePointIndex 요일/날짜 색인
+     * @return 오름차순 선택 시간 목록 (HH:mm 형식)
+     */
+    public List<String> getTimes(int timePointIndex) {
+        List<String> times = new ArrayList<>();
+        forEachSlot(timePointIndex, slot -> times.add(formatTime(slot)));
+        return times;
+    }
+
+    /**
+     * 선택된 슬롯 수 반환 메서드.
+     *
+     * @return 선택된 슬롯 수
+     */
+    public int size() {
+        return slots.cardinality();
+    }
+
+    /**
+     * 30분 단위 시간 색인을 HH:mm 형식으로 변환하는 메서드.
+     *
+     * @param slot 30분 단위 시간 색인
+     * @return HH:mm 형식 시간
+     */
+    public static String formatTime(int slot) {
+        int minuteOfDay = slot * SlotKey.SLOT_MINUTES;
+        int hour = minuteOfDay / 60;
+        int minute = minuteOfDay % 60;
+        return (hour < 10 ? "0" : "") + hour + (minute < 10 ? ":0" : ":") + minute;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SelectedSlots that)) {
+            return false;
+        }
+        return timePoints.equals(that.timePoints) && slots.equals(that.slots);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(timePoints, slots);
+    }
+}
@@ -0,0 +1,134 @@
+package side.onetime.util;
+
+import side.onetime.domain.enums.Category;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 스케줄 슬롯 키.
+ *
+ * 날짜는 epoch-day, 요일은 일요일부터 0~6의 순서값으로, 시간은 하루 중 분 단위 값으로 표현합니다.
+ * 하나의 int(순서값 × 1440 + 분)로 인코딩하여 schedules.slot_key 컬럼에 저장하며,
+ * 정렬과 연속 구간 판단을 문자열 파싱 없이 정수 비교로 처리합니다.
+ *
+ * @param timePointOrdinal 날짜의 epoch-day 또는 요일 순서값
+ * @param minuteOfDay 하루 중 분 단위 시각
+ */
+public record SlotKey(int timePointOrdinal, int minuteOfDay) implements Comparable<SlotKey> {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int SLOT_MINUTES = 30;
+
+    private static final int MAX_TIME_POINT_ORDINAL = Integer.MAX_VALUE / MINUTES_PER_DAY - 1;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+    private static final List<String> DAY_ORDER = List.of("일", "월", "화", "수", "목", "금", "토");
+
+    /**
+     * 요일/날짜와 시간 문자열로 슬롯 키를 생성하는 메서드.
+     *
+     * @param category 이벤트 카테고리 (DATE 또는 DAY)
+     * @param timePoint 날짜(yyyy.MM.dd) 또는 요일
+     * @param time 시작 시간 (HH:mm 형식)
+     * @return 슬롯 키 (형식이 올바르지 않으면 null)
+     */
+    public static SlotKey of(Category category, String timePoint, String time) {
+        Integer ordinal = parseTimePoint(category, timePoint);
+        int minute = parseMinuteOfDay(time);
+        if (ordinal == null || minute < 0 || Math.abs(ordinal) > MAX_TIME_POINT_ORDINAL) {
+            return null;
+        }
+        return new SlotKey(ordinal, minute);
+    }
+
+    /**
+     * 스케줄 컬럼 값으로 인코딩된 슬롯 키를 생성하는 메서드.
+     * 날짜가 있으면 날짜 기준, 없으면 요일 기준으로 인코딩합니다.
+     *
+     * @param date 날짜 (yyyy.MM.dd 형식, 요일 스케줄이면 null)
+     * @param day 요일 (날짜 스케줄이면 null)
+     * @param time 시작 시간 (HH:mm 형식)
+     * @return 인코딩된 슬롯 키 (형식이 올바르지 않으면 null)
+     */
+    public static Integer encode(String date, String day, String time) {
+        SlotKey key = date != null ? of(Category.DATE, date, time) : of(Category.DAY, day, time);
+        return key == null ? null : key.encode();
+    }
+
+    /**
+     * 인코딩된 슬롯 키 복원 메서드.
+     *
+     * @param value 인코딩된 슬롯 키
+     * @return 슬롯 키
+     */
+    public static SlotKey decode(int value) {
+        return new SlotKey(Math.floorDiv(value, MINUTES_PER_DAY), Math.floorMod(value, MINUTES_PER_DAY));
+    }
+
+    /**
+     * 요일/날짜 순서값 반환 메서드.
+     *
+     * @param category 이벤트 카테고리 (DATE 또는 DAY)
+     * @param timePoint 날짜(yyyy.MM.dd) 또는 요일
+     * @return 날짜의 epoch-day 또는 요일 순서값 (형식이 올바르지 않으면 null)
+     */
+    public static Integer parseTimePoint(Category category, String timePoint) {
+        if (timePoint == null) {
+            return null;
+        }
+        if (category == Category.DAY) {
+            int ordinal = DAY_ORDER.indexOf(timePoint);
+            return ordinal < 0 ? null : ordinal;
+        }
+        try {
+            return Math.toIntExact(LocalDate.parse(timePoint, DATE_FORMATTER).toEpochDay());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 하루 중 분 단위 시각 반환 메서드.
+     * 이벤트 스케줄의 시간 문자열과 같은 HH:mm 형식만 허용하며, JSON 파서의 문자 버퍼도 복사 없이 받을 수 있도록 CharSequence를 받습니다.
+     *
+     * @param time 시간 (HH:mm 형식)
+     * @return 분 단위 시각 (형식이 올바르지 않으면 -1)
+     */
+    public static int parseMinuteOfDay(CharSequence time) {
+        if (time == null || time.length() != 5 || time.charAt(2) != ':') {
+            return -1;
+        }
+        int hour = digit(time.charAt(0)) * 10 + digit(time.charAt(1));
+        int minute = digit(time.charAt(3)) * 10 + digit(time.charAt(4));
+        if (hour < 0 || hour >= 24 || minute < 0 || minute >= 60) {
+            return -1;
+        }
+        return hour * 60 + minute;
+    }
+
+    public int encode() {
+        return timePointOrdinal * MINUTES_PER_DAY + minuteOfDay;
+    }
+
+    /**
+     * 다음 슬롯이 같은 요일/날짜에서 30분 뒤에 이어지는지 확인하는 메서드.
+     *
+     * @param next 다음 슬롯 키
+     * @return 연속 여부
+     */
+    public boolean isFollowedBy(SlotKey next) {
+        return timePointOrdinal == next.timePointOrdinal
+                && minuteOfDay + SLOT_MINUTES == next.minuteOfDay;
+    }
+
+    @Override
+    public int compareTo(SlotKey other) {
+        return Integer.compare(encode(), other.encode());
+    }
+
+    private static int digit(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : -100;
+    }
+}
@@ -0,0 +1,26 @@
+package side.onetime.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+    /**
+     * 트랜잭션 커밋 이후 실행 메서드.
+     * 진행 중인 트랜잭션이 있으면 커밋 이후에 실행하고, 없으면 바로 실행합니다.
+     *
+     * @param action 실행할 작업
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -484,6 +484,57 @@ public class AdminControllerTest extends ControllerTestConfig {
                 ));
     }
 
+    @Test
+    @DisplayName("스케줄 비동기 저장 통계를 조회한다.")
+    public void getScheduleIngestionStats() throws Exception {
+        // given
+        String accessToken = "Bearer temp.jwt.access.token";
+        GetScheduleIngestionStatsResponse response = new GetScheduleIngestionStatsResponse(
+                true, 12, 10000, 5230L, 3L, 5190L, 25L, 640L, 8.1, 100, 152.4, 980.7);
+
+        // when
+        Mockito.when(adminService.getScheduleIngestionStats(any(String.class))).thenReturn(response);
+
+        // then
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/v1/admin/dashboard/schedule-ingestion")
+                        .header("Authorization", accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.is_success").value(true))
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.message").value("관리자 스케줄 비동기 저장 통계 조회에 성공했습니다."))
+                .andExpect(jsonPath("$.payload.queue_depth").value(12))
+                .andExpect(jsonPath("$.payload.rejected_count").value(3))
+                .andDo(MockMvcRestDocumentationWrapper.document("admin/dashboard-schedule-ingestion",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        resource(
+                                ResourceSnippetParameters.builder()
+                                        .tag("Admin API")
+                                        .description("스케줄 비동기 저장 통계를 조회한다.")
+                                        .responseFields(
+                                                fieldWithPath("is_success").type(JsonFieldType.BOOLEAN).description("성공 여부"),
+                                                fieldWithPath("code").type(JsonFieldType.STRING).description("응답 코드"),
+                                                fieldWithPath("message").type(JsonFieldType.STRING).description("응답 메시지"),
+                                                fieldWithPath("payload").type(JsonFieldType.OBJECT).description("페이로드 객체"),
+                                                fieldWithPath("payload.enabled").type(JsonFieldType.BOOLEAN).description("비동기 저장 모드 사용 여부"),
+                                                fieldWithPath("payload.queue_depth").type(JsonFieldType.NUMBER).description("저장 대기 중인 제출 수"),
+                                                fieldWithPath("payload.queue_capacity").type(JsonFieldType.NUMBER).description("큐 전체 용량"),
+                                                fieldWithPath("payload.accepted_count").type(JsonFieldType.NUMBER).description("접수된 제출 수"),
+                                                fieldWithPath("payload.rejected_count").type(JsonFieldType.NUMBER).description("큐가 가득 차 거절된 제출 수"),
+                                                fieldWithPath("payload.completed_count").type(JsonFieldType.NUMBER).description("저장 완료된 제출 수"),
+                                                fieldWithPath("payload.failed_count").type(JsonFieldType.NUMBER).description("저장 실패한 제출 수"),
+                                                fieldWithPath("payload.batch_count").type(JsonFieldType.NUMBER).description("처리한 배치 수"),
+                                                fieldWithPath("payload.average_batch_size").type(JsonFieldType.NUMBER).description("평균 배치 크기"),
+                                                fieldWithPath("payload.max_batch_size").type(JsonFieldType.NUMBER).description("최대 배치 크기"),
+                                                fieldWithPath("payload.average_drain_latency_millis").type(JsonFieldType.NUMBER).description("접수부터 저장 완료까지의 평균 지연 시간 (ms)"),
+                                                fieldWithPath("payload.max_drain_latency_millis").type(JsonFieldType.NUMBER).description("접수부터 저장 완료까지의 최대 지연 시간 (ms)")
+                                        )
+                                        .responseSchema(Schema.schema("GetScheduleIngestionStatsResponse"))
+                                        .build()
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("배너를 등록한다.")
     public void registerBanner() throws Exception {
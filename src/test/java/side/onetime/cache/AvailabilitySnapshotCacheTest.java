@@ -0,0 +1,119 @@
+package side.onetime.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import side.onetime.domain.Member;
+import side.onetime.domain.enums.Category;
+import side.onetime.global.cache.AvailabilitySnapshotCache;
+import side.onetime.util.AvailabilityMatrix;
+import side.onetime.util.ScheduleGrid;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvailabilitySnapshotCacheTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+
+    private final AvailabilitySnapshotCache cache = new AvailabilitySnapshotCache(100, Duration.ofMinutes(10));
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    @DisplayName("스냅샷 버전이 현재 이벤트 버전과 같으면 다시 적재하지 않는다.")
+    void readCachedSnapshotAtSameVersion() {
+        // when
+        cache.read(EVENT_ID, 3L, loader(), AvailabilityMatrix::getParticipantCount);
+        int count = cache.read(EVENT_ID, 3L, loader(), AvailabilityMatrix::getParticipantCount);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 변경이 커밋되어 이벤트 버전이 올라가면 스냅샷을 다시 적재한다.")
+    void reloadSnapshotWhenVersionAdvanced() {
+        // given
+        cache.read(EVENT_ID, 3L, loader(), AvailabilityMatrix::getParticipantCount);
+
+        // when
+        cache.read(EVENT_ID, 4L, loader(), AvailabilityMatrix::getParticipantCount);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("바로 다음 버전의 선택 정보는 스냅샷에 반영하고 버전을 올린다.")
+    void replaceSelectionsAtNextVersion() {
+        // given
+        cache.read(EVENT_ID, 3L, loader(), AvailabilityMatrix::getParticipantCount);
+
+        // when
+        cache.replaceSelections(EVENT_ID, 4L, member(2L), cells());
+        int count = cache.read(EVENT_ID, 4L, loader(), AvailabilityMatrix::getParticipantCount);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("그 사이 반영되지 않은 버전이 있으면 스냅샷을 무효화한다.")
+    void invalidateSnapshotWhenVersionSkipped() {
+        // given
+        cache.read(EVENT_ID, 3L, loader(), AvailabilityMatrix::getParticipantCount);
+
+        // when
+        cache.replaceSelections(EVENT_ID, 5L, member(2L), cells());
+        cache.read(EVENT_ID, 5L, loader(), AvailabilityMatrix::getParticipantCount);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("저장 대기 중인 선택 정보는 스냅샷 버전을 바꾸지 않고 반영한다.")
+    void replacePendingSelectionsKeepsVersion() {
+        // given
+        cache.read(EVENT_ID, 3L, loader(), AvailabilityMatrix::getParticipantCount);
+
+        // when
+        cache.replacePendingSelections(EVENT_ID, member(2L), cells());
+        int count = cache.read(EVENT_ID, 3L, loader(), AvailabilityMatrix::getParticipantCount);
+        cache.read(EVENT_ID, 4L, loader(), AvailabilityMatrix::getParticipantCount);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    private Supplier<AvailabilityMatrix> loader() {
+        return () -> {
+            loadCount.incrementAndGet();
+            AvailabilityMatrix matrix = new AvailabilityMatrix(Category.DAY);
+            matrix.addMember(1L, "member1");
+            return matrix;
+        };
+    }
+
+    private static Member member(Long id) {
+        Member member = Member.builder()
+                .memberId(new UUID(0, id))
+                .name("member" + id)
+                .pin("1234")
+                .build();
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+
+    private static List<ScheduleGrid.Cell> cells() {
+        return List.of(new ScheduleGrid.Cell(100L, "월", "09:00", null));
+    }
+}
@@ -0,0 +1,101 @@
+package side.onetime.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import side.onetime.domain.Schedule;
+import side.onetime.global.cache.ScheduleGridCache;
+import side.onetime.util.ScheduleGrid;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleGridCacheTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+
+    private final ScheduleGridCache cache = new ScheduleGridCache(100, Duration.ofMinutes(30));
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final List<Schedule> schedules = new ArrayList<>(List.of(schedule(1L, "10:00"), schedule(2L, "10:30")));
+
+    @Test
+    @DisplayName("그리드 버전이 현재 이벤트 버전과 같으면 다시 적재하지 않는다.")
+    void getCachedGridAtSameVersion() {
+        // when
+        cache.get(EVENT_ID, 3L, loader());
+        ScheduleGrid grid = cache.get(EVENT_ID, 3L, loader());
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(grid.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 이벤트 범위/시간이 수정되어 이벤트 버전이 올라가면 그리드를 다시 적재한다.")
+    void reloadGridWhenEditedOnAnotherInstance() {
+        // given
+        cache.get(EVENT_ID, 3L, loader());
+
+        // when - 다른 인스턴스에서 10:00 스케줄을 지우고 11:00 스케줄을 추가 (이 인스턴스의 무효화는 호출되지 않음)
+        schedules.remove(0);
+        schedules.add(schedule(3L, "11:00"));
+        ScheduleGrid grid = cache.get(EVENT_ID, 4L, loader());
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(grid.resolve("월", List.of("10:00"))).isEmpty();
+        assertThat(grid.resolve("월", List.of("10:30", "11:00")))
+                .extracting(ScheduleGrid.Cell::scheduleId)
+                .containsExactly(2L, 3L);
+        assertThat(cache.get(EVENT_ID, 4L, loader())).isSameAs(grid);
+    }
+
+    @Test
+    @DisplayName("더 새로운 버전의 그리드가 있으면 오래된 버전으로 조회해도 다시 적재하지 않는다.")
+    void useNewerGridForOlderVersion() {
+        // given
+        ScheduleGrid newer = cache.get(EVENT_ID, 5L, loader());
+
+        // when
+        ScheduleGrid older = cache.get(EVENT_ID, 4L, loader());
+        ScheduleGrid current = cache.get(EVENT_ID, 5L, loader());
+
+        // then
+        assertThat(older).isSameAs(newer);
+        assertThat(current).isSameAs(newer);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화된 그리드는 같은 버전이어도 다시 적재한다.")
+    void reloadAfterInvalidate() {
+        // given
+        cache.get(EVENT_ID, 3L, loader());
+
+        // when
+        cache.invalidate(EVENT_ID);
+        cache.get(EVENT_ID, 3L, loader());
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    private Supplier<ScheduleGrid> loader() {
+        return () -> {
+            loadCount.incrementAndGet();
+            return ScheduleGrid.of(List.copyOf(schedules));
+        };
+    }
+
+    private static Schedule schedule(Long id, String time) {
+        Schedule schedule = Schedule.builder().day("월").time(time).build();
+        ReflectionTestUtils.setField(schedule, "id", id);
+        return schedule;
+    }
+}
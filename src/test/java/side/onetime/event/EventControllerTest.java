@@ -14,6 +14,7 @@ import org.springframework.http.MediaType;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import side.onetime.auth.service.CustomUserDetailsService;
 import side.onetime.configuration.ControllerTestConfig;
 import side.onetime.controller.EventController;
@@ -23,6 +24,7 @@ import side.onetime.dto.event.request.CreateEventRequest;
 import side.onetime.dto.event.request.ModifyUserCreatedEventRequest;
 import side.onetime.dto.event.response.*;
 import side.onetime.dto.schedule.request.GetFilteredSchedulesRequest;
+import side.onetime.service.AvailabilityStreamService;
 import side.onetime.service.EventService;
 import side.onetime.util.JwtUtil;
 
@@ -32,11 +34,15 @@ import java.util.UUID;
 
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(EventController.class)
@@ -45,6 +51,9 @@ public class EventControllerTest extends ControllerTestConfig {
     @MockBean
     private EventService eventService;
 
+    @MockBean
+    private AvailabilityStreamService availabilityStreamService;
+
     @MockBean
     private JwtUtil jwtUtil;
 
@@ -125,7 +134,8 @@ public class EventControllerTest extends ControllerTestConfig {
                 "12:00",
                 Category.DATE,
                 List.of("2024.11.13"),
-                EventStatus.CREATOR
+                EventStatus.CREATOR,
+                3L
         );
 
         Mockito.when(eventService.getEvent(eventId.toString(), null))
@@ -149,6 +159,7 @@ public class EventControllerTest extends ControllerTestConfig {
                 .andExpect(jsonPath("$.payload.category").value("DATE"))
                 .andExpect(jsonPath("$.payload.ranges[0]").value("2024.11.13"))
                 .andExpect(jsonPath("$.payload.event_status").value("CREATOR"))
+                .andExpect(jsonPath("$.payload.selection_version").value(3))
 
                 // docs
                 .andDo(MockMvcRestDocumentationWrapper.document("event/get",
@@ -172,7 +183,8 @@ public class EventControllerTest extends ControllerTestConfig {
                                                 fieldWithPath("payload.end_time").type(JsonFieldType.STRING).description("이벤트 종료 시간"),
                                                 fieldWithPath("payload.category").type(JsonFieldType.STRING).description("이벤트 카테고리"),
                                                 fieldWithPath("payload.ranges").type(JsonFieldType.ARRAY).description("이벤트 날짜 또는 요일 범위"),
-                                                fieldWithPath("payload.event_status").type(JsonFieldType.STRING).description("이벤트 상태 (로그인 유저만 반환)")
+                                                fieldWithPath("payload.event_status").type(JsonFieldType.STRING).description("이벤트 상태 (로그인 유저만 반환)"),
+                                                fieldWithPath("payload.selection_version").type(JsonFieldType.NUMBER).description("이벤트 선택 정보 버전 (참여자 선택이 바뀔 때마다 증가)")
                                         )
                                         .responseSchema(Schema.schema("GetEventResponseSchema"))
                                         .build()
@@ -259,10 +271,11 @@ public class EventControllerTest extends ControllerTestConfig {
                 new GetMostPossibleTime("2024.11.13", "11:00", "11:30", 4, List.of("User1", "User3"), List.of("User2"))
         );
 
-        Mockito.when(eventService.getMostPossibleTime(anyString())).thenReturn(response);
+        Mockito.when(eventService.getMostPossibleTime(anyString(), anyInt())).thenReturn(response);
 
         // when
         ResultActions resultActions = this.mockMvc.perform(RestDocumentationRequestBuilders.get("/api/v1/events/{event_id}/most", eventId)
+                .param("limit", "2")
                 .accept(MediaType.APPLICATION_JSON));
 
         // then
@@ -290,6 +303,9 @@ public class EventControllerTest extends ControllerTestConfig {
                                         .pathParameters(
                                                 parameterWithName("event_id").description("조회할 이벤트의 ID [예시 : dd099816-2b09-4625-bf95-319672c25659]")
                                         )
+                                        .queryParameters(
+                                                parameterWithName("limit").description("조회할 최대 시간대 개수 (기본값: 10)").optional()
+                                        )
                                         .responseFields(
                                                 fieldWithPath("is_success").type(JsonFieldType.BOOLEAN).description("성공 여부"),
                                                 fieldWithPath("code").type(JsonFieldType.STRING).description("응답 코드"),
@@ -308,6 +324,106 @@ public class EventControllerTest extends ControllerTestConfig {
                 ));
     }
 
+    @Test
+    @DisplayName("이벤트 히트맵을 조회한다.")
+    public void getHeatmap() throws Exception {
+        // given
+        String eventId = UUID.randomUUID().toString();
+        GetHeatmapResponse response = GetHeatmapResponse.of(
+                Category.DATE,
+                3,
+                List.of("User1", "User2", "Member1"),
+                List.of(
+                        HeatmapSlot.of("2024.11.13", "10:00", 3, List.of(0, 1, 2)),
+                        HeatmapSlot.of("2024.11.13", "10:30", 1, List.of(2))
+                )
+        );
+
+        Mockito.when(eventService.getHeatmap(anyString(), anyBoolean())).thenReturn(response);
+
+        // when
+        ResultActions resultActions = this.mockMvc.perform(RestDocumentationRequestBuilders.get("/api/v1/events/{event_id}/heatmap", eventId)
+                .param("include_participants", "true")
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.is_success").value(true))
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.message").value("이벤트 히트맵 조회에 성공했습니다."))
+                .andExpect(jsonPath("$.payload.participant_count").value(3))
+                .andExpect(jsonPath("$.payload.slots[0].possible_count").value(3))
+                .andExpect(jsonPath("$.payload.slots[1].participant_indexes[0]").value(2))
+
+                // docs
+                .andDo(MockMvcRestDocumentationWrapper.document("event/get-heatmap",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        resource(
+                                ResourceSnippetParameters.builder()
+                                        .tag("Event API")
+                                        .description("이벤트 히트맵을 조회한다.")
+                                        .pathParameters(
+                                                parameterWithName("event_id").description("조회할 이벤트의 ID [예시 : dd099816-2b09-4625-bf95-319672c25659]")
+                                        )
+                                        .queryParameters(
+                                                parameterWithName("include_participants").description("슬롯별 가능 참여자 인덱스 포함 여부 (기본값: false)").optional()
+                                        )
+                                        .responseFields(
+                                                fieldWithPath("is_success").type(JsonFieldType.BOOLEAN).description("성공 여부"),
+                                                fieldWithPath("code").type(JsonFieldType.STRING).description("응답 코드"),
+                                                fieldWithPath("message").type(JsonFieldType.STRING).description("응답 메시지"),
+                                                fieldWithPath("payload").type(JsonFieldType.OBJECT).description("응답 데이터"),
+                                                fieldWithPath("payload.category").type(JsonFieldType.STRING).description("이벤트 카테고리"),
+                                                fieldWithPath("payload.participant_count").type(JsonFieldType.NUMBER).description("전체 참여자 수"),
+                                                fieldWithPath("payload.participant_names").type(JsonFieldType.ARRAY).description("참여자 인덱스 순서의 이름 목록 (include_participants=true인 경우)").optional(),
+                                                fieldWithPath("payload.slots").type(JsonFieldType.ARRAY).description("슬롯별 가능 인원 목록"),
+                                                fieldWithPath("payload.slots[].time_point").type(JsonFieldType.STRING).description("날짜 또는 요일"),
+                                                fieldWithPath("payload.slots[].time").type(JsonFieldType.STRING).description("시작 시간"),
+                                                fieldWithPath("payload.slots[].possible_count").type(JsonFieldType.NUMBER).description("가능한 참여자 수"),
+                                                fieldWithPath("payload.slots[].participant_indexes").type(JsonFieldType.ARRAY).description("가능한 참여자 인덱스 목록 (include_participants=true인 경우)").optional()
+                                        )
+                                        .responseSchema(Schema.schema("GetHeatmapResponseSchema"))
+                                        .build()
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("이벤트 가용성 변경을 SSE로 구독한다.")
+    public void streamAvailability() throws Exception {
+        // given
+        String eventId = UUID.randomUUID().toString();
+        Mockito.when(availabilityStreamService.subscribe(anyString()))
+                .thenReturn(new SseEmitter());
+
+        // when
+        ResultActions resultActions = this.mockMvc.perform(RestDocumentationRequestBuilders.get("/api/v1/events/{event_id}/stream", eventId)
+                .accept(MediaType.TEXT_EVENT_STREAM));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("X-Accel-Buffering", "no"))
+
+                // docs
+                .andDo(MockMvcRestDocumentationWrapper.document("event/stream-availability",
+                        preprocessRequest(prettyPrint()),
+                        resource(
+                                ResourceSnippetParameters.builder()
+                                        .tag("Event API")
+                                        .description("이벤트 가용성 변경을 SSE(text/event-stream)로 구독한다. "
+                                                + "availability 이벤트의 데이터는 {type: SELECTION|RESET, event_id, member|user: {id, name}, schedules: [{time_point, times}]} 형식이다.")
+                                        .pathParameters(
+                                                parameterWithName("event_id").description("구독할 이벤트의 ID [예시 : dd099816-2b09-4625-bf95-319672c25659]")
+                                        )
+                                        .build()
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("필터링한 참여자들의 가장 많이 되는 시간을 조회한다.")
     public void getFilteredMostPossibleTimes() throws Exception {
@@ -324,7 +440,7 @@ public class EventControllerTest extends ControllerTestConfig {
                 new GetMostPossibleTime("2025.07.13", "11:00", "11:30", 3, List.of("User1", "User2", "Member3"), Collections.emptyList())
         );
 
-        Mockito.when(eventService.getFilteredMostPossibleTimes(anyString(), any(GetFilteredSchedulesRequest.class))).thenReturn(response);
+        Mockito.when(eventService.getFilteredMostPossibleTimes(anyString(), any(GetFilteredSchedulesRequest.class), anyInt())).thenReturn(response);
 
         // when
         String requestContent = new ObjectMapper().writeValueAsString(request);
@@ -449,6 +565,92 @@ public class EventControllerTest extends ControllerTestConfig {
                 ));
     }
 
+    @Test
+    @DisplayName("유저 참여 이벤트 목록을 커서 기반 페이지로 조회한다.")
+    public void getUserParticipatedEventsPage() throws Exception {
+        // given
+        UUID cursor = UUID.randomUUID();
+        UUID nextCursor = UUID.randomUUID();
+        GetUserParticipatedEventsPageResponse response = GetUserParticipatedEventsPageResponse.of(
+                List.of(
+                        new GetUserParticipatedEventsResponse(
+                                nextCursor,
+                                Category.DATE,
+                                "Sample Event",
+                                "2024.11.13",
+                                10,
+                                EventStatus.PARTICIPANT,
+                                List.of(
+                                        new GetMostPossibleTime("2024.11.13", "10:00", "10:30", 5, List.of("User1", "User2"), List.of("User3"))
+                                )
+                        )
+                ),
+                CursorPageInfo.of(1, true, nextCursor)
+        );
+
+        Mockito.when(eventService.getUserParticipatedEventsPage(anyString(), anyInt(), anyInt())).thenReturn(response);
+
+        // when
+        ResultActions resultActions = this.mockMvc.perform(RestDocumentationRequestBuilders.get("/api/v1/events/user/all/page")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer sampleToken")
+                .param("cursor", cursor.toString())
+                .param("size", "1")
+                .param("limit", "3")
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.is_success").value(true))
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.message").value("유저 참여 이벤트 페이지 조회에 성공했습니다."))
+                .andExpect(jsonPath("$.payload.events[0].title").value("Sample Event"))
+                .andExpect(jsonPath("$.payload.page_info.has_next").value(true))
+                .andExpect(jsonPath("$.payload.page_info.next_cursor").value(nextCursor.toString()))
+
+                // docs
+                .andDo(MockMvcRestDocumentationWrapper.document("event/get-user-participated-events-page",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        resource(
+                                ResourceSnippetParameters.builder()
+                                        .tag("Event API")
+                                        .description("유저가 참여한 이벤트 목록을 커서 기반 페이지로 조회한다.")
+                                        .queryParameters(
+                                                parameterWithName("cursor").description("이전 페이지의 마지막 이벤트 ID (첫 페이지는 생략)").optional(),
+                                                parameterWithName("size").description("페이지 크기 (기본값: 20, 최대: 100)").optional(),
+                                                parameterWithName("limit").description("이벤트별로 조회할 최대 시간대 개수 (기본값: 10)").optional()
+                                        )
+                                        .responseFields(
+                                                fieldWithPath("is_success").type(JsonFieldType.BOOLEAN).description("성공 여부"),
+                                                fieldWithPath("code").type(JsonFieldType.STRING).description("응답 코드"),
+                                                fieldWithPath("message").type(JsonFieldType.STRING).description("응답 메시지"),
+                                                fieldWithPath("payload").type(JsonFieldType.OBJECT).description("응답 데이터"),
+                                                fieldWithPath("payload.events").type(JsonFieldType.ARRAY).description("참여 이벤트 목록"),
+                                                fieldWithPath("payload.events[].event_id").type(JsonFieldType.STRING).description("이벤트 ID"),
+                                                fieldWithPath("payload.events[].category").type(JsonFieldType.STRING).description("이벤트 카테고리"),
+                                                fieldWithPath("payload.events[].title").type(JsonFieldType.STRING).description("이벤트 제목"),
+                                                fieldWithPath("payload.events[].created_date").type(JsonFieldType.STRING).description("이벤트 생성일"),
+                                                fieldWithPath("payload.events[].participant_count").type(JsonFieldType.NUMBER).description("참여자 수"),
+                                                fieldWithPath("payload.events[].event_status").type(JsonFieldType.STRING).description("이벤트 참여 상태"),
+                                                fieldWithPath("payload.events[].most_possible_times").type(JsonFieldType.ARRAY).description("가장 많이 가능한 시간대"),
+                                                fieldWithPath("payload.events[].most_possible_times[].time_point").type(JsonFieldType.STRING).description("날짜 또는 요일"),
+                                                fieldWithPath("payload.events[].most_possible_times[].start_time").type(JsonFieldType.STRING).description("시작 시간"),
+                                                fieldWithPath("payload.events[].most_possible_times[].end_time").type(JsonFieldType.STRING).description("종료 시간"),
+                                                fieldWithPath("payload.events[].most_possible_times[].possible_count").type(JsonFieldType.NUMBER).description("가능한 참여자 수"),
+                                                fieldWithPath("payload.events[].most_possible_times[].possible_names").type(JsonFieldType.ARRAY).description("참여 가능한 유저 이름 목록"),
+                                                fieldWithPath("payload.events[].most_possible_times[].impossible_names").type(JsonFieldType.ARRAY).description("참여 불가능한 유저 이름 목록"),
+                                                fieldWithPath("payload.page_info").type(JsonFieldType.OBJECT).description("페이지 정보"),
+                                                fieldWithPath("payload.page_info.size").type(JsonFieldType.NUMBER).description("페이지 크기"),
+                                                fieldWithPath("payload.page_info.has_next").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부"),
+                                                fieldWithPath("payload.page_info.next_cursor").type(JsonFieldType.STRING).description("다음 페이지 조회에 사용할 커서").optional()
+                                        )
+                                        .responseSchema(Schema.schema("GetUserParticipatedEventsPageResponseSchema"))
+                                        .build()
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("유저가 생성한 이벤트를 삭제한다.")
     public void removeUserCreatedEvent() throws Exception {
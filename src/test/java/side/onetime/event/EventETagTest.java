@@ -0,0 +1,231 @@
+package side.onetime.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import side.onetime.auth.service.CustomUserDetailsService;
+import side.onetime.configuration.ControllerTestConfig;
+import side.onetime.controller.EventController;
+import side.onetime.dto.event.response.GetMostPossibleTime;
+import side.onetime.global.cache.SerializedResponseCache;
+import side.onetime.global.etag.aop.EventETagAop;
+import side.onetime.repository.EventRepository;
+import side.onetime.service.AvailabilityStreamService;
+import side.onetime.service.EventService;
+import side.onetime.service.SelectionWriter;
+import side.onetime.util.JwtUtil;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EventController.class)
+@Import({EventETagAop.class, SerializedResponseCache.class, EventETagTest.AopConfig.class})
+public class EventETagTest extends ControllerTestConfig {
+
+    private static final String MOST_URL = "/api/v1/events/{event_id}/most";
+
+    @TestConfiguration
+    @EnableAspectJAutoProxy
+    static class AopConfig {
+    }
+
+    @MockBean
+    private EventService eventService;
+
+    @MockBean
+    private AvailabilityStreamService availabilityStreamService;
+
+    @MockBean
+    private EventRepository eventRepository;
+
+    @MockBean
+    private SelectionWriter selectionWriter;
+
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private CustomUserDetailsService customUserDetailsService;
+
+    // 직렬화된 응답 캐시가 테스트 간에 공유되므로 테스트마다 다른 이벤트를 사용
+    private final String eventId = UUID.randomUUID().toString();
+    private final AtomicLong version = new AtomicLong(3);
+
+    @BeforeEach
+    void setUpVersion() {
+        when(eventRepository.findSelectionVersionByEventId(any(UUID.class)))
+                .thenAnswer(invocation -> Optional.of(version.get()));
+        when(eventService.getMostPossibleTime(anyString(), anyInt())).thenReturn(mostPossibleTimes(2));
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 이벤트 버전의 ETag와 같으면 서비스 호출 없이 304를 응답한다.")
+    public void notModifiedWhenETagMatches() throws Exception {
+        // given
+        MvcResult first = mockMvc.perform(get(MOST_URL, eventId).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andReturn();
+
+        // when & then
+        mockMvc.perform(get(MOST_URL, eventId)
+                        .header(HttpHeaders.IF_NONE_MATCH, first.getResponse().getHeader(HttpHeaders.ETAG))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(content().bytes(new byte[0]));
+        verify(eventService, times(1)).getMostPossibleTime(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("같은 이벤트 버전이면 직렬화된 응답을 재사용하고, 버전이 바뀌면 새 응답과 ETag로 응답한다.")
+    public void reuseSerializedResponseUntilVersionChanges() throws Exception {
+        // given
+        byte[] first = mockMvc.perform(get(MOST_URL, eventId).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // when
+        byte[] cached = mockMvc.perform(get(MOST_URL, eventId).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        version.incrementAndGet();
+        when(eventService.getMostPossibleTime(anyString(), anyInt())).thenReturn(mostPossibleTimes(1));
+        byte[] changed = mockMvc.perform(get(MOST_URL, eventId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        assertThat(cached).isEqualTo(first);
+        assertThat(changed).isNotEqualTo(first);
+        verify(eventService, times(2)).getMostPossibleTime(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("저장 대기 중인 선택 정보가 있으면 먼저 저장하여, 이전 버전의 ETag로 304 응답하지 않는다.")
+    public void flushPendingSelectionsBeforeETag() throws Exception {
+        // given
+        mockMvc.perform(get(MOST_URL, eventId).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+        // 쓰기 지연 모드에서 방금 제출한 선택 정보가 저장되면 버전이 올라감
+        doAnswer(invocation -> version.incrementAndGet()).when(selectionWriter).flushEvent(UUID.fromString(eventId));
+
+        // when & then
+        mockMvc.perform(get(MOST_URL, eventId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+        InOrder order = inOrder(selectionWriter, eventRepository);
+        order.verify(selectionWriter).flushEvent(UUID.fromString(eventId));
+        order.verify(eventRepository).findSelectionVersionByEventId(UUID.fromString(eventId));
+        verify(eventService, times(2)).getMostPossibleTime(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("응답을 만드는 동안 저장 대기 선택 정보가 생기면 응답을 캐시하지 않는다.")
+    public void skipCachingWhilePendingSelections() throws Exception {
+        // given
+        when(selectionWriter.hasPending(UUID.fromString(eventId))).thenReturn(true, false);
+        mockMvc.perform(get(MOST_URL, eventId).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+
+        // when
+        mockMvc.perform(get(MOST_URL, eventId).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+        mockMvc.perform(get(MOST_URL, eventId).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        // then
+        verify(eventService, times(2)).getMostPossibleTime(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("gzip을 허용하면 압축된 응답을 약한 ETag와 Content-Encoding, Vary 헤더와 함께 응답한다.")
+    public void gzipResponseWhenAccepted() throws Exception {
+        // given
+        when(eventService.getMostPossibleTime(anyString(), anyInt())).thenReturn(mostPossibleTimes(50));
+        byte[] plain = mockMvc.perform(get(MOST_URL, eventId).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem("Accept-Encoding")))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // when
+        MvcResult gzipped = mockMvc.perform(get(MOST_URL, eventId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"3\""))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem("Accept-Encoding")))
+                .andReturn();
+
+        // then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getResponse().getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain);
+        }
+        verify(eventService, times(1)).getMostPossibleTime(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("gzip을 q=0으로 거부하면 압축하지 않은 응답을 강한 ETag로 응답한다.")
+    public void plainResponseWhenGzipRefused() throws Exception {
+        // given
+        when(eventService.getMostPossibleTime(anyString(), anyInt())).thenReturn(mostPossibleTimes(50));
+
+        // when & then
+        mockMvc.perform(get(MOST_URL, eventId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    }
+
+    private static List<GetMostPossibleTime> mostPossibleTimes(int count) {
+        List<GetMostPossibleTime> times = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            times.add(new GetMostPossibleTime("2024.11.13", "10:00", "10:30", 2,
+                    List.of("User" + i, "Member" + i), List.of("Absent" + i)));
+        }
+        return times;
+    }
+}
@@ -0,0 +1,216 @@
+package side.onetime.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import side.onetime.exception.CustomException;
+import side.onetime.exception.status.IdempotencyErrorStatus;
+import side.onetime.global.idempotency.annotation.Idempotent;
+import side.onetime.global.idempotency.aop.IdempotencyAop;
+import side.onetime.repository.IdempotencyKeyRepository;
+import side.onetime.util.JwtUtil;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotencyAopTest {
+
+    private static final String IDEMPOTENCY_KEY = "retry-key";
+
+    private final Map<String, String> store = new ConcurrentHashMap<>();
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+    private JwtUtil jwtUtil;
+    private SampleController target;
+    private SampleController controller;
+
+    public record SampleRequest(String eventId, String memberId) {
+    }
+
+    public record SampleResponse(String value) {
+    }
+
+    public static class SampleController {
+        private final AtomicInteger invocations = new AtomicInteger();
+        private Runnable onInvoke = () -> {
+        };
+
+        @Idempotent(prefix = "sample", scope = "#request.eventId()")
+        public ResponseEntity<SampleResponse> create(@RequestBody SampleRequest request, String authorizationHeader) {
+            int invocation = invocations.incrementAndGet();
+            onInvoke.run();
+            return ResponseEntity.status(HttpStatus.CREATED).body(new SampleResponse(request.memberId() + "-" + invocation));
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        idempotencyKeyRepository = Mockito.mock(IdempotencyKeyRepository.class);
+        when(idempotencyKeyRepository.reserve(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> store.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        when(idempotencyKeyRepository.find(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(store.get(invocation.<String>getArgument(0))));
+        Mockito.doAnswer(invocation -> store.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(idempotencyKeyRepository).save(anyString(), anyString(), any(Duration.class));
+        Mockito.doAnswer(invocation -> store.remove(invocation.<String>getArgument(0)))
+                .when(idempotencyKeyRepository).delete(anyString());
+
+        jwtUtil = Mockito.mock(JwtUtil.class);
+        when(jwtUtil.getTokenFromHeader(anyString())).thenAnswer(invocation -> invocation.<String>getArgument(0).substring(7));
+        when(jwtUtil.getClaimFromToken("old-token", "userId", Long.class)).thenReturn(1L);
+        when(jwtUtil.getClaimFromToken("new-token", "userId", Long.class)).thenReturn(1L);
+        when(jwtUtil.getClaimFromToken("other-token", "userId", Long.class)).thenReturn(2L);
+
+        target = new SampleController();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new IdempotencyAop(idempotencyKeyRepository, new ObjectMapper(), jwtUtil,
+                Duration.ofHours(24), Duration.ofSeconds(30)));
+        controller = proxyFactory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 다시 요청하면 처리하지 않고 처음 응답을 재사용한다.")
+    void replayStoredResponse() {
+        // given
+        bindRequest(null);
+        controller.create(new SampleRequest("event", "member"), null);
+
+        // when
+        ResponseEntity<SampleResponse> replayed = controller.create(new SampleRequest("event", "member"), null);
+
+        // then
+        assertThat(target.invocations.get()).isEqualTo(1);
+        assertThat(replayed.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(replayed.getHeaders().getFirst(IdempotencyAop.IDEMPOTENT_REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키의 요청이 처리 중이면 충돌(409)로 응답한다.")
+    void conflictWhileInProgress() {
+        // given
+        bindRequest(null);
+        AtomicReference<CustomException> nested = new AtomicReference<>();
+        target.onInvoke = () -> {
+            target.onInvoke = () -> {
+            };
+            try {
+                controller.create(new SampleRequest("event", "member"), null);
+            } catch (CustomException e) {
+                nested.set(e);
+            }
+        };
+
+        // when
+        controller.create(new SampleRequest("event", "member"), null);
+
+        // then
+        assertThat(nested.get()).isNotNull();
+        assertThat(nested.get().getErrorCode()).isEqualTo(IdempotencyErrorStatus._IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        assertThat(target.invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키를 다른 요청 본문에 사용하면 거절(422)한다.")
+    void rejectReusedKeyWithDifferentBody() {
+        // given
+        bindRequest(null);
+        controller.create(new SampleRequest("event", "member"), null);
+
+        // when & then
+        assertThatThrownBy(() -> controller.create(new SampleRequest("event", "other-member"), null))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(IdempotencyErrorStatus._IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    @DisplayName("재시도 전에 토큰이 재발급되어도 같은 유저의 같은 요청이면 처음 응답을 재사용한다.")
+    void replayAfterTokenRefresh() {
+        // given
+        bindRequest("Bearer old-token");
+        controller.create(new SampleRequest("event", "member"), "Bearer old-token");
+
+        // when
+        bindRequest("Bearer new-token");
+        ResponseEntity<SampleResponse> replayed = controller.create(new SampleRequest("event", "member"), "Bearer new-token");
+
+        // then
+        assertThat(target.invocations.get()).isEqualTo(1);
+        assertThat(replayed.getHeaders().getFirst(IdempotencyAop.IDEMPOTENT_REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("다른 유저가 같은 멱등 키를 사용해도 서로 영향을 주지 않는다.")
+    void scopeKeyByPrincipal() {
+        // given
+        bindRequest("Bearer old-token");
+        controller.create(new SampleRequest("event", "member"), "Bearer old-token");
+
+        // when
+        bindRequest("Bearer other-token");
+        ResponseEntity<SampleResponse> response = controller.create(new SampleRequest("event", "other-member"), "Bearer other-token");
+
+        // then
+        assertThat(target.invocations.get()).isEqualTo(2);
+        assertThat(response.getHeaders().containsKey(IdempotencyAop.IDEMPOTENT_REPLAYED_HEADER)).isFalse();
+    }
+
+    @Test
+    @DisplayName("처리에 실패하면 멱등 키를 삭제하여 같은 키로 다시 시도할 수 있다.")
+    void releaseKeyOnFailure() {
+        // given
+        bindRequest(null);
+        target.onInvoke = () -> {
+            throw new IllegalStateException("failed");
+        };
+        assertThatThrownBy(() -> controller.create(new SampleRequest("event", "member"), null))
+                .isInstanceOf(IllegalStateException.class);
+
+        // when
+        target.onInvoke = () -> {
+        };
+        ResponseEntity<SampleResponse> retried = controller.create(new SampleRequest("event", "member"), null);
+
+        // then
+        verify(idempotencyKeyRepository, atLeastOnce()).delete(anyString());
+        assertThat(target.invocations.get()).isEqualTo(2);
+        assertThat(retried.getHeaders().containsKey(IdempotencyAop.IDEMPOTENT_REPLAYED_HEADER)).isFalse();
+    }
+
+    private static void bindRequest(String authorizationHeader) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(IdempotencyAop.IDEMPOTENCY_KEY_HEADER, IDEMPOTENCY_KEY);
+        if (authorizationHeader != null) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, authorizationHeader);
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
@@ -14,9 +14,13 @@ import org.springframework.test.web.servlet.ResultActions;
 import side.onetime.auth.service.CustomUserDetailsService;
 import side.onetime.configuration.ControllerTestConfig;
 import side.onetime.controller.MemberController;
+import side.onetime.dto.member.request.BulkRegisterMemberItem;
+import side.onetime.dto.member.request.BulkRegisterMembersRequest;
 import side.onetime.dto.member.request.IsDuplicateRequest;
 import side.onetime.dto.member.request.LoginMemberRequest;
 import side.onetime.dto.member.request.RegisterMemberRequest;
+import side.onetime.dto.member.response.BulkRegisterMemberResult;
+import side.onetime.dto.member.response.BulkRegisterMembersResponse;
 import side.onetime.dto.member.response.IsDuplicateResponse;
 import side.onetime.dto.member.response.LoginMemberResponse;
 import side.onetime.dto.member.response.RegisterMemberResponse;
@@ -102,6 +106,79 @@ public class MemberControllerTest extends ControllerTestConfig {
                 ));
     }
 
+    @Test
+    @DisplayName("멤버를 일괄 등록한다.")
+    public void registerMembers() throws Exception {
+        // given
+        String accessToken = "Bearer temp.jwt.access.token";
+        BulkRegisterMembersRequest request = new BulkRegisterMembersRequest(
+                "123e4567-e89b-12d3-a456-426614174000",
+                List.of(
+                        new BulkRegisterMemberItem("member1", "1234",
+                                List.of(new ScheduleResponse("2024.12.01", List.of("09:00", "09:30")))),
+                        new BulkRegisterMemberItem("member1", "5678",
+                                List.of(new ScheduleResponse("2024.12.02", List.of("10:00"))))
+                )
+        );
+        BulkRegisterMembersResponse response = new BulkRegisterMembersResponse("DATE", 1, 1, List.of(
+                new BulkRegisterMemberResult(0, "member1", true, "789e0123-e45b-67c8-d901-234567890abc", null, null),
+                new BulkRegisterMemberResult(1, "member1", false, null, "MEMBER-002", "이미 존재하는 이름입니다.")
+        ));
+
+        Mockito.when(memberService.registerMembers(any(BulkRegisterMembersRequest.class))).thenReturn(response);
+
+        // when
+        ResultActions result = mockMvc.perform(
+                RestDocumentationRequestBuilders.post("/api/v1/members/action-bulk-register")
+                        .header("Authorization", accessToken)
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.is_success").value(true))
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.message").value("멤버 일괄 등록에 성공했습니다."))
+                .andExpect(jsonPath("$.payload.registered_count").value(1))
+                .andExpect(jsonPath("$.payload.results[1].is_success").value(false))
+                .andDo(MockMvcRestDocumentationWrapper.document("member/bulk-register",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        resource(
+                                ResourceSnippetParameters.builder()
+                                        .tag("Member API")
+                                        .description("멤버를 일괄 등록한다.")
+                                        .requestFields(
+                                                fieldWithPath("event_id").type(JsonFieldType.STRING).description("이벤트 ID"),
+                                                fieldWithPath("members").type(JsonFieldType.ARRAY).description("등록할 멤버 목록"),
+                                                fieldWithPath("members[].name").type(JsonFieldType.STRING).description("멤버 이름"),
+                                                fieldWithPath("members[].pin").type(JsonFieldType.STRING).description("멤버 PIN"),
+                                                fieldWithPath("members[].schedules").type(JsonFieldType.ARRAY).description("스케줄 목록"),
+                                                fieldWithPath("members[].schedules[].time_point").type(JsonFieldType.STRING).description("스케줄 날짜"),
+                                                fieldWithPath("members[].schedules[].times").type(JsonFieldType.ARRAY).description("시간 목록")
+                                        )
+                                        .responseFields(
+                                                fieldWithPath("is_success").type(JsonFieldType.BOOLEAN).description("성공 여부"),
+                                                fieldWithPath("code").type(JsonFieldType.STRING).description("HTTP 상태 코드"),
+                                                fieldWithPath("message").type(JsonFieldType.STRING).description("응답 메시지"),
+                                                fieldWithPath("payload.category").type(JsonFieldType.STRING).description("이벤트 카테고리"),
+                                                fieldWithPath("payload.registered_count").type(JsonFieldType.NUMBER).description("등록된 멤버 수"),
+                                                fieldWithPath("payload.failed_count").type(JsonFieldType.NUMBER).description("등록에 실패한 항목 수"),
+                                                fieldWithPath("payload.results").type(JsonFieldType.ARRAY).description("항목별 등록 결과"),
+                                                fieldWithPath("payload.results[].index").type(JsonFieldType.NUMBER).description("요청 멤버 목록의 항목 순서"),
+                                                fieldWithPath("payload.results[].name").type(JsonFieldType.STRING).description("멤버 이름"),
+                                                fieldWithPath("payload.results[].is_success").type(JsonFieldType.BOOLEAN).description("항목 등록 성공 여부"),
+                                                fieldWithPath("payload.results[].member_id").type(JsonFieldType.STRING).description("등록된 멤버 ID (성공 시)").optional(),
+                                                fieldWithPath("payload.results[].code").type(JsonFieldType.STRING).description("실패 코드 (실패 시)").optional(),
+                                                fieldWithPath("payload.results[].message").type(JsonFieldType.STRING).description("실패 메시지 (실패 시)").optional()
+                                        )
+                                        .build()
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("멤버 로그인을 진행한다.")
     public void loginMember() throws Exception {
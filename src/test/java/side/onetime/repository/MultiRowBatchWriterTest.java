@@ -0,0 +1,159 @@
+package side.onetime.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+class MultiRowBatchWriterTest {
+
+    private static final List<String> COLUMNS = List.of("member_id", "schedules_id");
+
+    private final List<ExecutedStatement> statements = new ArrayList<>();
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 실행된 문장과 바인딩된 파라미터.
+     */
+    private record ExecutedStatement(String sql, Map<Integer, Long> parameters) {
+        int rowCount(int columnCount) {
+            return parameters.size() / columnCount;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+            Map<Integer, Long> parameters = new TreeMap<>();
+            PreparedStatement ps = Mockito.mock(PreparedStatement.class);
+            doAnswer(set -> parameters.put(set.getArgument(0), set.getArgument(1)))
+                    .when(ps).setLong(anyInt(), anyLong());
+            invocation.<PreparedStatementSetter>getArgument(1).setValues(ps);
+            ExecutedStatement statement = new ExecutedStatement(invocation.getArgument(0), parameters);
+            statements.add(statement);
+            // 바인딩된 행 수만큼 반영된 것으로 응답
+            return statement.sql().startsWith("DELETE") ? parameters.size() : statement.rowCount(COLUMNS.size());
+        });
+    }
+
+    @Test
+    @DisplayName("청크 크기와 같은 수의 행은 한 문장으로 저장한다.")
+    void insertExactlyChunkSizeRows() {
+        // given
+        MultiRowBatchWriter writer = new MultiRowBatchWriter(jdbcTemplate, 3);
+
+        // when
+        int inserted = writer.insert("selections", COLUMNS, 3, this::bindRow);
+
+        // then
+        assertThat(inserted).isEqualTo(3);
+        assertThat(statements).hasSize(1);
+        assertThat(statements.get(0).sql())
+                .isEqualTo("INSERT INTO selections (member_id, schedules_id) VALUES (?, ?),(?, ?),(?, ?)");
+        assertThat(statements.get(0).parameters())
+                .containsExactly(Map.entry(1, 0L), Map.entry(2, 0L), Map.entry(3, 1L), Map.entry(4, 10L),
+                        Map.entry(5, 2L), Map.entry(6, 20L));
+    }
+
+    @Test
+    @DisplayName("청크 크기보다 한 행 많으면 나머지 한 행을 별도 문장으로 저장한다.")
+    void insertChunkSizePlusOneRows() {
+        // given
+        MultiRowBatchWriter writer = new MultiRowBatchWriter(jdbcTemplate, 3);
+
+        // when
+        int inserted = writer.insert("selections", COLUMNS, 4, this::bindRow);
+
+        // then
+        assertThat(inserted).isEqualTo(4);
+        assertThat(statements).hasSize(2);
+        assertThat(statements.get(0).rowCount(COLUMNS.size())).isEqualTo(3);
+        assertThat(statements.get(1).sql())
+                .isEqualTo("INSERT INTO selections (member_id, schedules_id) VALUES (?, ?)");
+        assertThat(statements.get(1).parameters()).containsExactly(Map.entry(1, 3L), Map.entry(2, 30L));
+    }
+
+    @Test
+    @DisplayName("한 문장의 파라미터 수가 65,535개를 넘지 않도록 청크당 행 수를 제한한다.")
+    void capRowsPerStatementByParameterLimit() {
+        // given
+        MultiRowBatchWriter writer = new MultiRowBatchWriter(jdbcTemplate, 100_000);
+        int rowsPerStatement = 65_535 / COLUMNS.size();
+
+        // when
+        int inserted = writer.insert("selections", COLUMNS, rowsPerStatement + 1, this::bindRow);
+
+        // then
+        assertThat(inserted).isEqualTo(rowsPerStatement + 1);
+        assertThat(statements).hasSize(2);
+        assertThat(statements.get(0).parameters()).hasSize(rowsPerStatement * COLUMNS.size());
+        assertThat(statements.get(0).parameters().size()).isLessThanOrEqualTo(65_535);
+        assertThat(statements.get(1).parameters())
+                .containsExactly(Map.entry(1, (long) rowsPerStatement), Map.entry(2, rowsPerStatement * 10L));
+    }
+
+    @Test
+    @DisplayName("ID 목록은 청크 단위의 IN 조건 DELETE 문으로 삭제한다.")
+    void deleteByIdsInChunks() {
+        // given
+        MultiRowBatchWriter writer = new MultiRowBatchWriter(jdbcTemplate, 2);
+
+        // when
+        int deleted = writer.deleteByIds("selections", "selections_id", new long[]{5L, 6L, 7L});
+
+        // then
+        assertThat(deleted).isEqualTo(3);
+        assertThat(statements).extracting(ExecutedStatement::sql).containsExactly(
+                "DELETE FROM selections WHERE selections_id IN (?, ?)",
+                "DELETE FROM selections WHERE selections_id IN (?)");
+        assertThat(statements.get(0).parameters()).containsExactly(Map.entry(1, 5L), Map.entry(2, 6L));
+        assertThat(statements.get(1).parameters()).containsExactly(Map.entry(1, 7L));
+    }
+
+    @Test
+    @DisplayName("저장할 행이 없으면 문장을 실행하지 않는다.")
+    void skipEmptyInput() {
+        // given
+        MultiRowBatchWriter writer = new MultiRowBatchWriter(jdbcTemplate, 3);
+
+        // when
+        int inserted = writer.insert("selections", COLUMNS, 0, this::bindRow);
+        int deleted = writer.deleteByIds("selections", "selections_id", new long[0]);
+
+        // then
+        assertThat(inserted).isZero();
+        assertThat(deleted).isZero();
+        assertThat(statements).isEmpty();
+    }
+
+    @Test
+    @DisplayName("청크 크기가 1보다 작으면 생성할 수 없다.")
+    void rejectNonPositiveChunkSize() {
+        assertThatThrownBy(() -> new MultiRowBatchWriter(jdbcTemplate, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void bindRow(PreparedStatement ps, int index, int row) throws SQLException {
+        ps.setLong(index, row);
+        ps.setLong(index + 1, row * 10L);
+    }
+}
@@ -0,0 +1,88 @@
+package side.onetime.schedule;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import side.onetime.repository.EventRepository;
+import side.onetime.repository.ScheduleChangeLogRepository;
+import side.onetime.service.ScheduleChangeLogService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScheduleChangeLogServiceTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+
+    private ScheduleChangeLogRepository scheduleChangeLogRepository;
+    private ScheduleChangeLogService scheduleChangeLogService;
+
+    @BeforeEach
+    void setUp() {
+        scheduleChangeLogRepository = Mockito.mock(ScheduleChangeLogRepository.class);
+        scheduleChangeLogService = new ScheduleChangeLogService(scheduleChangeLogRepository,
+                Mockito.mock(EventRepository.class), 1000, Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("기록과 기록 삭제가 모두 실패해 현재 버전이 기록에 없으면, 남은 기록으로 변경분을 응답하지 않는다.")
+    void ignoreChangeLogMissingFailedRecord() {
+        // given - 버전 5까지 기록된 뒤 Redis 장애로 버전 6의 기록과 기록 삭제가 모두 실패
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(scheduleChangeLogRepository).record(eq(EVENT_ID), eq(6L), anyCollection(), anyInt(), any(Duration.class));
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(scheduleChangeLogRepository).delete(EVENT_ID);
+        scheduleChangeLogService.record(EVENT_ID, 6L, List.of(10L), List.of());
+
+        // Redis 복구 후 버전 6의 변경이 빠진 기록이 남아 있음
+        when(scheduleChangeLogRepository.findChangedSince(EVENT_ID, 4L))
+                .thenReturn(Optional.of(new ScheduleChangeLogRepository.ChangeLog(5L, Set.of("m:20"))));
+
+        // when
+        Optional<ScheduleChangeLogService.ChangedParticipants> changed = scheduleChangeLogService.findChangedSince(EVENT_ID, 4L, 6L);
+
+        // then
+        verify(scheduleChangeLogRepository).delete(EVENT_ID);
+        assertThat(changed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기록이 현재 버전까지 이어져 있으면 since 이후 변경된 참여자를 반환한다.")
+    void findChangedParticipantsWhenLogIsCurrent() {
+        // given
+        when(scheduleChangeLogRepository.findChangedSince(EVENT_ID, 4L))
+                .thenReturn(Optional.of(new ScheduleChangeLogRepository.ChangeLog(6L, Set.of("m:10", "u:3"))));
+
+        // when
+        Optional<ScheduleChangeLogService.ChangedParticipants> changed = scheduleChangeLogService.findChangedSince(EVENT_ID, 4L, 6L);
+
+        // then
+        assertThat(changed).isPresent();
+        assertThat(changed.get().memberIds()).containsExactly(10L);
+        assertThat(changed.get().userIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("변경된 참여자가 없는 버전도 기록하여 마지막 기록 버전을 올린다.")
+    void recordVersionWithoutParticipants() {
+        // when
+        scheduleChangeLogService.record(EVENT_ID, 7L, List.of(), List.of());
+
+        // then
+        verify(scheduleChangeLogRepository).record(eq(EVENT_ID), eq(7L), eq(List.of()), anyInt(), any(Duration.class));
+    }
+}
@@ -16,6 +16,7 @@ import side.onetime.auth.service.CustomUserDetailsService;
 import side.onetime.configuration.ControllerTestConfig;
 import side.onetime.controller.ScheduleController;
 import side.onetime.domain.User;
+import side.onetime.domain.enums.SubmissionStatus;
 import side.onetime.dto.event.response.GetParticipantsResponse;
 import side.onetime.dto.schedule.request.CreateDateScheduleRequest;
 import side.onetime.dto.schedule.request.CreateDayScheduleRequest;
@@ -24,8 +25,12 @@ import side.onetime.dto.schedule.response.DateSchedule;
 import side.onetime.dto.schedule.response.DaySchedule;
 import side.onetime.dto.schedule.response.PerDateSchedulesResponse;
 import side.onetime.dto.schedule.response.PerDaySchedulesResponse;
+import side.onetime.dto.schedule.response.ScheduleChangesResponse;
+import side.onetime.dto.schedule.response.ScheduleSubmissionResponse;
+import side.onetime.service.ScheduleIngestionService;
 import side.onetime.service.ScheduleService;
 import side.onetime.util.JwtUtil;
+import side.onetime.util.ScheduleBitsetWriter;
 
 import java.util.List;
 import java.util.UUID;
@@ -35,6 +40,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -43,6 +49,9 @@ public class ScheduleControllerTest extends ControllerTestConfig {
     @MockBean
     private ScheduleService scheduleService;
 
+    @MockBean
+    private ScheduleIngestionService scheduleIngestionService;
+
     @MockBean
     private JwtUtil jwtUtil;
 
@@ -58,7 +67,7 @@ public class ScheduleControllerTest extends ControllerTestConfig {
         List<DaySchedule> daySchedules = List.of(
                 new DaySchedule("월", List.of("09:00", "10:00"))
         );
-        CreateDayScheduleRequest request = new CreateDayScheduleRequest(eventId, memberId, daySchedules);
+        CreateDayScheduleRequest request = CreateDayScheduleRequest.of(eventId, memberId, daySchedules);
         String requestContent = new ObjectMapper().writeValueAsString(request);
 
         Mockito.doNothing().when(scheduleService).createDaySchedulesForAnonymousUser(any(CreateDayScheduleRequest.class));
@@ -111,7 +120,7 @@ public class ScheduleControllerTest extends ControllerTestConfig {
         List<DateSchedule> dateSchedules = List.of(
                 new DateSchedule("2024.12.01", List.of("09:00", "10:00"))
         );
-        CreateDateScheduleRequest request = new CreateDateScheduleRequest(eventId, memberId, dateSchedules);
+        CreateDateScheduleRequest request = CreateDateScheduleRequest.of(eventId, memberId, dateSchedules);
         String requestContent = new ObjectMapper().writeValueAsString(request);
 
         Mockito.doNothing().when(scheduleService).createDateSchedulesForAnonymousUser(any(CreateDateScheduleRequest.class));
@@ -155,6 +164,56 @@ public class ScheduleControllerTest extends ControllerTestConfig {
                 ));
     }
 
+    @Test
+    @DisplayName("스케줄 등록 요청 상태를 조회한다. (비동기 저장 모드)")
+    public void getScheduleSubmission() throws Exception {
+        // given
+        String submissionToken = UUID.randomUUID().toString();
+        ScheduleSubmissionResponse response = new ScheduleSubmissionResponse(
+                submissionToken, SubmissionStatus.FAILED, "MEMBER-001", "멤버를 찾을 수 없습니다.");
+
+        Mockito.when(scheduleIngestionService.getSubmission(anyString())).thenReturn(response);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                RestDocumentationRequestBuilders.get("/api/v1/schedules/submissions/{submission_token}", submissionToken)
+                        .accept(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.is_success").value(true))
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.message").value("스케줄 등록 요청 상태 조회에 성공했습니다."))
+                .andExpect(jsonPath("$.payload.submission_token").value(submissionToken))
+                .andExpect(jsonPath("$.payload.status").value("FAILED"))
+
+                // docs
+                .andDo(MockMvcRestDocumentationWrapper.document("schedule/get-schedule-submission",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        resource(
+                                ResourceSnippetParameters.builder()
+                                        .tag("Schedule API")
+                                        .description("스케줄 등록 요청 상태를 조회한다. (비동기 저장 모드)")
+                                        .pathParameters(
+                                                parameterWithName("submission_token").description("스케줄 등록 시 발급된 상태 조회 토큰")
+                                        )
+                                        .responseFields(
+                                                fieldWithPath("is_success").type(JsonFieldType.BOOLEAN).description("성공 여부"),
+                                                fieldWithPath("code").type(JsonFieldType.STRING).description("응답 코드"),
+                                                fieldWithPath("message").type(JsonFieldType.STRING).description("응답 메시지"),
+                                                fieldWithPath("payload.submission_token").type(JsonFieldType.STRING).description("상태 조회 토큰"),
+                                                fieldWithPath("payload.status").type(JsonFieldType.STRING).description("처리 상태 (PENDING, COMPLETED, FAILED)"),
+                                                fieldWithPath("payload.code").type(JsonFieldType.STRING).optional().description("실패 코드 (실패한 경우)"),
+                                                fieldWithPath("payload.message").type(JsonFieldType.STRING).optional().description("실패 메시지 (실패한 경우)")
+                                        )
+                                        .build()
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("이벤트에 대한 모든 요일 스케줄을 조회한다.")
     public void getAllDaySchedules() throws Exception {
@@ -202,6 +261,98 @@ public class ScheduleControllerTest extends ControllerTestConfig {
                 ));
     }
 
+    @Test
+    @DisplayName("since 버전 이후 변경된 요일 스케줄을 조회한다.")
+    public void getDayScheduleChanges() throws Exception {
+        // given
+        String eventId = UUID.randomUUID().toString();
+        List<DaySchedule> daySchedules = List.of(new DaySchedule("월", List.of("09:00", "10:00")));
+        ScheduleChangesResponse<PerDaySchedulesResponse> response = ScheduleChangesResponse.changed(
+                13L, List.of(PerDaySchedulesResponse.of("Test Member", daySchedules)));
+
+        Mockito.when(scheduleService.getDayScheduleChanges(anyString(), anyLong())).thenReturn(response);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                RestDocumentationRequestBuilders.get("/api/v1/schedules/day/{event_id}", eventId)
+                        .param("since", "12")
+                        .accept(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.is_success").value(true))
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.message").value("전체 요일 스케줄 조회에 성공했습니다."))
+                .andExpect(jsonPath("$.payload.version").value(13))
+                .andExpect(jsonPath("$.payload.is_full").value(false))
+                .andExpect(jsonPath("$.payload.schedules[0].name").value("Test Member"))
+
+                // docs
+                .andDo(MockMvcRestDocumentationWrapper.document("schedule/get-day-schedule-changes",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        resource(
+                                ResourceSnippetParameters.builder()
+                                        .tag("Schedule API")
+                                        .description("since 버전 이후 선택 정보가 바뀐 참여자의 요일 스케줄만 조회한다.")
+                                        .pathParameters(
+                                                parameterWithName("event_id").description("이벤트 ID [예시 : dd099816-2b09-4625-bf95-319672c25659]")
+                                        )
+                                        .queryParameters(
+                                                parameterWithName("since").description("마지막으로 받은 이벤트 버전 (처음 조회 시 0)")
+                                        )
+                                        .responseFields(
+                                                fieldWithPath("is_success").type(JsonFieldType.BOOLEAN).description("성공 여부"),
+                                                fieldWithPath("code").type(JsonFieldType.STRING).description("응답 코드"),
+                                                fieldWithPath("message").type(JsonFieldType.STRING).description("응답 메시지"),
+                                                fieldWithPath("payload.version").type(JsonFieldType.NUMBER).description("현재 이벤트 버전 (다음 요청의 since)"),
+                                                fieldWithPath("payload.is_full").type(JsonFieldType.BOOLEAN).description("전체 목록 여부 (true면 기존 목록 교체, false면 같은 이름의 참여자만 교체)"),
+                                                fieldWithPath("payload.schedules[].name").type(JsonFieldType.STRING).description("참여자 이름"),
+                                                fieldWithPath("payload.schedules[].schedules[].time_point").type(JsonFieldType.STRING).description("요일"),
+                                                fieldWithPath("payload.schedules[].schedules[].times[]").type(JsonFieldType.ARRAY).description("스케줄 시간 목록")
+                                        )
+                                        .build()
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("전체 요일 스케줄을 비트셋 형식으로 조회한다.")
+    public void getAllDaySchedulesBitset() throws Exception {
+        // given
+        String eventId = UUID.randomUUID().toString();
+        byte[] bitset = {'O', 'T', 'S', 'B', 1};
+
+        Mockito.when(scheduleService.getAllDaySchedulesBitset(anyString())).thenReturn(bitset);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                RestDocumentationRequestBuilders.get("/api/v1/schedules/day/{event_id}", eventId)
+                        .accept(ScheduleBitsetWriter.MEDIA_TYPE_VALUE)
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ScheduleBitsetWriter.MEDIA_TYPE_VALUE))
+                .andExpect(content().bytes(bitset))
+
+                // docs
+                .andDo(MockMvcRestDocumentationWrapper.document("schedule/get-all-day-schedules-bitset",
+                        resource(
+                                ResourceSnippetParameters.builder()
+                                        .tag("Schedule API")
+                                        .description("이벤트에 대한 모든 요일 스케줄을 참여자별 비트셋 형식으로 조회한다.")
+                                        .pathParameters(
+                                                parameterWithName("event_id").description("이벤트 ID [예시 : dd099816-2b09-4625-bf95-319672c25659]")
+                                        )
+                                        .build()
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("개인 요일 스케줄을 조회한다. (비로그인 유저)")
     public void getMemberDaySchedules() throws Exception {
@@ -0,0 +1,310 @@
+package side.onetime.schedule;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import side.onetime.domain.Event;
+import side.onetime.domain.Member;
+import side.onetime.domain.enums.Category;
+import side.onetime.global.cache.AvailabilitySnapshotCache;
+import side.onetime.repository.EventParticipationRepository;
+import side.onetime.repository.EventRepository;
+import side.onetime.repository.MemberRepository;
+import side.onetime.repository.SelectionBatchRepository;
+import side.onetime.repository.SelectionRepository;
+import side.onetime.service.AvailabilityStreamService;
+import side.onetime.service.ScheduleChangeLogService;
+import side.onetime.service.SelectionWriter;
+import side.onetime.util.ScheduleGrid;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SelectionWriterTest {
+
+    private static final Long EVENT_ID = 1L;
+    private static final UUID EVENT_UUID = UUID.randomUUID();
+
+    private EventRepository eventRepository;
+    private MemberRepository memberRepository;
+    private EventParticipationRepository eventParticipationRepository;
+    private SelectionRepository selectionRepository;
+    private SelectionBatchRepository selectionBatchRepository;
+    private AvailabilitySnapshotCache availabilitySnapshotCache;
+    private AvailabilityStreamService availabilityStreamService;
+    private ScheduleChangeLogService scheduleChangeLogService;
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<Long, AtomicLong> memberVersions = new ConcurrentHashMap<>();
+    private final AtomicLong eventVersion = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = Mockito.mock(EventRepository.class);
+        memberRepository = Mockito.mock(MemberRepository.class);
+        eventParticipationRepository = Mockito.mock(EventParticipationRepository.class);
+        selectionRepository = Mockito.mock(SelectionRepository.class);
+        selectionBatchRepository = Mockito.mock(SelectionBatchRepository.class);
+        availabilitySnapshotCache = Mockito.mock(AvailabilitySnapshotCache.class);
+        availabilityStreamService = Mockito.mock(AvailabilityStreamService.class);
+        scheduleChangeLogService = Mockito.mock(ScheduleChangeLogService.class);
+        transactionManager = Mockito.mock(PlatformTransactionManager.class);
+
+        // 조건부 UPDATE와 같이 동작하는 참여자/이벤트 선택 버전
+        when(memberRepository.findSelectionVersionById(anyLong()))
+                .thenAnswer(invocation -> Optional.of(memberVersion(invocation.getArgument(0)).get()));
+        when(memberRepository.increaseSelectionVersion(anyLong(), anyLong()))
+                .thenAnswer(invocation -> {
+                    long version = invocation.getArgument(1);
+                    return memberVersion(invocation.getArgument(0)).compareAndSet(version, version + 1) ? 1 : 0;
+                });
+        when(eventRepository.increaseSelectionVersion(anyLong()))
+                .thenAnswer(invocation -> {
+                    eventVersion.incrementAndGet();
+                    return 1;
+                });
+        when(scheduleChangeLogService.recordAtCurrentVersion(any(), anyLong(), anyCollection(), anyCollection()))
+                .thenAnswer(invocation -> eventVersion.get());
+        when(selectionRepository.findAllSelectedScheduleRowsByMemberId(anyLong())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("같은 이벤트에 서로 다른 참여자가 동시에 저장하면 둘 다 성공한다.")
+    void concurrentSavesByDifferentParticipantsSucceed() throws Exception {
+        // given
+        SelectionWriter selectionWriter = selectionWriter(false);
+        Event event = event();
+        CyclicBarrier bothRead = new CyclicBarrier(2);
+        when(selectionRepository.findAllSelectedScheduleRowsByMemberId(anyLong()))
+                .thenAnswer(invocation -> {
+                    // 두 저장이 모두 현재 선택 정보를 읽은 뒤에 쓰도록 맞춤
+                    bothRead.await(5, TimeUnit.SECONDS);
+                    return List.of();
+                });
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> selectionWriter.write(event, member(10L), cells()));
+            Future<?> second = executor.submit(() -> selectionWriter.write(event, member(20L), cells()));
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(memberVersion(10L).get()).isEqualTo(1);
+        assertThat(memberVersion(20L).get()).isEqualTo(1);
+        assertThat(eventVersion.get()).isEqualTo(2);
+        verify(selectionBatchRepository, times(2)).insertAllByScheduleIds(anyLong(), isNull(), any(long[].class));
+        verify(availabilitySnapshotCache, times(2)).replaceSelections(eq(EVENT_UUID), anyLong(), any(Member.class), anyList());
+    }
+
+    @Test
+    @DisplayName("같은 참여자가 동시에 저장하면 나중에 쓴 저장은 버전 충돌로 실패한다.")
+    void concurrentSavesBySameParticipantConflict() throws Exception {
+        // given
+        SelectionWriter selectionWriter = selectionWriter(false);
+        Event event = event();
+        CyclicBarrier bothRead = new CyclicBarrier(2);
+        when(selectionRepository.findAllSelectedScheduleRowsByMemberId(anyLong()))
+                .thenAnswer(invocation -> {
+                    bothRead.await(5, TimeUnit.SECONDS);
+                    return List.of();
+                });
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        int conflicts = 0;
+        try {
+            Future<?> first = executor.submit(() -> selectionWriter.write(event, member(10L), cells()));
+            Future<?> second = executor.submit(() -> selectionWriter.write(event, member(10L), cells()));
+            for (Future<?> future : List.of(first, second)) {
+                try {
+                    future.get(5, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(OptimisticLockingFailureException.class);
+                    conflicts++;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(conflicts).isEqualTo(1);
+        assertThat(memberVersion(10L).get()).isEqualTo(1);
+        assertThat(eventVersion.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기 지연 모드에서 같은 참여자의 연속 제출은 마지막 제출만 한 번 저장한다.")
+    void mergeWriteBehindSubmissions() {
+        // given
+        SelectionWriter selectionWriter = selectionWriter(true, Duration.ofSeconds(1));
+        Event event = event();
+
+        // when
+        selectionWriter.write(event, member(10L), cells());
+        selectionWriter.write(event, member(10L), List.of(new ScheduleGrid.Cell(200L, "화", "10:00", null)));
+        selectionWriter.flushAll();
+
+        // then
+        verify(selectionBatchRepository, times(1)).insertAllByScheduleIds(anyLong(), any(), any(long[].class));
+        verify(selectionBatchRepository).insertAllByScheduleIds(eq(10L), isNull(), eq(new long[]{200L}));
+        assertThat(memberVersion(10L).get()).isEqualTo(1);
+        assertThat(eventVersion.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기 지연 중인 선택 정보는 저장 예정 시각 전이라도 해당 참여자의 DB 조회 전에 저장한다.")
+    void flushPendingSelectionsBeforeRead() {
+        // given
+        SelectionWriter selectionWriter = selectionWriter(true, Duration.ofMinutes(1));
+        Event event = event();
+        Member member = member(10L);
+        selectionWriter.write(event, member, cells());
+
+        // when
+        selectionWriter.flushDue();
+        verify(selectionBatchRepository, never()).insertAllByScheduleIds(any(), any(), any(long[].class));
+        selectionWriter.flushMember(EVENT_UUID, member.getMemberId());
+
+        // then
+        verify(selectionBatchRepository, times(1)).insertAllByScheduleIds(eq(10L), isNull(), any(long[].class));
+        verify(availabilitySnapshotCache).replaceSelections(eq(EVENT_UUID), eq(1L), eq(member), anyList());
+    }
+
+    @Test
+    @DisplayName("이벤트의 저장 대기 선택 정보가 있는지는 이벤트 단위로 확인하며, 이벤트 저장 후에는 남지 않는다.")
+    void checkPendingSelectionsByEvent() {
+        // given
+        SelectionWriter selectionWriter = selectionWriter(true, Duration.ofMinutes(1));
+        selectionWriter.write(event(), member(10L), cells());
+
+        // when
+        boolean pendingBeforeFlush = selectionWriter.hasPending(EVENT_UUID);
+        boolean pendingOfOtherEvent = selectionWriter.hasPending(UUID.randomUUID());
+        selectionWriter.flushEvent(EVENT_UUID);
+
+        // then
+        assertThat(pendingBeforeFlush).isTrue();
+        assertThat(pendingOfOtherEvent).isFalse();
+        assertThat(selectionWriter.hasPending(EVENT_UUID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장 예정 시각이 지난 선택 정보는 주기 작업에서 저장한다.")
+    void flushDueSelections() {
+        // given
+        SelectionWriter selectionWriter = selectionWriter(true, Duration.ZERO);
+        selectionWriter.write(event(), member(10L), cells());
+
+        // when
+        selectionWriter.flushDue();
+
+        // then
+        verify(selectionBatchRepository, times(1)).insertAllByScheduleIds(eq(10L), isNull(), any(long[].class));
+    }
+
+    @Test
+    @DisplayName("지연 저장에 실패하면 스냅샷을 무효화하고 구독자에게 다시 조회하도록 알린다.")
+    void invalidateSnapshotWhenFlushFails() {
+        // given
+        SelectionWriter selectionWriter = selectionWriter(true, Duration.ofSeconds(1));
+        doThrow(new IllegalStateException("insert failed"))
+                .when(selectionBatchRepository).insertAllByScheduleIds(any(), any(), any(long[].class));
+        selectionWriter.write(event(), member(10L), cells());
+
+        // when
+        selectionWriter.flushAll();
+
+        // then
+        verify(availabilitySnapshotCache).invalidate(EVENT_UUID);
+        verify(availabilityStreamService).publishReset(EVENT_UUID);
+        verify(availabilitySnapshotCache, never()).replaceSelections(any(), anyLong(), any(Member.class), anyList());
+    }
+
+    @Test
+    @DisplayName("애플리케이션 종료 시 저장 예정 시각 전의 선택 정보도 모두 저장한다.")
+    void flushAllPendingSelectionsOnShutdown() {
+        // given
+        SelectionWriter selectionWriter = selectionWriter(true, Duration.ofMinutes(1));
+        Event event = event();
+        selectionWriter.write(event, member(10L), cells());
+        selectionWriter.write(event, member(20L), cells());
+
+        // when
+        selectionWriter.flushAll();
+        selectionWriter.flushAll();
+
+        // then
+        verify(selectionBatchRepository).insertAllByScheduleIds(eq(10L), isNull(), any(long[].class));
+        verify(selectionBatchRepository).insertAllByScheduleIds(eq(20L), isNull(), any(long[].class));
+        assertThat(eventVersion.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("고정 라우팅 설정 없이 쓰기 지연 모드를 사용하면 시작할 수 없다.")
+    void rejectWriteBehindWithoutStickyRouting() {
+        assertThatThrownBy(() -> new SelectionWriter(eventRepository, memberRepository, eventParticipationRepository,
+                selectionRepository, selectionBatchRepository, availabilitySnapshotCache, availabilityStreamService,
+                scheduleChangeLogService, transactionManager, true, Duration.ofSeconds(1), false))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private SelectionWriter selectionWriter(boolean writeBehindEnabled) {
+        return selectionWriter(writeBehindEnabled, Duration.ofSeconds(1));
+    }
+
+    private SelectionWriter selectionWriter(boolean writeBehindEnabled, Duration writeBehindWindow) {
+        return new SelectionWriter(eventRepository, memberRepository, eventParticipationRepository, selectionRepository,
+                selectionBatchRepository, availabilitySnapshotCache, availabilityStreamService, scheduleChangeLogService,
+                transactionManager, writeBehindEnabled, writeBehindWindow, true);
+    }
+
+    private AtomicLong memberVersion(Long memberId) {
+        return memberVersions.computeIfAbsent(memberId, id -> new AtomicLong());
+    }
+
+    private static Event event() {
+        Event event = Event.builder()
+                .eventId(EVENT_UUID)
+                .title("Sample Event")
+                .startTime("09:00")
+                .endTime("18:00")
+                .category(Category.DAY)
+                .build();
+        ReflectionTestUtils.setField(event, "id", EVENT_ID);
+        return event;
+    }
+
+    private static Member member(Long id) {
+        Member member = Member.builder()
+                .memberId(new UUID(0, id))
+                .name("member" + id)
+                .pin("1234")
+                .build();
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+
+    private static List<ScheduleGrid.Cell> cells() {
+        return List.of(new ScheduleGrid.Cell(100L, "월", "09:00", null), new ScheduleGrid.Cell(101L, "월", "09:30", null));
+    }
+}
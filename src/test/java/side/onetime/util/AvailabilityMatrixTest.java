@@ -0,0 +1,171 @@
+package side.onetime.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import side.onetime.domain.Member;
+import side.onetime.domain.Schedule;
+import side.onetime.domain.Selection;
+import side.onetime.domain.enums.Category;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvailabilityMatrixTest {
+
+    @Test
+    @DisplayName("슬롯별 가능/불가능 참여자와 인원 수를 계산한다. - 동명이인은 별도 참여자로 구분")
+    void calculatePossibleAndImpossibleParticipants() {
+        // given
+        AvailabilityMatrix matrix = new AvailabilityMatrix(Category.DATE);
+        int member = matrix.addMember(1L, "Kim");
+        int user = matrix.addUser(1L, "Kim");
+        int other = matrix.addUser(2L, "Lee");
+        int slot = matrix.addSlot(10L, "2025.05.21", "10:00");
+
+        // when
+        matrix.select(slot, member);
+        matrix.select(slot, other);
+
+        // then
+        assertThat(matrix.getParticipantCount()).isEqualTo(3);
+        assertThat(user).isNotEqualTo(member);
+        assertThat(matrix.getPossibleCount(slot)).isEqualTo(2);
+        assertThat(matrix.getPossibleNames(slot)).containsExactly("Kim", "Lee");
+        assertThat(matrix.getImpossibleNames(slot)).containsExactly("Kim");
+        assertThat(matrix.getPossibleParticipants(slot)).containsExactly(member, other);
+        assertThat(matrix.getParticipantNames()).containsExactly("Kim", "Kim", "Lee");
+    }
+
+    @Test
+    @DisplayName("같은 요일/날짜에서 30분 간격으로 이어지는 슬롯을 연속된 슬롯으로 판단한다.")
+    void checkConsecutiveSlots() {
+        // given
+        AvailabilityMatrix matrix = new AvailabilityMatrix(Category.DATE);
+        int first = matrix.addMember(1L, "User1");
+        int second = matrix.addMember(2L, "User2");
+        int ten = matrix.addSlot(1L, "2025.05.21", "10:00");
+        int tenThirty = matrix.addSlot(2L, "2025.05.21", "10:30");
+        int otherDate = matrix.addSlot(3L, "2025.05.22", "10:30");
+
+        matrix.select(ten, first);
+        matrix.select(ten, second);
+        matrix.select(tenThirty, first);
+
+        // then
+        assertThat(matrix.isConsecutive(ten, tenThirty)).isTrue();
+        assertThat(matrix.isConsecutive(ten, otherDate)).isFalse();
+        assertThat(matrix.getImpossibleNames(tenThirty)).isEqualTo(List.of("User2"));
+    }
+
+    @Test
+    @DisplayName("가능 참여자가 같은 연속 슬롯을 병합하고 상위 K개 범위를 반환한다.")
+    void getTopRangesMergesEqualAvailabilitySlots() {
+        // given
+        AvailabilityMatrix matrix = new AvailabilityMatrix(Category.DATE);
+        int first = matrix.addMember(1L, "User1");
+        int second = matrix.addMember(2L, "User2");
+        int ten = matrix.addSlot(1L, "2025.05.21", "10:00");
+        int tenThirty = matrix.addSlot(2L, "2025.05.21", "10:30");
+        int eleven = matrix.addSlot(3L, "2025.05.21", "11:00");
+        int nextDay = matrix.addSlot(4L, "2025.05.22", "09:00");
+        int empty = matrix.addSlot(5L, "2025.05.22", "09:30");
+
+        matrix.select(ten, first);
+        matrix.select(ten, second);
+        matrix.select(tenThirty, first);
+        matrix.select(tenThirty, second);
+        matrix.select(eleven, first);
+        matrix.select(nextDay, second);
+
+        // when
+        List<AvailabilityMatrix.SlotRange> all = matrix.getTopRanges(10);
+        List<AvailabilityMatrix.SlotRange> top2 = matrix.getTopRanges(2);
+
+        // then
+        assertThat(all).hasSize(3);
+        assertThat(all.get(0)).isEqualTo(new AvailabilityMatrix.SlotRange(ten, tenThirty, 2, 0));
+        assertThat(all.get(1).startSlot()).isEqualTo(eleven);
+        assertThat(all.get(2).startSlot()).isEqualTo(nextDay);
+        assertThat(all).noneMatch(range -> range.startSlot() == empty);
+        assertThat(top2).containsExactlyElementsOf(all.subList(0, 2));
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 슬롯은 범위에서 제외하며, 그 앞의 범위는 닫아서 반환한다.")
+    void getTopRangesClosesRangeBeforeInvalidSlot() {
+        // given
+        AvailabilityMatrix matrix = new AvailabilityMatrix(Category.DATE);
+        int first = matrix.addMember(1L, "User1");
+        int ten = matrix.addSlot(1L, "2025.05.21", "10:00");
+        int tenThirty = matrix.addSlot(2L, "2025.05.21", "10:30");
+        int invalid = matrix.addSlot(3L, "2025.05.21", "invalid");
+
+        matrix.select(ten, first);
+        matrix.select(tenThirty, first);
+        matrix.select(invalid, first);
+
+        // when
+        List<AvailabilityMatrix.SlotRange> ranges = matrix.getTopRanges(10);
+
+        // then
+        assertThat(ranges).containsExactly(new AvailabilityMatrix.SlotRange(ten, tenThirty, 1, 0));
+    }
+
+    @Test
+    @DisplayName("요청된 멤버/유저 마스크로 슬롯 비트셋을 필터링한다. - 원본 매트릭스는 변경되지 않음")
+    void filterParticipants() {
+        // given
+        AvailabilityMatrix matrix = new AvailabilityMatrix(Category.DATE);
+        int member = matrix.addMember(1L, "Member1");
+        int user = matrix.addUser(1L, "User1");
+        int other = matrix.addUser(2L, "User2");
+        int ten = matrix.addSlot(1L, "2025.05.21", "10:00");
+        int tenThirty = matrix.addSlot(2L, "2025.05.21", "10:30");
+
+        matrix.select(ten, member);
+        matrix.select(ten, user);
+        matrix.select(tenThirty, user);
+        matrix.select(tenThirty, other);
+
+        // when
+        AvailabilityMatrix filtered = matrix.filter(List.of(1L), List.of(2L, 99L));
+
+        // then
+        assertThat(filtered.getRosterCount()).isEqualTo(2);
+        assertThat(filtered.getPossibleNames(ten)).containsExactly("Member1");
+        assertThat(filtered.getImpossibleNames(ten)).containsExactly("User2");
+        assertThat(filtered.getPossibleNames(tenThirty)).containsExactly("User2");
+        assertThat(matrix.getPossibleNames(ten)).containsExactly("Member1", "User1");
+        assertThat(matrix.findUserParticipants(List.of(2L, 1L, 1L))).containsExactly(user, other);
+        assertThat(matrix.getSelectedSlots(user)).containsExactly(ten, tenThirty);
+    }
+
+    @Test
+    @DisplayName("전체 참여자 목록의 이름과 위치는 등록되지 않은 참여자의 선택을 제외하고 계산한다.")
+    void calculateRosterNamesAndPositions() {
+        // given
+        AvailabilityMatrix matrix = new AvailabilityMatrix(Category.DATE);
+        Schedule schedule = Schedule.builder().date("2025.05.21").time("10:00").build();
+        ReflectionTestUtils.setField(schedule, "id", 10L);
+        Member unregistered = Member.builder().name("Park").pin("1234").build();
+        ReflectionTestUtils.setField(unregistered, "id", 99L);
+
+        matrix.addSelection(Selection.builder().member(unregistered).schedule(schedule).build());
+        int member = matrix.addMember(1L, "Kim");
+        int user = matrix.addUser(1L, "Lee");
+        int slot = matrix.addSlot(schedule);
+
+        // when
+        matrix.select(slot, user);
+
+        // then
+        assertThat(matrix.getParticipantNames()).containsExactly("Park", "Kim", "Lee");
+        assertThat(matrix.getRosterNames()).containsExactly("Kim", "Lee");
+        assertThat(matrix.getRosterCount()).isEqualTo(2);
+        assertThat(matrix.getPossibleParticipants(slot)).containsExactly(0, user);
+        assertThat(matrix.getPossibleRosterPositions(slot)).containsExactly(1);
+        assertThat(member).isEqualTo(1);
+    }
+}
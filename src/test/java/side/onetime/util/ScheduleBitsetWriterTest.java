@@ -0,0 +1,80 @@
+package side.onetime.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import side.onetime.domain.Schedule;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleBitsetWriterTest {
+
+    @Test
+    @DisplayName("헤더에 요일/날짜와 시간 목록을 한 번만 쓰고, 참여자마다 이름과 고정 길이 비트셋을 쓴다.")
+    void writeHeaderAndParticipants() throws IOException {
+        // given
+        ScheduleGrid grid = ScheduleGrid.of(List.of(
+                Schedule.builder().day("월").time("09:00").build(),
+                Schedule.builder().day("월").time("09:30").build(),
+                Schedule.builder().day("화").time("09:00").build(),
+                Schedule.builder().day("화").time("09:30").build(),
+                Schedule.builder().day("화").time("10:00").build()));
+        ScheduleBitsetWriter writer = new ScheduleBitsetWriter(grid, 2);
+
+        // when
+        BitSet first = new BitSet();
+        first.set(writer.slotIndex("월", "09:00"));
+        first.set(writer.slotIndex("화", "10:00"));
+        writer.writeParticipant("멤버", first);
+        writer.writeParticipant("유저", new BitSet());
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(writer.toByteArray()));
+
+        // then
+        assertThat(in.readNBytes(4)).isEqualTo(new byte[]{'O', 'T', 'S', 'B'});
+        assertThat(in.readUnsignedByte()).isEqualTo(1);
+        assertThat(readStrings(in)).containsExactly("월", "화");
+        assertThat(readStrings(in)).containsExactly("09:00", "09:30", "10:00");
+        assertThat(in.readInt()).isEqualTo(2);
+        assertThat(readString(in)).isEqualTo("멤버");
+        assertThat(in.readNBytes(1)).isEqualTo(new byte[]{0b0010_0001});
+        assertThat(readString(in)).isEqualTo("유저");
+        assertThat(in.readNBytes(1)).isEqualTo(new byte[]{0});
+        assertThat(in.available()).isZero();
+    }
+
+    @Test
+    @DisplayName("그리드에 없는 요일/날짜나 시간의 색인은 -1이다.")
+    void slotIndexOutsideGrid() {
+        // given
+        ScheduleGrid grid = ScheduleGrid.of(List.of(
+                Schedule.builder().date("2025.05.21").time("09:00").build(),
+                Schedule.builder().date("2025.05.22").time("09:00").build()));
+        ScheduleBitsetWriter writer = new ScheduleBitsetWriter(grid, 0);
+
+        // then
+        assertThat(writer.slotIndex("2025.05.22", "09:00")).isEqualTo(1);
+        assertThat(writer.slotIndex("2025.05.23", "09:00")).isEqualTo(-1);
+        assertThat(writer.slotIndex("2025.05.21", "10:00")).isEqualTo(-1);
+        assertThat(writer.slotIndex(null, "09:00")).isEqualTo(-1);
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int size = in.readUnsignedShort();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(in.readNBytes(in.readUnsignedShort()), StandardCharsets.UTF_8);
+    }
+}
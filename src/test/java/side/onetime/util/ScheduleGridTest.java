@@ -0,0 +1,48 @@
+package side.onetime.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import side.onetime.domain.Schedule;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleGridTest {
+
+    @Test
+    @DisplayName("요청된 요일/날짜와 시간의 셀을 찾는다. - 이벤트에 없는 셀과 중복된 시간은 무시")
+    void resolveRequestedCells() {
+        // given
+        ScheduleGrid grid = ScheduleGrid.of(List.of(
+                Schedule.builder().day("화").time("10:00").build(),
+                Schedule.builder().day("월").time("10:30").build(),
+                Schedule.builder().day("월").time("10:00").build()));
+
+        // when
+        List<ScheduleGrid.Cell> monday = grid.resolve("월", List.of("10:30", "10:00", "10:30", "23:00"));
+        List<ScheduleGrid.Cell> wednesday = grid.resolve("수", List.of("10:00"));
+
+        // then
+        assertThat(grid.size()).isEqualTo(3);
+        assertThat(monday).extracting(ScheduleGrid.Cell::time).containsExactly("10:30", "10:00");
+        assertThat(grid.resolve("화", List.of("10:00"))).extracting(ScheduleGrid.Cell::timePoint).containsExactly("화");
+        assertThat(wednesday).isEmpty();
+    }
+
+    @Test
+    @DisplayName("셀과 요일/날짜 목록은 슬롯 키 순서로 정렬된다.")
+    void sortCellsBySlotKey() {
+        // given
+        ScheduleGrid grid = ScheduleGrid.of(List.of(
+                Schedule.builder().date("2025.05.22").time("09:00").build(),
+                Schedule.builder().date("2025.05.21").time("10:00").build(),
+                Schedule.builder().date("2025.05.21").time("09:00").build()));
+
+        // then
+        assertThat(grid.getCells()).extracting(ScheduleGrid.Cell::time).containsExactly("09:00", "10:00", "09:00");
+        assertThat(grid.getTimePoints()).containsExactly("2025.05.21", "2025.05.22");
+        assertThat(grid.resolve("2025.05.22", List.of("09:00"))).hasSize(1);
+        assertThat(grid.resolve("2025.05.23", List.of("09:00"))).isEmpty();
+    }
+}
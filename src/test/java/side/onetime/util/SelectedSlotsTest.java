@@ -0,0 +1,62 @@
+package side.onetime.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import side.onetime.dto.schedule.request.CreateDateScheduleRequest;
+import side.onetime.dto.schedule.response.DateSchedule;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SelectedSlotsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("스케줄 목록을 선택 슬롯으로 읽는다. - 필드 순서와 무관, 중복 시간은 한 번만, 형식이 다른 시간은 무시")
+    void deserializeSchedules() throws Exception {
+        // given
+        String body = """
+                {
+                  "event_id": "123e4567-e89b-12d3-a456-426614174000",
+                  "schedules": [
+                    {"times": ["10:00", "09:30", "10:00", "9:00", "10:15"], "time_point": "2025.05.21"},
+                    {"time_point": "2025.05.22", "times": ["23:30"], "extra": {"ignored": [1, 2]}},
+                    {"time_point": "2025.05.21", "times": ["00:00"]}
+                  ]
+                }
+                """;
+
+        // when
+        CreateDateScheduleRequest request = objectMapper.readValue(body, CreateDateScheduleRequest.class);
+
+        // then
+        SelectedSlots schedules = request.schedules();
+        assertThat(request.eventId()).isEqualTo("123e4567-e89b-12d3-a456-426614174000");
+        assertThat(schedules.getTimePoints()).containsExactly("2025.05.21", "2025.05.22");
+        assertThat(schedules.getTimes(0)).containsExactly("00:00", "09:30", "10:00");
+        assertThat(schedules.getTimes(1)).containsExactly("23:30");
+        assertThat(schedules.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("선택 슬롯을 스케줄 등록 요청 형식으로 쓰고 다시 읽으면 같은 선택 슬롯이 된다.")
+    void serializeSchedules() throws Exception {
+        // given
+        CreateDateScheduleRequest request = CreateDateScheduleRequest.of("event", "member", List.of(
+                new DateSchedule("2025.05.21", List.of("10:00", "09:00")),
+                new DateSchedule("2025.05.22", List.of())
+        ));
+
+        // when
+        String json = objectMapper.writeValueAsString(request);
+        CreateDateScheduleRequest result = objectMapper.readValue(json, CreateDateScheduleRequest.class);
+
+        // then
+        assertThat(json).contains("\"schedules\":[{\"time_point\":\"2025.05.21\",\"times\":[\"09:00\",\"10:00\"]},"
+                + "{\"time_point\":\"2025.05.22\",\"times\":[]}]");
+        assertThat(result).isEqualTo(request);
+    }
+}
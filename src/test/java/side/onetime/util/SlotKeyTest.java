@@ -0,0 +1,56 @@
+package side.onetime.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import side.onetime.domain.enums.Category;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotKeyTest {
+
+    @Test
+    @DisplayName("날짜/요일과 시간을 정수 슬롯 키로 인코딩하고 복원한다.")
+    void encodeAndDecode() {
+        // given
+        SlotKey dateKey = SlotKey.of(Category.DATE, "2025.05.21", "10:30");
+        SlotKey dayKey = SlotKey.of(Category.DAY, "월", "09:00");
+
+        // then
+        assertThat(dateKey).isEqualTo(new SlotKey(20229, 630));
+        assertThat(SlotKey.decode(dateKey.encode())).isEqualTo(dateKey);
+        assertThat(SlotKey.encode(null, "월", "09:00")).isEqualTo(dayKey.encode());
+        assertThat(SlotKey.encode("2025.05.21", null, "10:30")).isEqualTo(dateKey.encode());
+        assertThat(SlotKey.of(Category.DAY, "MONDAY", "09:00")).isNull();
+        assertThat(SlotKey.of(Category.DATE, "2025-05-21", "09:00")).isNull();
+    }
+
+    @Test
+    @DisplayName("정수 비교로 정렬하고, 같은 날짜/요일에서 30분 간격인 경우만 연속으로 판단한다.")
+    void compareAndCheckConsecutive() {
+        // given
+        SlotKey lastOfDay = SlotKey.of(Category.DATE, "2025.05.21", "23:30");
+        SlotKey firstOfNextDay = SlotKey.of(Category.DATE, "2025.05.22", "00:00");
+        SlotKey sunday = SlotKey.of(Category.DAY, "일", "10:00");
+        SlotKey sundayNext = SlotKey.of(Category.DAY, "일", "10:30");
+        SlotKey saturday = SlotKey.of(Category.DAY, "토", "09:00");
+
+        // then
+        assertThat(lastOfDay).isLessThan(firstOfNextDay);
+        assertThat(lastOfDay.isFollowedBy(firstOfNextDay)).isFalse();
+        assertThat(sunday).isLessThan(saturday);
+        assertThat(sunday.isFollowedBy(sundayNext)).isTrue();
+    }
+
+    @Test
+    @DisplayName("HH:mm 형식의 시간만 분 단위 시각으로 변환하고, 나머지는 슬롯 키를 만들지 않는다.")
+    void parseMinuteOfDay() {
+        assertThat(SlotKey.parseMinuteOfDay("00:00")).isZero();
+        assertThat(SlotKey.parseMinuteOfDay("23:30")).isEqualTo(1410);
+        assertThat(SlotKey.parseMinuteOfDay("24:00")).isEqualTo(-1);
+        assertThat(SlotKey.parseMinuteOfDay("9:00")).isEqualTo(-1);
+        assertThat(SlotKey.parseMinuteOfDay("09:00:00")).isEqualTo(-1);
+        assertThat(SlotKey.parseMinuteOfDay("ab:cd")).isEqualTo(-1);
+        assertThat(SlotKey.parseMinuteOfDay(null)).isEqualTo(-1);
+        assertThat(SlotKey.of(Category.DAY, "월", "09:00:00")).isNull();
+    }
+}